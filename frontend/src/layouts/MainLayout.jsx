@@ -13,6 +13,7 @@ import {
 } from "lucide-react";
 import { getToken } from "@/utils/auth";
 import api from "@/services/api";
+import { publishTicketNotification, subscribeNotifications } from "@/services/notifications";
 import { showSuspensionCountdown } from "@/utils/suspensionHandler";
 
 // Admin menu
@@ -58,28 +59,27 @@ export default function MainLayout() {
     }
   }, [navigate]);
 
-  // ========== PERIODIC ACCOUNT STATUS CHECK ==========
+  // ========== ACCOUNT STATUS & TICKET NOTIFICATIONS (SERVER PUSH) ==========
   useEffect(() => {
     // Only run if user is authenticated
     if (!user) return;
 
-    const checkAccountStatus = async () => {
-      try {
-        await api.get('/users/me/status');
-        // If we reach here, account is still active
-      } catch (err) {
-        // Error will be caught by API interceptor
-        // which will show countdown toast
-        console.log('Account status check failed:', err);
-      }
-    };
+    // Check once on mount
+    api.get('/users/me/status').catch((err) => {
+      // Error will be caught by API interceptor
+      // which will show countdown toast
+      console.log('Account status check failed:', err);
+    });
 
-    // Check immediately on mount
-    checkAccountStatus();
-    // Then check every 10 seconds
-    const interval = setInterval(checkAccountStatus, 10000);
+    // Then wait for pushed events instead of polling every 10 seconds
+    // Ticket updates are passed on to the ticket pages (onTicketNotification)
+    const unsubscribe = subscribeNotifications({
+      'account-status': ({ reason }) => showSuspensionCountdown(reason),
+      'ticket-status': publishTicketNotification,
+      'ticket-comment': publishTicketNotification,
+    });
 
-    return () => clearInterval(interval);
+    return unsubscribe;
   }, [user]);
 
   // Dynamic page title
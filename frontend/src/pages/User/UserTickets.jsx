@@ -1,6 +1,7 @@
 import { useEffect, useState } from "react";
 import { useNavigate } from "react-router-dom";
 import api from "@/services/api";
+import { onTicketNotification } from "@/services/notifications";
 import { Card, CardContent } from "@/components/ui/card";
 import { Badge } from "@/components/ui/badge";
 import { Button } from "@/components/ui/button";
@@ -62,9 +63,10 @@ export default function UserTickets() {
   const currentPriorityStyle = priorityStyles[priorityFilter] || priorityStyles.ALL;
   const PriorityIcon = currentPriorityStyle.icon;
 
-  const loadTickets = async () => {
+  // silent: refresh in place (pushed updates), without the loading screen
+  const loadTickets = async (silent = false) => {
     try {
-      setLoading(true);
+      if (!silent) setLoading(true);
       const response = await api.get("/tickets/my");
       setTickets(response.data || []);
     } catch (err) {
@@ -78,6 +80,9 @@ export default function UserTickets() {
     loadTickets();
   }, []);
 
+  // Status changes and comments pushed by the server on my tickets
+  useEffect(() => onTicketNotification(() => loadTickets(true)), []);
+
   // --- LOGIQUE DE FILTRAGE ---
   const filteredTickets = tickets.filter(ticket => {
     const searchLower = searchTerm.toLowerCase();
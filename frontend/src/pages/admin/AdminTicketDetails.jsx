@@ -1,6 +1,7 @@
 import { useState, useEffect } from "react";
 import { useParams, useNavigate } from "react-router-dom";
 import api from "../../services/api";
+import { onTicketNotification } from "../../services/notifications";
 import { jwtDecode } from "jwt-decode";
 import { toast } from "sonner";
 import { 
@@ -65,6 +66,9 @@ export default function AdminTicketDetails() {
 
   useEffect(() => { fetchTicket(); }, [id]);
 
+  // Status changes and comments pushed by the server: reload this ticket
+  useEffect(() => onTicketNotification(() => fetchTicket(), id), [id]);
+
   const handleAddComment = async () => {
     if (!newComment.trim()) return;
     try {
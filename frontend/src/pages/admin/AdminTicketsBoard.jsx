@@ -1,6 +1,7 @@
 import { useState, useEffect } from "react";
 import { Link } from "react-router-dom";
 import api from "../../services/api";
+import { onTicketNotification } from "../../services/notifications";
 import { jwtDecode } from "jwt-decode";
 import { 
   Search, 
@@ -85,6 +86,9 @@ export default function AdminTicketsBoard() {
 
   useEffect(() => { fetchTickets(); }, []);
 
+  // Tickets created or updated elsewhere: reload the board
+  useEffect(() => onTicketNotification(() => fetchTickets()), []);
+
   // --- LOGIQUE DE FILTRAGE ---
   const filteredTickets = tickets.filter(ticket => {
     const searchLower = searchTerm.toLowerCase();
@@ -0,0 +1,147 @@
+import api from './api';
+import { getToken, isTokenExpired } from '../utils/auth';
+
+// Same base URL as the axios instance (env-config.js injected by Docker)
+const API_URL = window.ENV?.API_URL || 'http://localhost:8080/api';
+
+// Fallback polling only while the stream cannot be opened
+const FALLBACK_POLL_MS = 60000;
+const MIN_RETRY_DELAY_MS = 1000;
+const MAX_RETRY_DELAY_MS = 30000;
+
+/**
+ * Subscribe to the server push channel (GET /api/notifications/stream, Server-Sent Events)
+ * - fetch() instead of EventSource: the JWT must be sent in the Authorization header
+ * - Reconnects with backoff when the stream ends (server timeout) or fails
+ * - Falls back to a slow status poll while the stream is unavailable
+ *
+ * @param {Object} handlers - { 'account-status': fn, 'ticket-status': fn, 'ticket-comment': fn }
+ * @returns {Function} unsubscribe
+ */
+export const subscribeNotifications = (handlers) => {
+  let stopped = false;
+  let controller = null;
+  let retryTimer = null;
+  let pollTimer = null;
+  let retryDelay = MIN_RETRY_DELAY_MS;
+
+  const dispatch = (name, data) => {
+    if (!stopped && handlers[name]) handlers[name](data);
+  };
+
+  const checkStatus = () => api.get('/users/me/status').catch(() => {});
+
+  const startPolling = () => {
+    if (!pollTimer) pollTimer = setInterval(checkStatus, FALLBACK_POLL_MS);
+  };
+
+  const stopPolling = () => {
+    clearInterval(pollTimer);
+    pollTimer = null;
+  };
+
+  const connect = async () => {
+    if (stopped) return;
+
+    try {
+      // Let the axios interceptor refresh an expired access token first
+      if (isTokenExpired()) await checkStatus();
+
+      controller = new AbortController();
+      const response = await fetch(`${API_URL}/notifications/stream`, {
+        headers: {
+          Authorization: `Bearer ${getToken()}`,
+          Accept: 'text/event-stream',
+        },
+        signal: controller.signal,
+      });
+
+      if (response.status === 403) {
+        // Account blocked: the API interceptor shows the countdown and logs out
+        await checkStatus();
+        return;
+      }
+      if (!response.ok || !response.body) {
+        throw new Error(`Notification stream failed: ${response.status}`);
+      }
+
+      stopPolling();
+      retryDelay = MIN_RETRY_DELAY_MS;
+      await readEvents(response.body, dispatch);
+    } catch (err) {
+      if (stopped || err.name === 'AbortError') return;
+      startPolling();
+      retryDelay = Math.min(retryDelay * 2, MAX_RETRY_DELAY_MS);
+    }
+
+    if (!stopped) retryTimer = setTimeout(connect, retryDelay);
+  };
+
+  connect();
+
+  return () => {
+    stopped = true;
+    controller?.abort();
+    clearTimeout(retryTimer);
+    stopPolling();
+  };
+};
+
+/**
+ * Parse a text/event-stream body and dispatch each named event (JSON data when possible)
+ */
+const readEvents = async (body, dispatch) => {
+  const reader = body.pipeThrough(new TextDecoderStream()).getReader();
+  let buffer = '';
+
+  for (;;) {
+    const { value, done } = await reader.read();
+    if (done) return;
+    buffer += value.replace(/\r\n/g, '\n');
+
+    let separator;
+    while ((separator = buffer.indexOf('\n\n')) >= 0) {
+      const block = buffer.slice(0, separator);
+      buffer = buffer.slice(separator + 2);
+
+      let event = 'message';
+      const data = [];
+      for (const line of block.split('\n')) {
+        if (line.startsWith('event:')) event = line.slice(6).trim();
+        else if (line.startsWith('data:')) data.push(line.slice(5).replace(/^ /, ''));
+        // Lines starting with ':' are keepalive comments
+      }
+      if (data.length === 0) continue;
+
+      const raw = data.join('\n');
+      let parsed = raw;
+      try {
+        parsed = JSON.parse(raw);
+      } catch {
+        // Plain text payload
+      }
+      dispatch(event, parsed);
+    }
+  }
+};
+
+// Ticket updates re-broadcast to the pages (MainLayout owns the stream)
+export const TICKET_NOTIFICATION_EVENT = 'ticket-notification';
+
+export const publishTicketNotification = (data) =>
+  window.dispatchEvent(new CustomEvent(TICKET_NOTIFICATION_EVENT, { detail: data }));
+
+/**
+ * Listen to pushed ticket updates (ticket-status, ticket-comment) while a page is mounted
+ *
+ * @param {Function} listener - called with the notification ({ ticketId, status, ... })
+ * @param {string} [ticketId] - only updates of this ticket
+ * @returns {Function} unsubscribe
+ */
+export const onTicketNotification = (listener, ticketId) => {
+  const handle = ({ detail }) => {
+    if (!ticketId || detail?.ticketId === ticketId) listener(detail);
+  };
+  window.addEventListener(TICKET_NOTIFICATION_EVENT, handle);
+  return () => window.removeEventListener(TICKET_NOTIFICATION_EVENT, handle);
+};
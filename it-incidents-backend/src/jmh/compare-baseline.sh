@@ -0,0 +1,40 @@
+#!/usr/bin/env bash
+# Compare a JMH run (target/jmh-result.json) with the committed baseline (src/jmh/baseline.json)
+# and fail when a benchmark got slower than THRESHOLD percent (average-time scores: lower is better).
+#
+# Requirements: jq
+# Usage (from it-incidents-backend):
+#   mvn -Pbenchmark test-compile exec:exec
+#   THRESHOLD=20 ./src/jmh/compare-baseline.sh [result.json] [baseline.json]
+set -euo pipefail
+
+cd "$(dirname "$0")/../.."
+
+RESULT="${1:-target/jmh-result.json}"
+BASELINE="${2:-src/jmh/baseline.json}"
+THRESHOLD="${THRESHOLD:-20}"
+ROWS="$(mktemp)"
+trap 'rm -f "$ROWS"' EXIT
+
+jq -r -n --slurpfile result "$RESULT" --slurpfile baseline "$BASELINE" --argjson threshold "$THRESHOLD" '
+  ($baseline[0] | map({ key: .benchmark, value: .primaryMetric }) | from_entries) as $base
+  | $result[0][]
+  | .benchmark as $name
+  | .primaryMetric as $now
+  | $base[$name] as $before
+  | if $before == null then [$name, "-", ($now.score | tostring), $now.scoreUnit, "new"]
+    else (($now.score - $before.score) / $before.score * 100) as $delta
+      | [$name, ($before.score | tostring), ($now.score | tostring), $now.scoreUnit,
+         ((($delta * 10 | round) / 10 | tostring) + "%" + (if $delta > $threshold then " REGRESSION" else "" end))]
+    end
+  | @tsv' > "$ROWS"
+
+printf "%-56s %14s %14s %8s  %s\n" "benchmark" "baseline" "current" "unit" "change"
+awk -F'\t' '{ sub(/^com\.it_incidents_backend\.benchmark\./, "", $1);
+              before = ($2 == "-") ? "-" : sprintf("%.3f", $2);
+              printf "%-56s %14s %14.3f %8s  %s\n", $1, before, $3, $4, $5 }' "$ROWS"
+
+if grep -q REGRESSION "$ROWS"; then
+  echo "Slower than the baseline by more than ${THRESHOLD}%" >&2
+  exit 1
+fi
@@ -0,0 +1,82 @@
+package com.it_incidents_backend.benchmark;
+
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
+import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.entities.Ticket;
+import com.it_incidents_backend.entities.TicketComment;
+import com.it_incidents_backend.entities.TicketStatus;
+import com.it_incidents_backend.entities.User;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Entities shaped like the ones the hot paths handle (ticket detail with its creator and a few comments)
+ */
+final class BenchmarkFixtures {
+
+    static final String JWT_SECRET = "C^aQoGhJwA!K&472W%$7HYu13ogl^ymv3#q2SmA7iJ961DdQ7s";
+    static final int COMMENTS_PER_TICKET = 5;
+
+    private BenchmarkFixtures() {
+    }
+
+    static User user(String username, Role role) {
+        LocalDateTime now = LocalDateTime.now();
+        return User.builder()
+                .id(UUID.randomUUID())
+                .username(username)
+                .email(username + "@univ.fr")
+                .password("$2a$10$abcdefghijklmnopqrstuuJ9W0ZgY8S2Y5kXo8q1Zy6m0qjK3aG6")
+                .firstName("Jean")
+                .lastName("Dupont")
+                .phoneNumber("+33 6 12 34 56 78")
+                .role(role)
+                .enabled(true)
+                .isApproved(true)
+                .accountNonLocked(true)
+                .deleted(false)
+                .failedLoginAttempts(0)
+                .createdAt(now.minusDays(200))
+                .updatedAt(now.minusDays(3))
+                .passwordChangedAt(now.minusDays(20))
+                .lastLogin(now.minusHours(2))
+                .build();
+    }
+
+    static Ticket ticket(int number, User author, User admin) {
+        LocalDateTime createdAt = LocalDateTime.now().minusDays(3);
+        Ticket ticket = Ticket.builder()
+                .id(UUID.randomUUID())
+                .ticketNumber(String.format("INC-2026-%04d", number))
+                .title("Connexion WiFi instable Bâtiment B")
+                .description("Le WiFi se déconnecte toutes les 10 minutes dans les salles B201-B205. "
+                        + "Cela perturbe les cours en ligne et les examens.")
+                .status(TicketStatus.IN_PROGRESS)
+                .priority(Priority.HIGH)
+                .category(Category.NETWORK)
+                .createdBy(author)
+                .createdAt(createdAt)
+                .updatedAt(createdAt.plusDays(1))
+                .lastUpdatedBy(admin.getUsername())
+                .build();
+
+        Set<TicketComment> comments = new LinkedHashSet<>();
+        for (int i = 0; i < COMMENTS_PER_TICKET; i++) {
+            comments.add(TicketComment.builder()
+                    .id(UUID.randomUUID())
+                    .ticket(ticket)
+                    .author(i % 2 == 0 ? admin : author)
+                    .content("Commentaire " + i + " : investigation en cours sur la borne du couloir.")
+                    .isInternal(i == 3)
+                    .createdAt(createdAt.plusHours(i + 1))
+                    .edited(false)
+                    .build());
+        }
+        ticket.setComments(comments);
+        return ticket;
+    }
+}
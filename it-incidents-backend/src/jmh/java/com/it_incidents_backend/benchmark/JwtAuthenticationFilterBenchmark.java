@@ -0,0 +1,94 @@
+package com.it_incidents_backend.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.it_incidents_backend.configuration.JwtAuthenticationFilter;
+import com.it_incidents_backend.configuration.JwtUtil;
+import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.entities.User;
+import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.security.AccountStatusCache;
+import jakarta.servlet.FilterChain;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the JWT filter for one authenticated API request, repository stubbed (no database).
+ * - cachedAccountStatus: usual case, account status served from AccountStatusCache
+ * - loadedAccountStatus: status evicted before each call, so loaded through the repository (a cache miss)
+ * Logging set to WARN: the per-request INFO lines would otherwise measure the console appender
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> { };
+
+    private JwtAuthenticationFilter filter;
+    private AccountStatusCache accountStatusCache;
+    private User user;
+    private MockHttpServletRequest request;
+    private MockHttpServletResponse response;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+
+        JwtUtil jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", BenchmarkFixtures.JWT_SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3600000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 86400000L);
+
+        user = BenchmarkFixtures.user("jean", Role.USER);
+        accountStatusCache = new AccountStatusCache(30, 10000);
+
+        filter = new JwtAuthenticationFilter();
+        ReflectionTestUtils.setField(filter, "jwtUtil", jwtUtil);
+        ReflectionTestUtils.setField(filter, "userRepository", stubRepository(user));
+        ReflectionTestUtils.setField(filter, "accountStatusCache", accountStatusCache);
+
+        request = new MockHttpServletRequest("GET", "/api/tickets/my-tickets");
+        request.setServletPath("/api/tickets/my-tickets");
+        request.addHeader("Authorization", "Bearer " + jwtUtil.generateToken(user.getUsername(), user.getId(), user.getRole()));
+        response = new MockHttpServletResponse();
+    }
+
+    @Benchmark
+    public Object cachedAccountStatus() throws Exception {
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    @Benchmark
+    public Object loadedAccountStatus() throws Exception {
+        accountStatusCache.evict(user.getId());
+        filter.doFilter(request, response, NO_OP_CHAIN);
+        return SecurityContextHolder.getContext().getAuthentication();
+    }
+
+    /**
+     * UserRepository answering findById with the given user, no Mockito in the measured path
+     */
+    private static UserRepository stubRepository(User user) {
+        return (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+                new Class<?>[]{UserRepository.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("findById")) {
+                        return Optional.of(user);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
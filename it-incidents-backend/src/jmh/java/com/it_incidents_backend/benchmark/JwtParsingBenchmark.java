@@ -0,0 +1,90 @@
+package com.it_incidents_backend.benchmark;
+
+import com.it_incidents_backend.configuration.JwtUtil;
+import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.security.VerifiedToken;
+import com.it_incidents_backend.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import javax.crypto.SecretKey;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of issuing a JWT and of authenticating one request from it.
+ * - generateAccessToken: JwtUtil.generateToken (login, refresh)
+ * - legacyFilterPipeline: what the filter used to do (validate, isExpired, then 3 getters),
+ *   rebuilding the key and the parser for each of the 5 parses
+ * - verifyOnce: current JwtUtil.verify() with the pre-built key and parser
+ * - verifyCached: same, with the verified-token cache enabled (repeat token)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtParsingBenchmark {
+
+    private static final String SECRET = BenchmarkFixtures.JWT_SECRET;
+    private static final UUID USER_ID = UUID.randomUUID();
+
+    private JwtUtil jwtUtil;
+    private JwtUtil cachingJwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 3600000L);
+        ReflectionTestUtils.setField(jwtUtil, "refreshExpiration", 86400000L);
+        token = jwtUtil.generateToken("benchmark", UUID.randomUUID(), Role.USER);
+
+        cachingJwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(cachingJwtUtil, "secret", SECRET);
+        ReflectionTestUtils.setField(cachingJwtUtil, "tokenCache", new VerifiedTokenCache(10000, new SimpleMeterRegistry()));
+    }
+
+    @Benchmark
+    public String generateAccessToken() {
+        return jwtUtil.generateToken("benchmark", USER_ID, Role.USER);
+    }
+
+    @Benchmark
+    public Object legacyFilterPipeline() {
+        if (legacyClaims(token) == null || legacyClaims(token).getExpiration().before(new Date())) {
+            return null;
+        }
+        String username = legacyClaims(token).getSubject();
+        UUID userId = UUID.fromString(legacyClaims(token).get("userId", String.class));
+        Role role = Role.valueOf(legacyClaims(token).get("role", String.class));
+        return new Object[]{username, userId, role};
+    }
+
+    @Benchmark
+    public VerifiedToken verifyOnce() {
+        return jwtUtil.verify(token).orElse(null);
+    }
+
+    @Benchmark
+    public VerifiedToken verifyCached() {
+        return cachingJwtUtil.verify(token).orElse(null);
+    }
+
+    private static Claims legacyClaims(String token) {
+        SecretKey key = Keys.hmacShaKeyFor(SECRET.getBytes(StandardCharsets.UTF_8));
+        return Jwts.parser()
+                .verifyWith(key)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
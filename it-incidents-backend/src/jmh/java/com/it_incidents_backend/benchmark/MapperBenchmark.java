@@ -0,0 +1,52 @@
+package com.it_incidents_backend.benchmark;
+
+import com.it_incidents_backend.dto.ticket.TicketDetailResponse;
+import com.it_incidents_backend.dto.user.UserDetailResponse;
+import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.entities.Ticket;
+import com.it_incidents_backend.entities.User;
+import com.it_incidents_backend.mapper.CommentMapperImpl;
+import com.it_incidents_backend.mapper.TicketMapperImpl;
+import com.it_incidents_backend.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of the MapStruct mappings behind the ticket detail and user profile endpoints (entities already loaded)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MapperBenchmark {
+
+    private TicketMapperImpl ticketMapper;
+    private UserMapperImpl userMapper;
+    private Ticket ticket;
+    private User user;
+
+    @Setup
+    public void setUp() {
+        userMapper = new UserMapperImpl();
+        ticketMapper = new TicketMapperImpl();
+        ReflectionTestUtils.setField(ticketMapper, "userMapper", userMapper);
+        ReflectionTestUtils.setField(ticketMapper, "commentMapper", new CommentMapperImpl());
+
+        user = BenchmarkFixtures.user("jean", Role.USER);
+        ticket = BenchmarkFixtures.ticket(1, user, BenchmarkFixtures.user("admin", Role.ADMIN));
+    }
+
+    @Benchmark
+    public TicketDetailResponse ticketToDetailResponse() {
+        return ticketMapper.toDetailResponse(ticket);
+    }
+
+    @Benchmark
+    public UserDetailResponse userToDetailDto() {
+        return userMapper.toDetailDto(user);
+    }
+}
@@ -0,0 +1,46 @@
+package com.it_incidents_backend.benchmark;
+
+import com.it_incidents_backend.services.users.UserServicesImp;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+/**
+ * Cost of the password policy regex (PASSWORD_PATTERN, same expression in AuthServiceImp and UserServicesImp)
+ * - validPassword / weakPassword: usual sign-up and password change input
+ * - longInvalidPassword: 1000 lowercase characters, the four look-aheads each scan the whole input
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PasswordPatternBenchmark {
+
+    private Pattern pattern;
+    private String longInvalid;
+
+    @Setup
+    public void setUp() {
+        pattern = (Pattern) ReflectionTestUtils.getField(UserServicesImp.class, "PASSWORD_PATTERN");
+        longInvalid = "a".repeat(1000);
+    }
+
+    @Benchmark
+    public boolean validPassword() {
+        return pattern.matcher("Jean@2024Pass!").matches();
+    }
+
+    @Benchmark
+    public boolean weakPassword() {
+        return pattern.matcher("password123").matches();
+    }
+
+    @Benchmark
+    public boolean longInvalidPassword() {
+        return pattern.matcher(longInvalid).matches();
+    }
+}
@@ -0,0 +1,66 @@
+package com.it_incidents_backend.benchmark;
+
+import com.it_incidents_backend.dto.ticket.TicketDetailResponse;
+import com.it_incidents_backend.dto.ticket.TicketPageResponse;
+import com.it_incidents_backend.dto.ticket.TicketResponse;
+import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.entities.User;
+import com.it_incidents_backend.mapper.CommentMapperImpl;
+import com.it_incidents_backend.mapper.TicketMapperImpl;
+import com.it_incidents_backend.mapper.UserMapperImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of writing the ticket DTOs as JSON (Jackson 3, as the MVC message converter does)
+ * - detailResponse: GET /api/tickets/{id} body, with creator and comments
+ * - listingPage: one page of GET /api/tickets/page (20 tickets)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TicketJsonBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private JsonMapper jsonMapper;
+    private TicketDetailResponse detail;
+    private TicketPageResponse<TicketResponse> page;
+
+    @Setup
+    public void setUp() {
+        jsonMapper = JsonMapper.builder().build();
+
+        TicketMapperImpl ticketMapper = new TicketMapperImpl();
+        ReflectionTestUtils.setField(ticketMapper, "userMapper", new UserMapperImpl());
+        ReflectionTestUtils.setField(ticketMapper, "commentMapper", new CommentMapperImpl());
+
+        User author = BenchmarkFixtures.user("jean", Role.USER);
+        User admin = BenchmarkFixtures.user("admin", Role.ADMIN);
+        detail = ticketMapper.toDetailResponse(BenchmarkFixtures.ticket(1, author, admin));
+
+        List<TicketResponse> items = new ArrayList<>(PAGE_SIZE);
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            items.add(ticketMapper.toResponse(BenchmarkFixtures.ticket(i + 1, author, admin)));
+        }
+        page = new TicketPageResponse<>(items, PAGE_SIZE, true, "MjAyNi0wMS0wMVQxMDowMHxhYmM=");
+    }
+
+    @Benchmark
+    public byte[] detailResponse() {
+        return jsonMapper.writeValueAsBytes(detail);
+    }
+
+    @Benchmark
+    public byte[] listingPage() {
+        return jsonMapper.writeValueAsBytes(page);
+    }
+}
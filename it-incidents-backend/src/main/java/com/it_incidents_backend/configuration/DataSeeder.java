@@ -1,10 +1,16 @@
 package com.it_incidents_backend.configuration;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
 
 import org.springframework.boot.CommandLineRunner;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import com.it_incidents_backend.entities.Category;
 import com.it_incidents_backend.entities.Priority;
@@ -17,30 +23,62 @@ import com.it_incidents_backend.repository.TicketCommentRepository;
 import com.it_incidents_backend.repository.TicketRepository;
 import com.it_incidents_backend.repository.UserRepository;
 
-import lombok.RequiredArgsConstructor;
-
+/**
+ * Startup data: demo users/tickets/comments (production-scale volumes: synthetic-data profile, SyntheticDataGenerator)
+ *
+ * - Everything is written in one transaction per step: the saves only queue inserts, which leave
+ *   in JDBC batches at commit (UUID ids, hibernate.jdbc.batch_size / order_inserts)
+ */
 @Component
-@RequiredArgsConstructor
 public class DataSeeder implements CommandLineRunner {
 
+    private static final List<String> SEED_USERNAMES = List.of(
+        "admin", "jean", "alice", "bob", "charlie", "pending_user", "expired_pass", "deleted_user");
+
     private final UserRepository userRepository;
     private final TicketRepository ticketRepository;
     private final TicketCommentRepository commentRepository;
     private final PasswordEncoder passwordEncoder;
+    private final TransactionTemplate transactionTemplate;
+
+    // Admin author of the staff comments, looked up once per run
+    private User admin;
+
+    public DataSeeder(UserRepository userRepository,
+                      TicketRepository ticketRepository,
+                      TicketCommentRepository commentRepository,
+                      PasswordEncoder passwordEncoder,
+                      PlatformTransactionManager transactionManager) {
+        this.userRepository = userRepository;
+        this.ticketRepository = ticketRepository;
+        this.commentRepository = commentRepository;
+        this.passwordEncoder = passwordEncoder;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
 
     @Override
     public void run(String... args) {
         System.out.println("🔄 VÉRIFICATION ET ENRICHISSEMENT DE LA BASE DE DONNÉES...");
 
-        // Create users
-        if (!userRepository.existsByUsername("admin")) seedAdmin();
-        if (!userRepository.existsByUsername("jean")) seedJean();
-        if (!userRepository.existsByUsername("alice")) seedAlice();
-        if (!userRepository.existsByUsername("bob")) seedBob();
-        if (!userRepository.existsByUsername("charlie")) seedCharlie();
-        if (!userRepository.existsByUsername("pending_user")) seedPendingUser();
-        if (!userRepository.existsByUsername("expired_pass")) seedExpiredPasswordUser();
-        if (!userRepository.existsByUsername("deleted_user")) seedDeletedUser();
+        // One query for the 8 demo accounts, then one transaction (one flush) for everything missing
+        Set<String> existing = userRepository.findLoginIdentitiesIn(SEED_USERNAMES, List.of()).stream()
+            .map(UserRepository.LoginIdentity::getUsername)
+            .collect(Collectors.toSet());
+
+        long started = System.currentTimeMillis();
+        transactionTemplate.executeWithoutResult(status -> {
+            if (!existing.contains("admin")) seedAdmin();
+            if (!existing.contains("jean")) seedJean();
+            if (!existing.contains("alice")) seedAlice();
+            if (!existing.contains("bob")) seedBob();
+            if (!existing.contains("charlie")) seedCharlie();
+            if (!existing.contains("pending_user")) seedPendingUser();
+            if (!existing.contains("expired_pass")) seedExpiredPasswordUser();
+            if (!existing.contains("deleted_user")) seedDeletedUser();
+        });
+        if (existing.size() < SEED_USERNAMES.size()) {
+            System.out.println("⏱️ Données de démonstration écrites en " + (System.currentTimeMillis() - started) + " ms");
+        }
 
         // Print summary of all users and credentials
         printUserSummary();
@@ -100,7 +138,7 @@ public class DataSeeder implements CommandLineRunner {
      */
     private void seedAdmin() {
         System.out.println("👤 Creating ADMIN user...");
-        createUser(
+        admin = createUser(
             "admin",
             "admin@incidents.com",
             "Super",
@@ -362,9 +400,8 @@ public class DataSeeder implements CommandLineRunner {
             "Besoin d'accès à la base de données pour mon projet.",
             TicketStatus.CANCELLED, Priority.MEDIUM, Category.ACCESS, 38);
 
-        // Soft delete the user
+        // Soft delete the user (already persisted: becomes an update at commit)
         deletedUser.softDelete("admin");
-        userRepository.save(deletedUser);
 
         System.out.println("🗑️ User 'deleted_user' has been SOFT DELETED by admin");
         System.out.println("   User cannot login but their tickets remain visible for audit trail");
@@ -490,13 +527,15 @@ public class DataSeeder implements CommandLineRunner {
 
         // Add comments to some tickets for realism
         if (status == TicketStatus.IN_PROGRESS || status == TicketStatus.RESOLVED) {
-            addCommentToTicket(savedTicket, author, "Merci de votre retour. J'attends la résolution.", false, daysAgo - 1);
-            
-            User admin = userRepository.findByUsername("admin").orElse(null);
+            List<TicketComment> comments = new ArrayList<>();
+            comments.add(comment(savedTicket, author, "Merci de votre retour. J'attends la résolution.", false, daysAgo - 1));
+
+            User admin = admin();
             if (admin != null) {
-                addCommentToTicket(savedTicket, admin, "Pris en charge. Investigation en cours.", false, daysAgo - 1);
-                addCommentToTicket(savedTicket, admin, "Note interne: Vérifier la configuration réseau.", true, daysAgo - 1);
+                comments.add(comment(savedTicket, admin, "Pris en charge. Investigation en cours.", false, daysAgo - 1));
+                comments.add(comment(savedTicket, admin, "Note interne: Vérifier la configuration réseau.", true, daysAgo - 1));
             }
+            commentRepository.saveAll(comments);
         }
 
         System.out.println(String.format(
@@ -506,16 +545,16 @@ public class DataSeeder implements CommandLineRunner {
     }
 
     /**
-     * Add a comment to a ticket
+     * Build a comment on a ticket (saved by the caller, in one saveAll)
      */
-    private void addCommentToTicket(
+    private TicketComment comment(
         Ticket ticket,
         User author,
         String content,
         boolean isInternal,
         int daysAgo
     ) {
-        TicketComment comment = TicketComment.builder()
+        return TicketComment.builder()
             .ticket(ticket)
             .author(author)
             .content(content)
@@ -523,7 +562,15 @@ public class DataSeeder implements CommandLineRunner {
             .createdAt(LocalDateTime.now().minusDays(daysAgo))
             .edited(false)
             .build();
+    }
 
-        commentRepository.save(comment);
+    /**
+     * Admin user: the one created in this run, or looked up once
+     */
+    private User admin() {
+        if (admin == null) {
+            admin = userRepository.findByUsername("admin").orElse(null);
+        }
+        return admin;
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.it_incidents_backend.configuration;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+
+/**
+ * Logs the request execution mode at startup (platform or virtual threads) and the connection pool limits
+ *
+ * Virtual threads (profile "virtual-threads", spring.threads.virtual.enabled=true) are only
+ * used on a Java 21+ runtime: on an older JVM the property is ignored and a warning is logged.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExecutionModeReporter {
+
+    private final Environment environment;
+    private final DataSource dataSource;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void report() {
+        boolean requested = environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false);
+        boolean active = Threading.VIRTUAL.isActive(environment);
+
+        if (requested && !active) {
+            log.warn("Virtual threads requested but not available on Java {}: using platform threads",
+                    Runtime.version().feature());
+        }
+        log.info("Request execution: {} threads (Java {})", active ? "virtual" : "platform", Runtime.version().feature());
+
+        if (dataSource instanceof HikariDataSource hikari) {
+            log.info("Connection pool: max {} connections, {} ms connection timeout",
+                    hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+        }
+    }
+}
@@ -1,9 +1,11 @@
 package com.it_incidents_backend.configuration;
 
 import com.it_incidents_backend.entities.Role;
-import com.it_incidents_backend.entities.User;
 import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.security.AccountStatus;
+import com.it_incidents_backend.security.AccountStatusCache;
 import com.it_incidents_backend.security.UserPrincipal;
+import com.it_incidents_backend.security.VerifiedToken;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -17,7 +19,6 @@ import org.springframework.stereotype.Component;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.time.LocalDateTime;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.UUID;
@@ -31,6 +32,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     @Autowired
     private UserRepository userRepository;
 
+    @Autowired
+    private AccountStatusCache accountStatusCache;
+
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
         String path = request.getServletPath();
@@ -57,15 +61,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             logger.info("JWT Token: " + (jwt != null ? "Present" : "Missing"));
 
-            if (jwt != null && jwtUtil.validateToken(jwt) && !jwtUtil.isTokenExpired(jwt)) {
-                String username = jwtUtil.getUsernameFromToken(jwt);
-                UUID userId = jwtUtil.getUserIdFromToken(jwt);
-                Role role = jwtUtil.getRoleFromToken(jwt);
+            // Signature, expiration and claims are checked in a single parse
+            VerifiedToken token = jwt != null ? jwtUtil.verify(jwt).orElse(null) : null;
+
+            if (token != null) {
+                String username = token.subject();
+                UUID userId = token.userId();
+                Role role = token.role();
 
                 logger.info("Extracted from JWT - Username: " + username
                         + ", UserId: " + userId
                         + ", Role: " + role);
 
+                // Refresh tokens carry no role and must not authenticate API calls
+                if (!token.isAccessToken() || role == null) {
+                    logger.warn("Non-access token used for authentication: " + username);
+                    filterChain.doFilter(request, response);
+                    return;
+                }
+
                 // Validate that userId is not null
                 if (userId == null) {
                     logger.error("UserId is null in JWT token");
@@ -74,44 +88,46 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
                 }
 
                 // ========== CRITICAL: VERIFY ACCOUNT STATUS ==========
-                User user = userRepository.findById(userId).orElse(null);
+                // Served from a short-lived cache, evicted whenever the account changes
+                AccountStatus status = accountStatusCache.get(userId, id ->
+                        userRepository.findById(id).map(AccountStatus::from).orElse(null));
 
-                if (user == null) {
+                if (status == null) {
                     logger.warn("User not found in database: " + userId);
                     sendAccountDisabledResponse(response, "ACCOUNT_NOT_FOUND");
                     return;
                 }
 
                 // Check if account is deleted
-                if (user.getDeleted() != null && user.getDeleted()) {
+                if (status.deleted()) {
                     logger.warn("Account is deleted: " + username);
                     sendAccountDisabledResponse(response, "ACCOUNT_DELETED");
                     return;
                 }
 
                 // Check if account is disabled
-                if (user.getEnabled() != null && !user.getEnabled()) {
+                if (!status.enabled()) {
                     logger.warn("Account is disabled: " + username);
                     sendAccountDisabledResponse(response, "ACCOUNT_DISABLED");
                     return;
                 }
 
                 // Check if account is locked
-                if (user.getAccountNonLocked() != null && !user.getAccountNonLocked()) {
+                if (!status.accountNonLocked()) {
                     logger.warn("Account is locked: " + username);
                     sendAccountDisabledResponse(response, "ACCOUNT_LOCKED");
                     return;
                 }
 
                 // Check temporary lock (failed login attempts)
-                if (user.getLockedUntil() != null && LocalDateTime.now().isBefore(user.getLockedUntil())) {
+                if (status.isTemporarilyLocked()) {
                     logger.warn("Account is temporarily locked: " + username);
                     sendAccountDisabledResponse(response, "ACCOUNT_LOCKED");
                     return;
                 }
 
                 // Check if account is approved (if your system requires approval)
-                if (user.getIsApproved() != null && !user.getIsApproved()) {
+                if (!status.approved()) {
                     logger.warn("Account is not approved: " + username);
                     sendAccountDisabledResponse(response, "ACCOUNT_NOT_APPROVED");
                     return;
@@ -1,15 +1,24 @@
 package com.it_incidents_backend.configuration;
 
 import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.security.VerifiedToken;
+import com.it_incidents_backend.security.VerifiedTokenCache;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 @Component
 public class JwtUtil {
@@ -24,12 +33,55 @@ public class JwtUtil {
     @Value("${jwt.refresh-expiration:604800000}") // Default: 7 days
     private long refreshExpiration;
 
+    /**
+     * Signing key and parser derived from the current secret.
+     * Built once and reused: both are immutable and thread-safe.
+     */
+    private volatile KeyMaterial keyMaterial;
+
+    /**
+     * Optional cache of verified access tokens (jwt.cache.enabled)
+     */
+    @Autowired(required = false)
+    private VerifiedTokenCache tokenCache;
+
+    /**
+     * Optional metrics: jwt.generate{type} and jwt.verify{result = cached | valid | invalid}
+     */
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private record KeyMaterial(String secret, SecretKey signingKey, JwtParser parser, byte[] fingerprint) {
+    }
+
     /**
      * Generate signing key from secret
      * - Uses HMAC-SHA algorithm for JWT signing
+     * - Rebuilt only when the configured secret changes
      */
+    private KeyMaterial getKeyMaterial() {
+        KeyMaterial current = keyMaterial;
+        if (current == null || !current.secret().equals(secret)) {
+            SecretKey key = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+            current = new KeyMaterial(secret, key, Jwts.parser().verifyWith(key).build(), fingerprint(key));
+            keyMaterial = current;
+            if (tokenCache != null) {
+                tokenCache.invalidateAll(); // Secret rotated: drop tokens verified with the old key
+            }
+        }
+        return current;
+    }
+
+    private static byte[] fingerprint(SecretKey key) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(key.getEncoded());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
     private SecretKey getSigningKey() {
-        return Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        return getKeyMaterial().signingKey();
     }
 
     /**
@@ -38,18 +90,21 @@ public class JwtUtil {
      * - Expires in 24 hours by default
      */
     public String generateToken(String username, UUID userId, Role role) {
+        long started = System.nanoTime();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
-        return Jwts.builder()
+        String token = Jwts.builder()
                 .subject(username)
                 .claim("userId", userId.toString())
                 .claim("role", role.name())
-                .claim("type", "access") // Token type
+                .claim("type", VerifiedToken.ACCESS) // Token type
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(getSigningKey())
                 .compact();
+        record("jwt.generate", "type", VerifiedToken.ACCESS, started);
+        return token;
     }
 
     /**
@@ -58,17 +113,85 @@ public class JwtUtil {
      * - Expires in 7 days by default
      */
     public String generateRefreshToken(String username, UUID userId) {
+        long started = System.nanoTime();
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + refreshExpiration);
 
-        return Jwts.builder()
+        String token = Jwts.builder()
                 .subject(username)
                 .claim("userId", userId.toString())
-                .claim("type", "refresh") // Token type
+                .claim("type", VerifiedToken.REFRESH) // Token type
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(getSigningKey())
                 .compact();
+        record("jwt.generate", "type", VerifiedToken.REFRESH, started);
+        return token;
+    }
+
+    /**
+     * Verify and parse a token in a single pass
+     * - Checks signature, expiration, and structure
+     * - Returns empty for any invalid, expired or malformed token
+     */
+    public Optional<VerifiedToken> verify(String token) {
+        long started = System.nanoTime();
+        VerifiedToken verified = null;
+        String result = "invalid";
+        try {
+            KeyMaterial key = getKeyMaterial();
+
+            // Hot path: same access token seen recently, skip HMAC and JSON decoding
+            if (tokenCache != null && token != null) {
+                verified = tokenCache.get(key.fingerprint(), token);
+            }
+            if (verified != null) {
+                result = "cached";
+            } else {
+                verified = parse(key, token);
+                result = verified != null ? "valid" : "invalid";
+            }
+        } catch (JwtException | IllegalArgumentException e) {
+            verified = null;
+        }
+        record("jwt.verify", "result", result, started);
+        return Optional.ofNullable(verified);
+    }
+
+    /**
+     * @return the verified token, null when it carries no expiration (all tokens we issue expire)
+     */
+    private VerifiedToken parse(KeyMaterial key, String token) {
+        Claims claims = key.parser().parseSignedClaims(token).getPayload();
+        if (claims.getExpiration() == null) {
+            return null;
+        }
+
+        String userIdStr = claims.get("userId", String.class);
+        String roleName = claims.get("role", String.class);
+
+        VerifiedToken verified = new VerifiedToken(
+                claims.getSubject(),
+                userIdStr != null ? UUID.fromString(userIdStr) : null,
+                roleName != null ? Role.valueOf(roleName) : null,
+                claims.get("type", String.class),
+                claims.getExpiration().toInstant()
+        );
+
+        // Refresh tokens are single-use (rotated on refresh), no point caching them
+        if (tokenCache != null && verified.isAccessToken()) {
+            tokenCache.put(key.fingerprint(), token, verified);
+        }
+        return verified;
+    }
+
+    private void record(String name, String tag, String value, long startedNanos) {
+        if (meterRegistry != null) {
+            Timer.builder(name)
+                    .tag(tag, value)
+                    .register(meterRegistry)
+                    .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+        }
     }
 
     /**
@@ -130,9 +253,7 @@ public class JwtUtil {
      * Extract all claims from token
      */
     private Claims getClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(getSigningKey())
-                .build()
+        return getKeyMaterial().parser()
                 .parseSignedClaims(token)
                 .getPayload();
     }
@@ -0,0 +1,78 @@
+package com.it_incidents_backend.configuration;
+
+import com.it_incidents_backend.services.CommentService;
+import com.it_incidents_backend.services.TicketService;
+import com.it_incidents_backend.services.auth.AuthServiceImp;
+import com.it_incidents_backend.services.users.UserServicesImp;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.StaticMethodMatcherPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+import org.springframework.data.repository.core.support.RepositoryFactoryBeanSupport;
+import org.springframework.util.ClassUtils;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Set;
+
+/**
+ * Application metrics, exported at /actuator/prometheus (histogram buckets in application.properties)
+ *
+ * - service.calls: public operations of INSTRUMENTED_SERVICES, by outcome (ServiceMetricsInterceptor)
+ * - repository.rows: result size of every repository method (RepositoryRowsInterceptor),
+ *   next to Spring Data's spring.data.repository.invocations timer
+ * - Elsewhere: jwt.verify / jwt.generate (JwtUtil), password.hashing.* (BoundedPasswordEncoder),
+ *   cache.* for the Caffeine caches (hit ratio = hits / gets)
+ */
+@Configuration
+public class MetricsConfig {
+
+    // Calls from one method to another of the same service (self-invocation) are not timed separately
+    static final Set<Class<?>> INSTRUMENTED_SERVICES = Set.of(
+            TicketService.class, CommentService.class, AuthServiceImp.class, UserServicesImp.class);
+
+    /**
+     * Applied by the same proxy as @Transactional, outermost: the time includes the commit
+     * and an exception thrown at commit is counted
+     */
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor serviceMetricsAdvisor(ObjectProvider<MeterRegistry> meterRegistry) {
+        StaticMethodMatcherPointcut pointcut = new StaticMethodMatcherPointcut() {
+            @Override
+            public boolean matches(Method method, Class<?> targetClass) {
+                return INSTRUMENTED_SERVICES.contains(ClassUtils.getUserClass(targetClass))
+                        && Modifier.isPublic(method.getModifiers())
+                        && method.getDeclaringClass() != Object.class;
+            }
+        };
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(pointcut, new ServiceMetricsInterceptor(meterRegistry));
+        advisor.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return advisor;
+    }
+
+    /**
+     * Adds RepositoryRowsInterceptor to every Spring Data repository proxy when it is created
+     */
+    @Bean
+    static BeanPostProcessor repositoryRowsMetrics(ObjectProvider<MeterRegistry> meterRegistry) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof RepositoryFactoryBeanSupport<?, ?, ?> factoryBean) {
+                    factoryBean.addRepositoryFactoryCustomizer(factory -> factory.addRepositoryProxyPostProcessor(
+                            (proxyFactory, information) -> proxyFactory.addAdvice(new RepositoryRowsInterceptor(
+                                    meterRegistry, information.getRepositoryInterface().getSimpleName()))));
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,21 @@
+package com.it_incidents_backend.configuration;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Maximum number of SQL statements a controller method may issue per request
+ * - Replaces query-budget.max-queries for this handler (QueryBudgetInterceptor)
+ * - The count the handler is expected to stay within whatever the data size: a listing that grows with
+ *   the number of rows is an N+1
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int value();
+}
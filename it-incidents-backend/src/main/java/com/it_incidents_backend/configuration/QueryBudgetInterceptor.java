@@ -0,0 +1,100 @@
+package com.it_incidents_backend.configuration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+/**
+ * Per-request query budget: flags the controller methods that issue too many SQL statements (N+1) or are too slow
+ *
+ * - Statements counted on the request thread by QueryCounter, from the handler call to the end of the response
+ *   (security filter lookups are not included)
+ * - Budget: @QueryBudget on the controller method, query-budget.max-queries otherwise
+ * - Over budget or slower than query-budget.slow-request-ms: WARN log tagged Controller#method
+ * - Every handled request: http.server.queries{handler} (statements per request)
+ * - Async requests (streamed exports, SSE) are not counted: their queries run on other threads
+ */
+@Slf4j
+@Component
+public class QueryBudgetInterceptor implements AsyncHandlerInterceptor {
+
+    static final String METRIC = "http.server.queries";
+    private static final String STARTED = QueryBudgetInterceptor.class.getName() + ".started";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final boolean enabled;
+    private final int maxQueries;
+    private final long slowRequestMs;
+
+    public QueryBudgetInterceptor(ObjectProvider<MeterRegistry> meterRegistry,
+                                  @Value("${query-budget.enabled:true}") boolean enabled,
+                                  @Value("${query-budget.max-queries:10}") int maxQueries,
+                                  @Value("${query-budget.slow-request-ms:1000}") long slowRequestMs) {
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.maxQueries = maxQueries;
+        this.slowRequestMs = slowRequestMs;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (enabled && handler instanceof HandlerMethod && request.getDispatcherType() == DispatcherType.REQUEST) {
+            request.setAttribute(STARTED, System.nanoTime());
+            QueryCounter.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(HttpServletRequest request, HttpServletResponse response,
+                                               Object handler) {
+        // The response is written later on another thread: release this one without reporting
+        if (request.getAttribute(STARTED) != null) {
+            request.removeAttribute(STARTED);
+            QueryCounter.stop();
+        }
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        Object started = request.getAttribute(STARTED);
+        if (started == null) {
+            return;
+        }
+        request.removeAttribute(STARTED);
+        int statements = QueryCounter.stop();
+        long elapsedMs = (System.nanoTime() - (long) started) / 1_000_000;
+
+        HandlerMethod method = (HandlerMethod) handler;
+        String name = method.getBeanType().getSimpleName() + "#" + method.getMethod().getName();
+        QueryBudget annotation = method.getMethodAnnotation(QueryBudget.class);
+        int budget = annotation != null ? annotation.value() : maxQueries;
+
+        if (statements > budget) {
+            log.warn("Query budget exceeded: {} issued {} statements (budget {}) in {} ms [{} {}]",
+                    name, statements, budget, elapsedMs, request.getMethod(), request.getRequestURI());
+        } else if (elapsedMs > slowRequestMs) {
+            log.warn("Slow request: {} took {} ms (threshold {} ms, {} statements) [{} {}]",
+                    name, elapsedMs, slowRequestMs, statements, request.getMethod(), request.getRequestURI());
+        }
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry != null) {
+            DistributionSummary.builder(METRIC)
+                    .description("SQL statements per request")
+                    .baseUnit("statements")
+                    .tag("handler", name)
+                    .register(registry)
+                    .record(statements);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.it_incidents_backend.configuration;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.function.Supplier;
+
+/**
+ * Counts the SQL statements prepared by the current thread (hibernate.session_factory.statement_inspector)
+ *
+ * - Counting is off until start() is called on the thread: no cost beyond a ThreadLocal read otherwise
+ * - One count per prepared statement: a JDBC batch counts once, like Hibernate's prepareStatementCount
+ * - Used per HTTP request by QueryBudgetInterceptor, and by tests through count()
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<int[]> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        int[] count = COUNT.get();
+        if (count != null) {
+            count[0]++;
+        }
+        return sql;
+    }
+
+    public static void start() {
+        COUNT.set(new int[1]);
+    }
+
+    /**
+     * @return the statements counted since start(), -1 when counting was not started on this thread
+     */
+    public static int stop() {
+        int[] count = COUNT.get();
+        COUNT.remove();
+        return count != null ? count[0] : -1;
+    }
+
+    /**
+     * Run the work and return its result with the number of statements it prepared
+     * - Statements are still added to an enclosing count (request in progress on this thread)
+     */
+    public static <T> Counted<T> count(Supplier<T> work) {
+        int[] outer = COUNT.get();
+        start();
+        T result;
+        int statements;
+        try {
+            result = work.get();
+        } finally {
+            statements = stop();
+            if (outer != null) {
+                outer[0] += statements;
+                COUNT.set(outer);
+            }
+        }
+        return new Counted<>(result, statements);
+    }
+
+    public record Counted<T>(T result, int statements) {
+    }
+}
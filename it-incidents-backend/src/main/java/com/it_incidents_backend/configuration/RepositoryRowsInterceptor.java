@@ -0,0 +1,82 @@
+package com.it_incidents_backend.configuration;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Window;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.BaseStream;
+
+/**
+ * Rows returned per repository method: repository.rows{repository, method}
+ *
+ * - Timing comes from Spring Data's own spring.data.repository.invocations timer, this adds the result size
+ * - Collections, pages/slices, keyset windows, Optionals, single entities and null are counted;
+ *   numbers and booleans (count/exists/update queries) and streams (size unknown upfront) are not
+ */
+public class RepositoryRowsInterceptor implements MethodInterceptor {
+
+    static final String METRIC = "repository.rows";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final String repository;
+
+    public RepositoryRowsInterceptor(ObjectProvider<MeterRegistry> meterRegistry, String repository) {
+        this.meterRegistry = meterRegistry;
+        this.repository = repository;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        long rows = rows(result);
+        if (registry != null && rows >= 0) {
+            DistributionSummary.builder(METRIC)
+                    .description("Rows returned by repository methods")
+                    .baseUnit("rows")
+                    .tag("repository", repository)
+                    .tag("method", invocation.getMethod().getName())
+                    .register(registry)
+                    .record(rows);
+        }
+        return result;
+    }
+
+    /**
+     * @return number of rows in the result, -1 when it is not a row set
+     */
+    static long rows(Object result) {
+        if (result == null) {
+            return 0;
+        }
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Slice<?> slice) {
+            return slice.getNumberOfElements();
+        }
+        // Keyset scroll: an Iterable, neither a Collection nor a Slice
+        if (result instanceof Window<?> window) {
+            return window.size();
+        }
+        if (result instanceof Optional<?> optional) {
+            return optional.isPresent() ? 1 : 0;
+        }
+        if (result instanceof Map<?, ?> map) {
+            return map.size();
+        }
+        if (result instanceof Number || result instanceof Boolean || result instanceof BaseStream<?, ?>) {
+            return -1;
+        }
+        // Entity, projection or Object[] row
+        return 1;
+    }
+}
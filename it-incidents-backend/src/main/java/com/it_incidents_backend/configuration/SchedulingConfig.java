@@ -0,0 +1,12 @@
+package com.it_incidents_backend.configuration;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (statistics snapshot refresh, ...)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
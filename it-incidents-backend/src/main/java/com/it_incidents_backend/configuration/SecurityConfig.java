@@ -1,5 +1,9 @@
 package com.it_incidents_backend.configuration;
 
+import com.it_incidents_backend.security.AdaptivePasswordEncoder;
+import com.it_incidents_backend.security.BoundedPasswordEncoder;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.DispatcherType;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -11,7 +15,6 @@ import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
@@ -37,13 +40,31 @@ public class SecurityConfig {
     private String allowedOrigins;
 
     /**
-     * BCrypt password encoder with strength 12
-     * - Strength 12 provides good balance between security and performance
-     * - Higher values = more secure but slower
+     * Password encoder (BCrypt by default, Argon2id optional)
+     * - Work factor benchmarked at startup to stay close to the target hash time on this host,
+     *   or pinned with security.password-hashing.work-factor
+     * - Hashes with another algorithm or work factor are upgraded at the next successful login
+     * - Hashes run on a bounded pool (503 + Retry-After when saturated), see BoundedPasswordEncoder
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(
+            @Value("${security.password-hashing.algorithm:bcrypt}") String algorithm,
+            @Value("${security.password-hashing.work-factor:0}") int workFactor,
+            @Value("${security.password-hashing.target-ms:250}") long targetMs,
+            @Value("${security.password-hashing.threads:0}") int threads,
+            @Value("${security.password-hashing.queue-capacity:64}") int queueCapacity,
+            @Value("${security.password-hashing.admin-reserved:4}") int adminReserved,
+            @Value("${security.password-hashing.timeout-ms:3000}") long timeoutMs,
+            MeterRegistry meterRegistry
+    ) {
+        AdaptivePasswordEncoder.Algorithm target = AdaptivePasswordEncoder.Algorithm.from(algorithm);
+        PasswordEncoder encoder = workFactor > 0
+                ? new AdaptivePasswordEncoder(target, workFactor)
+                : AdaptivePasswordEncoder.calibrated(target, targetMs);
+
+        // 0 = one thread per core: hashing is pure CPU, more threads only add contention
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(encoder, poolSize, queueCapacity, adminReserved, timeoutMs, meterRegistry);
     }
 
     @Bean
@@ -79,6 +100,9 @@ public class SecurityConfig {
                 
                 // ========== AUTHORIZATION RULES ==========
                 .authorizeHttpRequests(auth -> auth
+                        // Async dispatch of streams (SSE, exports) already authorized on the initial request
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Swagger/OpenAPI documentation - PUBLIC
                         .requestMatchers(
                                 "/api-docs/**",
@@ -96,11 +120,14 @@ public class SecurityConfig {
                         // Health check - PUBLIC
                         .requestMatchers("/api/health").permitAll()
 
-                        // Actuator endpoints - PUBLIC (for Docker healthcheck)
-                        .requestMatchers("/actuator/**").permitAll()
+                        // Actuator health - PUBLIC (for Docker healthcheck)
+                        .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+
+                        // Other actuator endpoints (metrics, prometheus) - ADMIN only: they expose internals
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
                         
                         // Read-only ticket list - PUBLIC (guest users can view)
-                        .requestMatchers(HttpMethod.GET, "/api/tickets").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/tickets", "/api/tickets/page").permitAll()
                         
                         // All other requests require authentication
                         .anyRequest().authenticated()
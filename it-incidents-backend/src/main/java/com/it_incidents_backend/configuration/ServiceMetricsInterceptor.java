@@ -0,0 +1,68 @@
+package com.it_incidents_backend.configuration;
+
+import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Times every call of the instrumented services: service.calls{class, method, outcome, status, exception}
+ *
+ * - outcome: SUCCESS, CLIENT_ERROR (AppException 4xx) or SERVER_ERROR (5xx, any other exception)
+ * - status: HTTP status the exception maps to (AppException, ServiceOverloadedException = 503), "none" otherwise
+ * - exception: simple class name, "none" on success
+ * - Registry resolved on first use: no metrics (and no cost beyond the lookup) when none is configured
+ */
+public class ServiceMetricsInterceptor implements MethodInterceptor {
+
+    static final String METRIC = "service.calls";
+    private static final String NONE = "none";
+
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+
+    public ServiceMetricsInterceptor(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (registry == null) {
+            return invocation.proceed();
+        }
+
+        Timer.Sample sample = Timer.start(registry);
+        try {
+            Object result = invocation.proceed();
+            stop(sample, registry, invocation, "SUCCESS", NONE, NONE);
+            return result;
+        } catch (AppException e) {
+            int status = e.getStatus().value();
+            stop(sample, registry, invocation, status >= 500 ? "SERVER_ERROR" : "CLIENT_ERROR",
+                    String.valueOf(status), e.getClass().getSimpleName());
+            throw e;
+        } catch (ServiceOverloadedException e) {
+            stop(sample, registry, invocation, "SERVER_ERROR", "503", e.getClass().getSimpleName());
+            throw e;
+        } catch (Throwable e) {
+            stop(sample, registry, invocation, "SERVER_ERROR", NONE, e.getClass().getSimpleName());
+            throw e;
+        }
+    }
+
+    private static void stop(Timer.Sample sample, MeterRegistry registry, MethodInvocation invocation,
+                             String outcome, String status, String exception) {
+        sample.stop(Timer.builder(METRIC)
+                .description("Service operation calls")
+                .tag("class", ClassUtils.getUserClass(invocation.getThis().getClass()).getSimpleName())
+                .tag("method", invocation.getMethod().getName())
+                .tag("outcome", outcome)
+                .tag("status", status)
+                .tag("exception", exception)
+                .register(registry));
+    }
+}
@@ -0,0 +1,35 @@
+package com.it_incidents_backend.configuration;
+
+import com.it_incidents_backend.repository.TicketSearchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * Creates the full-text search columns and GIN indexes once Hibernate has created/updated the schema
+ * - Runs before DataSeeder so seeded tickets are indexed too
+ * - Skipped on databases other than PostgreSQL
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "tickets.search.schema-init", havingValue = "true", matchIfMissing = true)
+public class TicketSearchSchemaInitializer implements CommandLineRunner {
+
+    private final TicketSearchRepository searchRepository;
+
+    @Override
+    public void run(String... args) {
+        if (!searchRepository.isSupported()) {
+            log.info("Full-text search schema skipped: database is not PostgreSQL");
+            return;
+        }
+        searchRepository.ensureSearchSchema();
+        log.info("Full-text search schema ready (tsvector columns + GIN indexes)");
+    }
+}
@@ -0,0 +1,102 @@
+package com.it_incidents_backend.configuration.synthetic;
+
+import org.postgresql.PGConnection;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.List;
+
+/**
+ * Writes rows straight to a table, outside JPA.
+ *
+ * - PostgreSQL: one COPY ... FROM STDIN (CSV) per call, the fastest load path
+ * - Other databases (H2 in tests): one prepared INSERT executed in JDBC batches of BATCH_SIZE rows
+ * - Values: null, String, Boolean, Number, UUID, LocalDateTime or an enum (written by name)
+ */
+final class BulkInserter {
+
+    private static final int BATCH_SIZE = 1000;
+
+    private final boolean copy;
+
+    private BulkInserter(boolean copy) {
+        this.copy = copy;
+    }
+
+    static BulkInserter forConnection(Connection connection) throws SQLException {
+        return new BulkInserter(connection.isWrapperFor(PGConnection.class));
+    }
+
+    boolean usesCopy() {
+        return copy;
+    }
+
+    void insert(Connection connection, String table, List<String> columns, List<Object[]> rows) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        if (copy) {
+            copy(connection, table, columns, rows);
+        } else {
+            batch(connection, table, columns, rows);
+        }
+    }
+
+    private static void copy(Connection connection, String table, List<String> columns, List<Object[]> rows)
+            throws SQLException {
+        StringBuilder csv = new StringBuilder(rows.size() * 256);
+        for (Object[] row : rows) {
+            for (int i = 0; i < row.length; i++) {
+                if (i > 0) {
+                    csv.append(',');
+                }
+                appendCsv(csv, row[i]);
+            }
+            csv.append('\n');
+        }
+        String sql = "COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN WITH (FORMAT csv)";
+        try {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new StringReader(csv.toString()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Unquoted empty field = NULL, anything else quoted (so an empty string stays an empty string)
+     */
+    private static void appendCsv(StringBuilder csv, Object value) {
+        if (value == null) {
+            return;
+        }
+        String text = value instanceof Enum<?> constant ? constant.name() : value.toString();
+        csv.append('"').append(text.replace("\"", "\"\"")).append('"');
+    }
+
+    private static void batch(Connection connection, String table, List<String> columns, List<Object[]> rows)
+            throws SQLException {
+        String sql = "INSERT INTO " + table + " (" + String.join(", ", columns) + ") VALUES ("
+                + String.join(", ", columns.stream().map(column -> "?").toList()) + ")";
+        try (PreparedStatement statement = connection.prepareStatement(sql)) {
+            int pending = 0;
+            for (Object[] row : rows) {
+                for (int i = 0; i < row.length; i++) {
+                    Object value = row[i] instanceof Enum<?> constant ? constant.name() : row[i];
+                    statement.setObject(i + 1, value);
+                }
+                statement.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    statement.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                statement.executeBatch();
+            }
+        }
+    }
+}
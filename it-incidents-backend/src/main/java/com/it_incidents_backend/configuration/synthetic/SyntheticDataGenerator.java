@@ -0,0 +1,376 @@
+package com.it_incidents_backend.configuration.synthetic;
+
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
+import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.entities.TicketStatus;
+import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.services.TicketAnalyticsService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.UUID;
+
+/**
+ * Production-scale dataset for reproducing performance problems locally (profile synthetic-data, see loadtest/README.md)
+ *
+ * - Users, tickets and comments with realistic skew: a few heavy reporters, more recent tickets than old ones,
+ *   office-hours peaks, old tickets mostly closed, resolution time depending on the priority
+ * - Lifecycle timestamps consistent with each status (created, resolved, closed), and the matching
+ *   status history (ticket_status_events) from which the resolution aggregates are rebuilt at the end
+ * - Written outside JPA with BulkInserter (PostgreSQL COPY, JDBC batches elsewhere), one transaction per chunk-size tickets
+ * - Same data for the same seed, so runs on different machines compare; skipped when already generated
+ */
+@Slf4j
+@Component
+@Profile("synthetic-data")
+public class SyntheticDataGenerator implements CommandLineRunner {
+
+    static final String USERNAME_PREFIX = "load_";
+    static final String TICKET_NUMBER_PREFIX = "LOAD-";
+    // Shared by every generated account: one hash computation for the whole run
+    static final String PASSWORD = "LoadTest@2024Pass!";
+
+    private static final List<String> USER_COLUMNS = List.of("id", "username", "email", "password", "first_name",
+            "last_name", "role", "enabled", "is_approved", "account_non_locked", "deleted", "failed_login_attempts",
+            "created_at", "password_changed_at");
+    private static final List<String> TICKET_COLUMNS = List.of("id", "ticket_number", "title", "description", "status",
+            "priority", "category", "created_by_id", "resolution", "resolved_at", "closed_at", "created_at",
+            "updated_at", "last_updated_by");
+    private static final List<String> COMMENT_COLUMNS = List.of("id", "ticket_id", "author_id", "content",
+            "is_internal", "created_at", "edited");
+    private static final List<String> EVENT_COLUMNS = List.of("id", "ticket_id", "from_status", "to_status",
+            "priority", "category", "changed_by", "occurred_at", "resolution_seconds");
+
+    // One account in STAFF_RATIO is an admin (comments, resolutions)
+    private static final int STAFF_RATIO = 50;
+
+    // Weights in enum order
+    private static final int[] PRIORITY_WEIGHTS = {35, 40, 18, 7};                // LOW, MEDIUM, HIGH, CRITICAL
+    private static final int[] CATEGORY_WEIGHTS = {20, 22, 15, 10, 8, 9, 2, 4, 6, 4};
+    private static final int[] STATUS_WEIGHTS_NEW = {50, 40, 10, 0, 0};           // under 2 days old
+    private static final int[] STATUS_WEIGHTS_RECENT = {15, 30, 30, 20, 5};       // under 2 weeks old
+    private static final int[] STATUS_WEIGHTS_OLD = {2, 3, 5, 80, 10};
+    // Median hours to resolution per priority, log-normal spread around it
+    private static final double[] RESOLUTION_MEDIAN_HOURS = {96, 36, 12, 4};
+
+    private static final String[] TITLES = {
+            "Imprimante hors service", "Logiciel qui plante au démarrage", "WiFi instable", "Accès refusé au dossier partagé",
+            "Boîte mail pleine", "Compte bloqué", "Récupération de fichiers supprimés", "Email suspect reçu",
+            "Installation d'un logiciel", "Demande d'information"
+    };
+    private static final String[] COMMENTS = {
+            "Pris en charge.", "Pouvez-vous préciser le message d'erreur ?", "Toujours le même problème de mon côté.",
+            "Intervention planifiée.", "Redémarrage effectué, à confirmer.", "Merci, cela fonctionne."
+    };
+
+    private final UserRepository userRepository;
+    private final TicketAnalyticsService analyticsService;
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ApplicationContext applicationContext;
+    private final int users;
+    private final int tickets;
+    private final double commentsPerTicket;
+    private final int historyDays;
+    private final int chunkSize;
+    private final long seed;
+    private final boolean exitWhenDone;
+
+    private record Account(UUID id, String username, boolean staff) {
+    }
+
+    public SyntheticDataGenerator(UserRepository userRepository,
+                                  TicketAnalyticsService analyticsService,
+                                  PasswordEncoder passwordEncoder,
+                                  JdbcTemplate jdbcTemplate,
+                                  PlatformTransactionManager transactionManager,
+                                  ApplicationContext applicationContext,
+                                  @Value("${synthetic.users:20000}") int users,
+                                  @Value("${synthetic.tickets:1000000}") int tickets,
+                                  @Value("${synthetic.comments-per-ticket:2.5}") double commentsPerTicket,
+                                  @Value("${synthetic.history-days:730}") int historyDays,
+                                  @Value("${synthetic.chunk-size:20000}") int chunkSize,
+                                  @Value("${synthetic.seed:42}") long seed,
+                                  @Value("${synthetic.exit-when-done:true}") boolean exitWhenDone) {
+        this.userRepository = userRepository;
+        this.analyticsService = analyticsService;
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.applicationContext = applicationContext;
+        this.users = Math.max(1, users);
+        this.tickets = Math.max(0, tickets);
+        this.commentsPerTicket = Math.max(0, commentsPerTicket);
+        this.historyDays = Math.max(1, historyDays);
+        this.chunkSize = Math.max(1, chunkSize);
+        this.seed = seed;
+        this.exitWhenDone = exitWhenDone;
+    }
+
+    @Override
+    public void run(String... args) {
+        if (userRepository.existsByUsername(username(0))) {
+            log.warn("Synthetic data already present ({}*), generation skipped", USERNAME_PREFIX);
+        } else {
+            generate();
+        }
+        if (exitWhenDone) {
+            System.exit(SpringApplication.exit(applicationContext));
+        }
+    }
+
+    private void generate() {
+        log.info("Generating {} users, {} tickets, ~{} comments per ticket over {} days (seed {})",
+                users, tickets, commentsPerTicket, historyDays, seed);
+        long started = System.currentTimeMillis();
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+        SplittableRandom random = new SplittableRandom(seed);
+        // Separate stream: the history does not change the tickets generated for a seed
+        SplittableRandom historyRandom = new SplittableRandom(~seed);
+
+        List<Account> accounts = writeUsers(random, now);
+        List<Account> staff = accounts.stream().filter(Account::staff).toList();
+
+        long comments = 0;
+        for (int from = 0; from < tickets; from += chunkSize) {
+            int first = from;
+            int last = Math.min(from + chunkSize, tickets);
+            comments += inTransaction(inserter ->
+                    writeTickets(inserter, first, last, random, historyRandom, accounts, staff, now));
+            log.info("  {} / {} tickets", last, tickets);
+        }
+        analyticsService.rebuildResolutionStats();
+
+        log.info("Synthetic data written in {} ms: {} users, {} tickets, {} comments",
+                System.currentTimeMillis() - started, accounts.size(), tickets, comments);
+    }
+
+    // ========== USERS ==========
+
+    private List<Account> writeUsers(SplittableRandom random, LocalDateTime now) {
+        String passwordHash = passwordEncoder.encode(PASSWORD);
+        List<Account> accounts = new ArrayList<>(users);
+        for (int from = 0; from < users; from += chunkSize) {
+            int first = from;
+            int last = Math.min(from + chunkSize, users);
+            inTransaction(inserter -> {
+                List<Object[]> rows = new ArrayList<>(last - first);
+                for (int i = first; i < last; i++) {
+                    Account account = new Account(uuid(random), username(i), i % STAFF_RATIO == 0);
+                    LocalDateTime createdAt = now.minusDays(historyDays).minusDays(random.nextInt(365));
+                    rows.add(new Object[]{account.id(), account.username(), account.username() + "@loadtest.local",
+                            passwordHash, "Load", "User " + i, account.staff() ? Role.ADMIN : Role.USER,
+                            true, true, true, false, 0, createdAt, now});
+                    accounts.add(account);
+                }
+                inserter.insert("users", USER_COLUMNS, rows);
+                return rows.size();
+            });
+        }
+        return accounts;
+    }
+
+    // ========== TICKETS ==========
+
+    /**
+     * @return number of comments written
+     */
+    private long writeTickets(Inserter inserter, int first, int last, SplittableRandom random,
+                              SplittableRandom historyRandom, List<Account> accounts, List<Account> staff,
+                              LocalDateTime now) throws SQLException {
+        List<Object[]> ticketRows = new ArrayList<>(last - first);
+        List<Object[]> commentRows = new ArrayList<>();
+        List<Object[]> eventRows = new ArrayList<>();
+
+        for (int i = first; i < last; i++) {
+            // Cubic skew: roughly half of the tickets come from 10% of the users
+            Account reporter = accounts.get((int) (accounts.size() * Math.pow(random.nextDouble(), 3)));
+            LocalDateTime createdAt = createdAt(random, now);
+            long ageHours = ChronoUnit.HOURS.between(createdAt, now);
+            TicketStatus status = TicketStatus.values()[pick(random,
+                    ageHours < 48 ? STATUS_WEIGHTS_NEW : ageHours < 14 * 24 ? STATUS_WEIGHTS_RECENT : STATUS_WEIGHTS_OLD)];
+            Priority priority = Priority.values()[pick(random, PRIORITY_WEIGHTS)];
+            Category category = Category.values()[pick(random, CATEGORY_WEIGHTS)];
+
+            LocalDateTime resolvedAt = null;
+            LocalDateTime closedAt = null;
+            if (status == TicketStatus.RESOLVED || status == TicketStatus.CLOSED) {
+                double hours = RESOLUTION_MEDIAN_HOURS[priority.ordinal()] * Math.exp(0.8 * random.nextGaussian());
+                resolvedAt = createdAt.plusMinutes((long) (hours * 60) + 1);
+                if (resolvedAt.isAfter(now)) {
+                    // Not resolved yet at this age
+                    status = TicketStatus.IN_PROGRESS;
+                    resolvedAt = null;
+                } else if (status == TicketStatus.CLOSED) {
+                    closedAt = min(resolvedAt.plusMinutes(random.nextInt(72 * 60) + 1), now);
+                }
+            } else if (status == TicketStatus.CANCELLED) {
+                closedAt = min(createdAt.plusMinutes(random.nextInt(48 * 60) + 1), now);
+            }
+
+            UUID ticketId = uuid(random);
+            Account lastUpdatedBy = status == TicketStatus.PENDING ? reporter : staff.get(random.nextInt(staff.size()));
+            LocalDateTime updatedAt = closedAt != null ? closedAt : resolvedAt != null ? resolvedAt : createdAt;
+
+            // Comments: geometric count, fewer on tickets nobody picked up yet
+            double mean = status == TicketStatus.PENDING ? commentsPerTicket / 4 : commentsPerTicket;
+            LocalDateTime lastActivity = closedAt != null ? closedAt : now;
+            long activityMinutes = Math.max(1, ChronoUnit.MINUTES.between(createdAt, lastActivity));
+            for (int c = 0; c < 50 && random.nextDouble() < mean / (1 + mean); c++) {
+                boolean byStaff = random.nextBoolean();
+                Account author = byStaff ? staff.get(random.nextInt(staff.size())) : reporter;
+                LocalDateTime commentedAt = createdAt.plusMinutes(random.nextLong(activityMinutes));
+                commentRows.add(new Object[]{uuid(random), ticketId, author.id(), COMMENTS[random.nextInt(COMMENTS.length)],
+                        byStaff && random.nextInt(10) < 3, commentedAt, false});
+                if (commentedAt.isAfter(updatedAt)) {
+                    updatedAt = commentedAt;
+                }
+            }
+
+            ticketRows.add(new Object[]{ticketId, ticketNumber(i), TITLES[category.ordinal()] + " #" + i,
+                    "Ticket généré pour les tests de performance (" + category + ", " + priority + ").",
+                    status, priority, category, reporter.id(),
+                    resolvedAt != null ? "Résolu par le support." : null, resolvedAt, closedAt, createdAt, updatedAt,
+                    lastUpdatedBy.username()});
+            history(eventRows, historyRandom, ticketId, status, priority, category, reporter, lastUpdatedBy,
+                    createdAt, resolvedAt, closedAt, now);
+        }
+
+        inserter.insert("tickets", TICKET_COLUMNS, ticketRows);
+        inserter.insert("ticket_comments", COMMENT_COLUMNS, commentRows);
+        inserter.insert("ticket_status_events", EVENT_COLUMNS, eventRows);
+        return commentRows.size();
+    }
+
+    /**
+     * Status transitions leading to the ticket's status: created, picked up by the agent (before its resolution),
+     * resolved, then closed by its reporter; cancelled tickets go straight from PENDING to CANCELLED
+     */
+    private static void history(List<Object[]> rows, SplittableRandom random, UUID ticketId, TicketStatus status,
+                                Priority priority, Category category, Account reporter, Account agent,
+                                LocalDateTime createdAt, LocalDateTime resolvedAt, LocalDateTime closedAt,
+                                LocalDateTime now) {
+        rows.add(event(random, ticketId, null, TicketStatus.PENDING, priority, category, reporter, createdAt, null));
+        if (status == TicketStatus.PENDING) {
+            return;
+        }
+        if (status == TicketStatus.CANCELLED) {
+            rows.add(event(random, ticketId, TicketStatus.PENDING, status, priority, category, agent, closedAt, null));
+            return;
+        }
+
+        LocalDateTime end = resolvedAt != null ? resolvedAt : now;
+        long span = Math.max(1, ChronoUnit.SECONDS.between(createdAt, end) / 2);
+        // Always after the creation (a tie would blur the event order) and within the first half of the span,
+        // hence before the resolution (at least a minute after the creation)
+        LocalDateTime pickedUpAt = createdAt.plusSeconds(1 + random.nextLong(span));
+        rows.add(event(random, ticketId, TicketStatus.PENDING, TicketStatus.IN_PROGRESS, priority, category, agent,
+                pickedUpAt, null));
+        if (resolvedAt == null) {
+            return;
+        }
+        rows.add(event(random, ticketId, TicketStatus.IN_PROGRESS, TicketStatus.RESOLVED, priority, category, agent,
+                resolvedAt, ChronoUnit.SECONDS.between(createdAt, resolvedAt)));
+        if (closedAt != null) {
+            rows.add(event(random, ticketId, TicketStatus.RESOLVED, TicketStatus.CLOSED, priority, category, reporter,
+                    closedAt, null));
+        }
+    }
+
+    private static Object[] event(SplittableRandom random, UUID ticketId, TicketStatus from, TicketStatus to,
+                                  Priority priority, Category category, Account by, LocalDateTime at,
+                                  Long resolutionSeconds) {
+        return new Object[]{uuid(random), ticketId, from, to, priority, category, by.username(), at, resolutionSeconds};
+    }
+
+    /**
+     * Recent days weigh more than old ones (half of the tickets in the last quarter of the history),
+     * 80% during office hours, weekend tickets mostly moved to the Friday
+     */
+    private LocalDateTime createdAt(SplittableRandom random, LocalDateTime now) {
+        double age = Math.pow(random.nextDouble(), 2);
+        LocalDateTime day = now.minusMinutes((long) (age * historyDays * 24 * 60)).truncatedTo(ChronoUnit.DAYS);
+        DayOfWeek dayOfWeek = day.getDayOfWeek();
+        if ((dayOfWeek == DayOfWeek.SATURDAY || dayOfWeek == DayOfWeek.SUNDAY) && random.nextInt(4) != 0) {
+            day = day.minusDays(dayOfWeek == DayOfWeek.SATURDAY ? 1 : 2);
+        }
+        int hour = random.nextInt(10) < 8 ? 8 + random.nextInt(10) : random.nextInt(24);
+        return min(day.plusHours(hour).plusMinutes(random.nextInt(60)).plusSeconds(random.nextInt(60)), now);
+    }
+
+    // ========== HELPERS ==========
+
+    @FunctionalInterface
+    private interface ChunkWriter {
+        long write(Inserter inserter) throws SQLException;
+    }
+
+    /**
+     * BulkInserter bound to the connection of the current transaction
+     */
+    private record Inserter(Connection connection, BulkInserter bulk) {
+        void insert(String table, List<String> columns, List<Object[]> rows) throws SQLException {
+            bulk.insert(connection, table, columns, rows);
+        }
+    }
+
+    private long inTransaction(ChunkWriter writer) {
+        Long written = transactionTemplate.execute(status -> jdbcTemplate.execute((ConnectionCallback<Long>) connection ->
+                writer.write(new Inserter(connection, BulkInserter.forConnection(connection)))));
+        return written == null ? 0 : written;
+    }
+
+    static String username(int index) {
+        return String.format("%s%07d", USERNAME_PREFIX, index);
+    }
+
+    static String ticketNumber(int index) {
+        return String.format("%s%08d", TICKET_NUMBER_PREFIX, index);
+    }
+
+    private static int pick(SplittableRandom random, int[] weights) {
+        int total = 0;
+        for (int weight : weights) {
+            total += weight;
+        }
+        int draw = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            draw -= weights[i];
+            if (draw < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    // Random-based (not SecureRandom) so the ids are reproducible and cheap; version 4 layout
+    private static UUID uuid(SplittableRandom random) {
+        long most = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long least = (random.nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+        return new UUID(most, least);
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+}
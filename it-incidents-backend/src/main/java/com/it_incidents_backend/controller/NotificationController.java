@@ -0,0 +1,54 @@
+package com.it_incidents_backend.controller;
+
+import com.it_incidents_backend.services.NotificationService;
+import com.it_incidents_backend.util.SecurityUtils;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+@RestController
+@RequestMapping("/api/notifications")
+@RequiredArgsConstructor
+@Tag(
+        name = "Notifications",
+        description = "Server-Sent Events push channel (account status, ticket updates)"
+)
+@SecurityRequirement(name = "bearerAuth")
+public class NotificationController {
+
+    private final NotificationService notificationService;
+
+    /**
+     * Open the notification stream of the current user (Authenticated users)
+     * GET /api/notifications/stream
+     * - Events: connected, account-status, ticket-status, ticket-comment
+     * - Closed by the server after notifications.sse.timeout-ms: clients reconnect
+     */
+    @Operation(
+            summary = "Subscribe to notifications",
+            description = "Server-Sent Events stream: account status changes and ticket status/comment updates.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Stream opened"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated"),
+            @ApiResponse(responseCode = "429", description = "Too many open streams for this user")
+    })
+    @GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream(Authentication authentication, HttpServletResponse response) {
+        // Ask reverse proxies (nginx) not to buffer the stream
+        response.setHeader("X-Accel-Buffering", "no");
+        response.setHeader("Cache-Control", "no-cache");
+        return notificationService.subscribe(
+                SecurityUtils.getUserId(authentication),
+                SecurityUtils.getUserRole(authentication));
+    }
+}
@@ -0,0 +1,104 @@
+package com.it_incidents_backend.controller;
+
+import com.it_incidents_backend.configuration.QueryBudget;
+import com.it_incidents_backend.dto.ticket.TicketResolutionStatsResponse;
+import com.it_incidents_backend.dto.ticket.TicketVolumeResponse;
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
+import com.it_incidents_backend.services.TicketAnalyticsService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.time.LocalDate;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/tickets/analytics")
+@RequiredArgsConstructor
+@Tag(
+        name = "Ticket analytics",
+        description = "Reporting endpoints served from precomputed aggregates or grouped queries"
+)
+@SecurityRequirement(name = "bearerAuth")
+public class TicketAnalyticsController {
+
+    private final TicketAnalyticsService analyticsService;
+
+    /**
+     * Resolution times per day (ADMIN only)
+     * GET /api/tickets/analytics/resolution?from=2026-01-01&to=2026-01-31&priority=HIGH&category=NETWORK
+     */
+    @Operation(
+            summary = "(ADMIN) Get resolution times",
+            description = "Admin only: count, mean, p50/p90/p95 and max time from creation to resolution of the "
+                    + "tickets resolved between from and to (inclusive, default: the last 30 days), per day and by "
+                    + "priority/category. Read from daily aggregates, not from the tickets.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Resolution times retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @GetMapping("/resolution")
+    @PreAuthorize("hasRole('ADMIN')")
+    @QueryBudget(1)
+    public ResponseEntity<TicketResolutionStatsResponse> getResolutionStats(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Category category
+    ) {
+        return ResponseEntity.ok(analyticsService.getResolutionStats(from, to, priority, category));
+    }
+
+    /**
+     * Tickets created/resolved/closed per hour, day or week (ADMIN only)
+     * GET /api/tickets/analytics/volume?interval=DAY&from=2026-01-01&to=2026-01-31&groupBy=PRIORITY
+     */
+    @Operation(
+            summary = "(ADMIN) Get ticket volume time series",
+            description = "Admin only: number of tickets created, resolved and closed per bucket (HOUR, DAY or WEEK "
+                    + "starting on Monday) between from and to (inclusive, default: the last 30 days), optionally "
+                    + "broken down by PRIORITY or CATEGORY. Counted by the database: no ticket is transferred.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Time series retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid date range or too many buckets"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @GetMapping("/volume")
+    @PreAuthorize("hasRole('ADMIN')")
+    @QueryBudget(1)
+    public ResponseEntity<TicketVolumeResponse> getVolume(
+            @RequestParam(defaultValue = "DAY") TicketVolumeResponse.Interval interval,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) TicketVolumeResponse.Dimension groupBy
+    ) {
+        return ResponseEntity.ok(analyticsService.getVolume(interval, from, to, groupBy));
+    }
+
+    /**
+     * Recompute the resolution aggregates from the status history (ADMIN only)
+     * POST /api/tickets/analytics/resolution/rebuild
+     */
+    @Operation(
+            summary = "(ADMIN) Rebuild resolution aggregates",
+            description = "Admin only: recomputes the daily resolution aggregates from the status history, "
+                    + "e.g. after a bulk load or manual changes in the database.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Aggregates rebuilt"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @PostMapping("/resolution/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Map<String, Long>> rebuildResolutionStats() {
+        return ResponseEntity.ok(Map.of("resolutions", analyticsService.rebuildResolutionStats()));
+    }
+}
@@ -1,11 +1,16 @@
 package com.it_incidents_backend.controller;
 
+import com.it_incidents_backend.configuration.QueryBudget;
 import com.it_incidents_backend.dto.ticket.*;
+import com.it_incidents_backend.entities.Category;
 import com.it_incidents_backend.entities.Priority;
 import com.it_incidents_backend.entities.Role;
 import com.it_incidents_backend.entities.TicketStatus;
 import com.it_incidents_backend.entities.User;
 import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.services.TicketAnalyticsService;
+import com.it_incidents_backend.services.TicketExportService;
+import com.it_incidents_backend.services.TicketSearchService;
 import com.it_incidents_backend.services.TicketService;
 import com.it_incidents_backend.util.SecurityUtils;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,16 +20,25 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import com.it_incidents_backend.repository.UserRepository;
 
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
@@ -39,6 +53,9 @@ import java.util.UUID;
 public class TicketController {
 
     private final TicketService ticketService;
+    private final TicketSearchService ticketSearchService;
+    private final TicketExportService ticketExportService;
+    private final TicketAnalyticsService ticketAnalyticsService;
     private final UserRepository userRepository;
 
     /**
@@ -105,6 +122,26 @@ public class TicketController {
         return ResponseEntity.ok(tickets);
     }
 
+    /**
+     * Get one page of tickets - PUBLIC (limited info)
+     * GET /api/tickets/page?cursor=...&size=20
+     */
+    @Operation(
+            summary = "(ALL) Get a page of tickets",
+            description = "Public endpoint: keyset-paginated tickets, most recent first. "
+                    + "Pass nextCursor from the previous page as cursor to continue.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size")
+    })
+    @GetMapping("/page")
+    public ResponseEntity<TicketPageResponse<TicketResponse>> getTicketsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(ticketService.getTicketsPage(cursor, size));
+    }
+
     /**
      * Get all tickets for ADMIN (includes creator username)
      * GET /api/tickets/admin
@@ -124,11 +161,109 @@ public class TicketController {
     })
     @GetMapping("/admin")
     @PreAuthorize("hasRole('ADMIN')")
+    @QueryBudget(1)
     public ResponseEntity<List<TicketAdminResponse>> getAllTicketsForAdmin() {
         List<TicketAdminResponse> tickets = ticketService.getAllTicketsForAdmin();
         return ResponseEntity.ok(tickets);
     }
 
+    /**
+     * Get one page of tickets for ADMIN (includes creator username)
+     * GET /api/tickets/admin/page?cursor=...&size=20
+     */
+    @Operation(
+            summary = "(ADMIN) Get a page of tickets",
+            description = "Admin only: keyset-paginated tickets with creator info, most recent first.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @GetMapping("/admin/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    @QueryBudget(1)
+    public ResponseEntity<TicketPageResponse<TicketAdminResponse>> getTicketsPageForAdmin(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(ticketService.getTicketsPageForAdmin(cursor, size));
+    }
+
+    /**
+     * Full ticket dump for ADMIN (audit), streamed as it is read
+     * GET /api/tickets/admin/export?format=CSV&gzip=true
+     */
+    @Operation(
+            summary = "(ADMIN) Export all tickets",
+            description = "Admin only: every ticket with creator username and comment count, oldest first, "
+                    + "as CSV or NDJSON (optionally gzip). Streamed: no size limit.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Export streamed"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "503", description = "Too many exports in progress")
+    })
+    @GetMapping("/admin/export")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportTickets(
+            @RequestParam(defaultValue = "CSV") TicketExportService.Format format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            HttpServletRequest request
+    ) {
+        TicketExportService.ExportBody body = ticketExportService.export(format, gzip);
+        // Frees the export slot even if the request ends before the body runs
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(TicketExportService.ExportBody.class.getName(), body);
+
+        String filename = "tickets-" + LocalDate.now() + "." + format.getExtension() + (gzip ? ".gz" : "");
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(gzip ? "application/gzip" : format.getContentType()))
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(filename)
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    /**
+     * Full-text search over tickets for ADMIN, ranked by relevance
+     * GET /api/tickets/search?q=printer -toner&status=PENDING&page=0&size=20
+     */
+    @Operation(
+            summary = "(ADMIN) Search tickets",
+            description = "Admin only: ranked full-text search over title, description, resolution and comments. "
+                    + "Supports web search syntax (\"exact phrase\", -excluded, or) and optional filters.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Search results retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Missing query or invalid paging/filters"),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "501", description = "Full-text search not available on this database")
+    })
+    @GetMapping("/search")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TicketSearchResponse> searchTickets(
+            @RequestParam("q") String query,
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Category category,
+            @RequestParam(required = false) UUID createdBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(defaultValue = "true") boolean includeComments,
+            @RequestParam(required = false) Integer page,
+            @RequestParam(required = false) Integer size
+    ) {
+        TicketSearchCriteria criteria = TicketSearchCriteria.builder()
+                .query(query)
+                .status(status)
+                .priority(priority)
+                .category(category)
+                .createdById(createdBy)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .includeComments(includeComments)
+                .build();
+        return ResponseEntity.ok(ticketSearchService.search(criteria, page, size));
+    }
+
     /**
      * Get ticket by ID (Authenticated users)
      * - USER: Can only see their own tickets
@@ -152,6 +287,7 @@ public class TicketController {
             @ApiResponse(responseCode = "404", description = "Ticket not found")
     })
     @GetMapping("/{id}")
+    @QueryBudget(1)
     public ResponseEntity<TicketDetailResponse> getTicketById(
             @PathVariable UUID id,
             Authentication authentication
@@ -163,6 +299,32 @@ public class TicketController {
         return ResponseEntity.ok(ticket);
     }
 
+    /**
+     * Get the status history of a ticket (ADMIN only)
+     * GET /api/tickets/{id}/history
+     */
+    @Operation(
+            summary = "(ADMIN) Get ticket status history",
+            description = "Admin only: status transitions of the ticket, oldest first, and the time spent in each status.")
+    @ApiResponses({
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "History retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            schema = @Schema(implementation = TicketStatusHistoryResponse.class)
+                    )
+            ),
+            @ApiResponse(responseCode = "403", description = "Access denied"),
+            @ApiResponse(responseCode = "404", description = "Ticket not found")
+    })
+    @GetMapping("/{id}/history")
+    @PreAuthorize("hasRole('ADMIN')")
+    @QueryBudget(2)
+    public ResponseEntity<TicketStatusHistoryResponse> getTicketHistory(@PathVariable UUID id) {
+        return ResponseEntity.ok(ticketAnalyticsService.getStatusHistory(id));
+    }
+
     /**
      * Get current user's tickets
      * GET /api/tickets/my
@@ -182,6 +344,7 @@ public class TicketController {
             @ApiResponse(responseCode = "401", description = "User not authenticated")
     })
     @GetMapping("/my")
+    @QueryBudget(3)
     public ResponseEntity<List<TicketDetailResponse>> getMyTickets(
             Authentication authentication
     ) {
@@ -190,6 +353,29 @@ public class TicketController {
         return ResponseEntity.ok(tickets);
     }
 
+    /**
+     * Get one page of the current user's tickets
+     * GET /api/tickets/my/page?cursor=...&size=20
+     */
+    @Operation(
+            summary = "Get a page of current user's tickets",
+            description = "Authenticated user: keyset-paginated own tickets, most recent first.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+            @ApiResponse(responseCode = "401", description = "User not authenticated")
+    })
+    @GetMapping("/my/page")
+    @QueryBudget(2)
+    public ResponseEntity<TicketPageResponse<TicketDetailResponse>> getMyTicketsPage(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size,
+            Authentication authentication
+    ) {
+        UUID userId = SecurityUtils.getUserId(authentication);
+        return ResponseEntity.ok(ticketService.getMyTicketsPage(userId, cursor, size));
+    }
+
     /**
      * Update ticket status (ADMIN only)
      * PUT /api/tickets/{id}/status
@@ -278,6 +464,47 @@ public class TicketController {
         return ResponseEntity.ok(stats);
     }
 
+    /**
+     * Get one page of tickets matching any combination of filters (ADMIN only)
+     * GET /api/tickets/filter?status=PENDING&priority=HIGH&createdFrom=2026-01-01T00:00:00&cursor=...&size=20
+     */
+    @Operation(
+            summary = "(ADMIN) Filter tickets",
+            description = "Admin only: keyset-paginated tickets matching every filter given "
+                    + "(status, priority, category, creator, created/resolved date ranges), most recent first.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor, page size or date range"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @GetMapping("/filter")
+    @PreAuthorize("hasRole('ADMIN')")
+    @QueryBudget(1)
+    public ResponseEntity<TicketPageResponse<TicketAdminResponse>> filterTickets(
+            @RequestParam(required = false) TicketStatus status,
+            @RequestParam(required = false) Priority priority,
+            @RequestParam(required = false) Category category,
+            @RequestParam(required = false) UUID createdBy,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime createdTo,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime resolvedFrom,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime resolvedTo,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        TicketFilterRequest filter = TicketFilterRequest.builder()
+                .status(status)
+                .priority(priority)
+                .category(category)
+                .createdById(createdBy)
+                .createdFrom(createdFrom)
+                .createdTo(createdTo)
+                .resolvedFrom(resolvedFrom)
+                .resolvedTo(resolvedTo)
+                .build();
+        return ResponseEntity.ok(ticketService.getFilteredTicketsPage(filter, cursor, size));
+    }
+
     /**
      * Get tickets by status (ADMIN only)
      * GET /api/tickets/filter/status/{status}
@@ -307,6 +534,28 @@ public class TicketController {
         return ResponseEntity.ok(tickets);
     }
 
+    /**
+     * Get one page of tickets by status (ADMIN only)
+     * GET /api/tickets/filter/status/{status}/page?cursor=...&size=20
+     */
+    @Operation(
+            summary = "(ADMIN) Get a page of tickets by status",
+            description = "Admin only: keyset-paginated tickets with the given status.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @GetMapping("/filter/status/{status}/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TicketPageResponse<TicketResponse>> getTicketsByStatusPage(
+            @PathVariable TicketStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(ticketService.getTicketsByStatusPage(status, cursor, size));
+    }
+
     /**
      * Get tickets by priority (ADMIN only)
      * GET /api/tickets/filter/priority/{priority}
@@ -335,6 +584,28 @@ public class TicketController {
         return ResponseEntity.ok(tickets);
     }
 
+    /**
+     * Get one page of tickets by priority (ADMIN only)
+     * GET /api/tickets/filter/priority/{priority}/page?cursor=...&size=20
+     */
+    @Operation(
+            summary = "(ADMIN) Get a page of tickets by priority",
+            description = "Admin only: keyset-paginated tickets with the given priority.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Page retrieved successfully"),
+            @ApiResponse(responseCode = "400", description = "Invalid cursor or page size"),
+            @ApiResponse(responseCode = "403", description = "Access denied")
+    })
+    @GetMapping("/filter/priority/{priority}/page")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TicketPageResponse<TicketResponse>> getTicketsByPriorityPage(
+            @PathVariable Priority priority,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size
+    ) {
+        return ResponseEntity.ok(ticketService.getTicketsByPriorityPage(priority, cursor, size));
+    }
+
 //    // Helper methods to extract user info from JWT
 //    private Long extractUserId(Authentication authentication) {
 //        // TODO: Extract userId from JWT claims
@@ -12,11 +12,15 @@
     import io.swagger.v3.oas.annotations.tags.Tag;
     import org.springframework.beans.factory.annotation.Autowired;
     import org.springframework.data.domain.Page;
+    import org.springframework.http.HttpHeaders;
+    import org.springframework.http.MediaType;
     import org.springframework.http.ResponseEntity;
     import org.springframework.security.access.prepost.PreAuthorize;
     import org.springframework.web.bind.annotation.*;
 
+    import java.io.InputStream;
     import java.util.HashMap;
+    import java.util.List;
     import java.util.Map;
     import java.util.UUID;
     
@@ -129,6 +133,58 @@
             return userServices.createUser(userCreateRequest);
         }
     
+        @Operation(
+                summary = "(ADMIN) Create several users",
+                description = "Admin creates up to users.batch.max-size users in one request. " +
+                        "Invalid rows (duplicate login, weak password...) are reported, the others are created."
+        )
+        @ApiResponses({
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Batch processed",
+                        content = @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = UserBatchCreateResponse.class)
+                        )
+                ),
+                @ApiResponse(responseCode = "400", description = "Empty or too large batch"),
+                @ApiResponse(responseCode = "403", description = "Access denied")
+        })
+        @PostMapping("/batch")
+        @PreAuthorize("hasRole('ADMIN')")
+        UserBatchCreateResponse createUsers(
+                @RequestBody List<UserCreateRequest> userCreateRequests
+        ) {
+            return userServices.createUsers(userCreateRequests);
+        }
+    
+        @Operation(
+                summary = "(ADMIN) Import users from a file",
+                description = "Streams a CSV (text/csv, header row with the user fields) or NDJSON " +
+                        "(application/x-ndjson, one user per line) body. Rows are created chunk by chunk; " +
+                        "invalid rows are reported without stopping the import."
+        )
+        @ApiResponses({
+                @ApiResponse(
+                        responseCode = "200",
+                        description = "Import processed",
+                        content = @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = UserImportResponse.class)
+                        )
+                ),
+                @ApiResponse(responseCode = "403", description = "Access denied"),
+                @ApiResponse(responseCode = "415", description = "Unsupported file format")
+        })
+        @PostMapping(value = "/import", consumes = {"text/csv", MediaType.APPLICATION_NDJSON_VALUE})
+        @PreAuthorize("hasRole('ADMIN')")
+        UserImportResponse importUsers(
+                InputStream body,
+                @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType
+        ) {
+            return userServices.importUsers(body, contentType);
+        }
+    
         @Operation(
                 summary = "(ADMIN) Update user",
                 description = "Updates a user profile by ID. Accessible only by administrators."
@@ -0,0 +1,18 @@
+package com.it_incidents_backend.dto.notification;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Payload of the "account-status" event: same error codes as the JWT filter 403 responses
+ * (ACCOUNT_DISABLED, ACCOUNT_DELETED, ACCOUNT_LOCKED, ACCOUNT_NOT_APPROVED, ACCOUNT_NOT_FOUND)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AccountStatusNotification {
+    private String reason;
+}
@@ -0,0 +1,29 @@
+package com.it_incidents_backend.dto.notification;
+
+import com.it_incidents_backend.entities.TicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Payload of "ticket-status" and "ticket-comment" events pushed on /api/notifications/stream
+ * - Light on purpose: clients refetch the ticket if they display it
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketNotification {
+    private UUID ticketId;
+    private String ticketNumber;
+    private TicketStatus previousStatus; // ticket-status only (null on creation)
+    private TicketStatus status;         // ticket-status only
+    private UUID commentId;              // ticket-comment only
+    private boolean internal;            // ticket-comment only (admins only)
+    private String actor;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,27 @@
+package com.it_incidents_backend.dto.ticket;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * Resolution times (ticket creation to resolution) of a set of resolved tickets, in seconds.
+ * Percentiles are estimated from log-scale buckets (see TicketResolutionDaily); null when nothing was resolved.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ResolutionTimeStats {
+    // Day of resolution (null for a whole range)
+    private LocalDate day;
+    private long resolvedCount;
+    private Long meanSeconds;
+    private Long p50Seconds;
+    private Long p90Seconds;
+    private Long p95Seconds;
+    private Long maxSeconds;
+}
@@ -0,0 +1,29 @@
+package com.it_incidents_backend.dto.ticket;
+
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
+import com.it_incidents_backend.entities.TicketStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One line of the ticket export, read straight from the query (no entity loaded)
+ *
+ * @param commentCount all comments of the ticket, internal notes included
+ */
+public record TicketExportRow(
+        UUID id,
+        String ticketNumber,
+        String title,
+        TicketStatus status,
+        Priority priority,
+        Category category,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        LocalDateTime resolvedAt,
+        LocalDateTime closedAt,
+        String createdByUsername,
+        long commentCount
+) {
+}
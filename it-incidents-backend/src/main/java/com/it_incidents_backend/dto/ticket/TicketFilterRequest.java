@@ -0,0 +1,31 @@
+package com.it_incidents_backend.dto.ticket;
+
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
+import com.it_incidents_backend.entities.TicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Combined ticket filter: every field is optional, set fields are combined with AND
+ * - Date ranges: from inclusive, to exclusive
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketFilterRequest {
+    private TicketStatus status;
+    private Priority priority;
+    private Category category;
+    private UUID createdById;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+    private LocalDateTime resolvedFrom;
+    private LocalDateTime resolvedTo;
+}
@@ -0,0 +1,34 @@
+package com.it_incidents_backend.dto.ticket;
+
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Resolution times of the tickets resolved between from and to (inclusive), optionally for one priority/category
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketResolutionStatsResponse {
+    private LocalDate from;
+    private LocalDate to;
+    private Priority priority;
+    private Category category;
+
+    private ResolutionTimeStats overall;
+    // One entry per day with at least one resolution
+    private List<ResolutionTimeStats> days;
+
+    // Breakdowns over the whole range
+    private Map<Priority, ResolutionTimeStats> byPriority;
+    private Map<Category, ResolutionTimeStats> byCategory;
+}
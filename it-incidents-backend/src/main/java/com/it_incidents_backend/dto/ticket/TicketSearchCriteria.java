@@ -0,0 +1,32 @@
+package com.it_incidents_backend.dto.ticket;
+
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
+import com.it_incidents_backend.entities.TicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Full-text search: query text + optional filters (all combined with AND)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketSearchCriteria {
+    private String query;            // Web search syntax: words, "exact phrase", -excluded, or
+    private TicketStatus status;
+    private Priority priority;
+    private Category category;
+    private UUID createdById;
+    private LocalDateTime createdFrom;
+    private LocalDateTime createdTo;
+
+    @Builder.Default
+    private boolean includeComments = true;
+}
@@ -0,0 +1,15 @@
+package com.it_incidents_backend.dto.ticket;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketSearchHit {
+    private TicketAdminResponse ticket;
+    private double rank; // Higher is more relevant (title > description > resolution > comments)
+}
@@ -0,0 +1,22 @@
+package com.it_incidents_backend.dto.ticket;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of ranked search results (page numbers start at 0)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketSearchResponse {
+    private List<TicketSearchHit> items;
+    private int page;
+    private int size;
+    private boolean hasNext;
+}
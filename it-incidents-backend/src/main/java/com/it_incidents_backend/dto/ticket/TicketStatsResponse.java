@@ -1,10 +1,15 @@
 package com.it_incidents_backend.dto.ticket;
 
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
+import java.util.Map;
+
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -15,4 +20,12 @@ public class TicketStatsResponse {
     private Long inProgressTickets;
     private Long resolvedTickets;
     private Long closedTickets;
+    private Long cancelledTickets;
+
+    // Breakdowns (all statuses)
+    private Map<Priority, Long> ticketsByPriority;
+    private Map<Category, Long> ticketsByCategory;
+
+    // Last full recount of the snapshot (incremental updates applied since)
+    private LocalDateTime generatedAt;
 }
\ No newline at end of file
@@ -0,0 +1,37 @@
+package com.it_incidents_backend.dto.ticket;
+
+import com.it_incidents_backend.entities.TicketStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Status transitions of one ticket and the time it spent in each status (current status counted until now).
+ * Tickets created before the history was recorded have no transitions.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketStatusHistoryResponse {
+    private UUID ticketId;
+    private List<Transition> transitions;
+    private Map<TicketStatus, Long> secondsInStatus;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Transition {
+        private TicketStatus fromStatus;
+        private TicketStatus toStatus;
+        private String changedBy;
+        private LocalDateTime occurredAt;
+    }
+}
@@ -0,0 +1,75 @@
+package com.it_incidents_backend.dto.ticket;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.TemporalAdjusters;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Tickets created, resolved and closed per time bucket, every bucket of the range included (zeros too).
+ * Counts follow the tickets' current timestamps: a reopened ticket no longer counts as resolved.
+ * With a breakdown, each bucket also holds the counts per priority or category (keys without tickets omitted).
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketVolumeResponse {
+    private Interval interval;
+    private Dimension groupBy;
+    private LocalDateTime from; // start of the first bucket
+    private LocalDateTime to;   // end of the last bucket (exclusive)
+    private Counts total;
+    private List<Bucket> buckets;
+
+    public enum Interval {
+        HOUR, DAY, WEEK; // Weeks start on Monday (ISO)
+
+        public LocalDateTime truncate(LocalDateTime time) {
+            return switch (this) {
+                case HOUR -> time.truncatedTo(ChronoUnit.HOURS);
+                case DAY -> time.truncatedTo(ChronoUnit.DAYS);
+                case WEEK -> time.truncatedTo(ChronoUnit.DAYS).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+            };
+        }
+
+        public LocalDateTime next(LocalDateTime bucketStart) {
+            return switch (this) {
+                case HOUR -> bucketStart.plusHours(1);
+                case DAY -> bucketStart.plusDays(1);
+                case WEEK -> bucketStart.plusWeeks(1);
+            };
+        }
+    }
+
+    public enum Dimension {
+        PRIORITY, CATEGORY
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Counts {
+        private long created;
+        private long resolved;
+        private long closed;
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Bucket {
+        private LocalDateTime start;
+        private Counts counts;
+        private Map<String, Counts> breakdown; // null without groupBy
+    }
+}
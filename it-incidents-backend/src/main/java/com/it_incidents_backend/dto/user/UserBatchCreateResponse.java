@@ -0,0 +1,14 @@
+package com.it_incidents_backend.dto.user;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Result of a batch user creation: created users and rejected rows
+ */
+public record UserBatchCreateResponse(
+        int requested,
+        List<UserResponse> created,
+        List<UserBatchError> errors
+    ) implements Serializable {
+}
@@ -0,0 +1,15 @@
+package com.it_incidents_backend.dto.user;
+
+import java.io.Serializable;
+
+/**
+ * Row of a batch creation that was not created
+ *
+ * @param index position of the row in the request (0-based)
+ */
+public record UserBatchError(
+        int index,
+        String username,
+        String message
+    ) implements Serializable {
+}
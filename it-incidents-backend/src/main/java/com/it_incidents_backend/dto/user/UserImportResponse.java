@@ -0,0 +1,19 @@
+package com.it_incidents_backend.dto.user;
+
+import java.io.Serializable;
+import java.util.List;
+
+/**
+ * Result of a user import file
+ *
+ * @param errors first rejected rows (index = data row in the file, 0-based)
+ * @param errorsTruncated true when more rows were rejected than reported
+ */
+public record UserImportResponse(
+        long processed,
+        long created,
+        long failed,
+        List<UserBatchError> errors,
+        boolean errorsTruncated
+    ) implements Serializable {
+}
@@ -12,11 +12,20 @@ import java.util.UUID;
 
 @Entity
 @Table(name = "tickets", indexes = {
-        @Index(name = "idx_status", columnList = "status"),
-        @Index(name = "idx_priority", columnList = "priority"),
-        @Index(name = "idx_created_by", columnList = "created_by_id"),
+        // Filter column first, then the keyset order (created_at, id): equality + range scan, no sort
+        // Each index serves a listed query: every insert and update pays for all of them
+        @Index(name = "idx_tickets_status_created_at", columnList = "status, created_at, id"), // Status page, status filter
+        @Index(name = "idx_tickets_priority_created_at", columnList = "priority, created_at, id"), // Priority page and filter
+        @Index(name = "idx_tickets_category_created_at", columnList = "category, created_at, id"), // Category filter
+        @Index(name = "idx_tickets_created_by_created_at", columnList = "created_by_id, created_at, id"), // My tickets
+        // Status + priority filter (the admin triage view), keyset order included
+        @Index(name = "idx_tickets_status_priority_created_at", columnList = "status, priority, created_at, id"),
         //@Index(name = "idx_assigned_to", columnList = "assigned_to_id"),
-        @Index(name = "idx_created_at", columnList = "created_at")
+        @Index(name = "idx_tickets_created_at_id", columnList = "created_at, id"), // Keyset pagination, created_at ranges
+        @Index(name = "idx_tickets_resolved_at", columnList = "resolved_at"), // resolvedFrom/resolvedTo filter
+        // Volume reports: the CLOSED count is a closed_at range (a full table scan per report without it)
+        // Cheap to keep: null until the ticket is closed, then written once
+        @Index(name = "idx_tickets_closed_at", columnList = "closed_at")
 })
 @Getter
 @Setter
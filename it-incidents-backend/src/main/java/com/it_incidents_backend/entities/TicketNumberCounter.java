@@ -0,0 +1,25 @@
+package com.it_incidents_backend.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Next free ticket number for a given year (INC-YYYY-NNNN).
+ * Numbers are reserved by blocks: the row is only locked once per block, not once per ticket.
+ */
+@Entity
+@Table(name = "ticket_number_counters")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketNumberCounter {
+
+    @Id
+    @Column(name = "counter_year")
+    private Integer year;
+
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
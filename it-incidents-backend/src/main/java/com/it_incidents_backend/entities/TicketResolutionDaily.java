@@ -0,0 +1,96 @@
+package com.it_incidents_backend.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Resolution times of the tickets resolved on one day, for one priority and category.
+ * Updated on every transition to RESOLVED, so reports read a few rows instead of scanning tickets.
+ *
+ * - Count, sum and max give the mean and the worst case
+ * - histogram[i] counts the resolutions of at most BUCKET_UPPER_SECONDS[i] (log scale, last cell = longer):
+ *   percentiles are estimated from it, and rows of several days or keys are merged by adding cells
+ */
+@Entity
+@Table(name = "ticket_resolution_daily", uniqueConstraints = @UniqueConstraint(
+        name = "uk_ticket_resolution_daily", columnNames = {"resolved_on", "priority", "category"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketResolutionDaily {
+
+    // 1m, 5m, 15m, 30m, 1h, 2h, 4h, 8h, 1d, 2d, 4d, 1w, 2w, 30d
+    public static final long[] BUCKET_UPPER_SECONDS = {
+            60, 300, 900, 1_800, 3_600, 7_200, 14_400, 28_800, 86_400, 172_800, 345_600, 604_800, 1_209_600, 2_592_000
+    };
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "resolved_on", nullable = false)
+    private LocalDate resolvedOn;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Priority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private Category category;
+
+    @Column(name = "resolved_count", nullable = false)
+    private long resolvedCount;
+
+    @Column(name = "total_seconds", nullable = false)
+    private long totalSeconds;
+
+    @Column(name = "max_seconds", nullable = false)
+    private long maxSeconds;
+
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(nullable = false)
+    private long[] histogram;
+
+    public static TicketResolutionDaily empty(LocalDate resolvedOn, Priority priority, Category category) {
+        return TicketResolutionDaily.builder()
+                .resolvedOn(resolvedOn)
+                .priority(priority)
+                .category(category)
+                .histogram(new long[BUCKET_UPPER_SECONDS.length + 1])
+                .build();
+    }
+
+    public void record(long seconds) {
+        resolvedCount++;
+        totalSeconds += seconds;
+        maxSeconds = Math.max(maxSeconds, seconds);
+        histogram[bucket(seconds)]++;
+    }
+
+    /**
+     * Replace the totals of this row with those of a recomputed one (same key)
+     */
+    public void replaceTotals(TicketResolutionDaily recomputed) {
+        resolvedCount = recomputed.resolvedCount;
+        totalSeconds = recomputed.totalSeconds;
+        maxSeconds = recomputed.maxSeconds;
+        histogram = recomputed.histogram.clone();
+    }
+
+    public static int bucket(long seconds) {
+        for (int i = 0; i < BUCKET_UPPER_SECONDS.length; i++) {
+            if (seconds <= BUCKET_UPPER_SECONDS[i]) {
+                return i;
+            }
+        }
+        return BUCKET_UPPER_SECONDS.length;
+    }
+}
@@ -0,0 +1,62 @@
+package com.it_incidents_backend.entities;
+
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One status transition of a ticket (creation included), appended in the transaction that makes it.
+ * Never updated nor deleted: the ticket row only keeps its latest status and timestamps.
+ *
+ * - ticket_id is a plain column (no foreign key): the history outlives the ticket
+ * - Priority and category as they were at the time of the transition
+ */
+@Entity
+@Immutable
+@Table(name = "ticket_status_events", indexes = {
+        @Index(name = "idx_ticket_status_events_ticket", columnList = "ticket_id, occurred_at"),
+        @Index(name = "idx_ticket_status_events_occurred_at", columnList = "occurred_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class TicketStatusEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    @Column(name = "ticket_id", nullable = false)
+    private UUID ticketId;
+
+    // null for the creation event
+    @Enumerated(EnumType.STRING)
+    @Column(name = "from_status", length = 20)
+    private TicketStatus fromStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "to_status", nullable = false, length = 20)
+    private TicketStatus toStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Priority priority;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 50)
+    private Category category;
+
+    @Column(name = "changed_by")
+    private String changedBy;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // Time from ticket creation to this resolution, only on transitions to RESOLVED
+    @Column(name = "resolution_seconds")
+    private Long resolutionSeconds;
+}
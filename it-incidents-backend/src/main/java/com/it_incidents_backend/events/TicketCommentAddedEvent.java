@@ -0,0 +1,20 @@
+package com.it_incidents_backend.events;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published when a comment is added to a ticket (CommentService, or TicketService for the comment of a rejected resolution).
+ *
+ * @param internal internal notes must only reach admins
+ */
+public record TicketCommentAddedEvent(
+        UUID ticketId,
+        String ticketNumber,
+        UUID ownerId,
+        UUID commentId,
+        String authorUsername,
+        boolean internal,
+        LocalDateTime createdAt
+) {
+}
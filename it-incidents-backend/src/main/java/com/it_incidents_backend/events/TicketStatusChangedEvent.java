@@ -0,0 +1,27 @@
+package com.it_incidents_backend.events;
+
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
+import com.it_incidents_backend.entities.TicketStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Published by TicketService whenever a ticket is created or changes status.
+ * Listeners that need committed data use @TransactionalEventListener(AFTER_COMMIT).
+ *
+ * @param previousStatus null when the ticket has just been created
+ */
+public record TicketStatusChangedEvent(
+        UUID ticketId,
+        String ticketNumber,
+        UUID ownerId,
+        TicketStatus previousStatus,
+        TicketStatus newStatus,
+        Priority priority,
+        Category category,
+        String changedBy,
+        LocalDateTime changedAt
+) {
+}
@@ -1,8 +1,11 @@
 package com.it_incidents_backend.exceptions;
 
 import com.it_incidents_backend.dto.exception.ErrorDto;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseBody;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -41,6 +44,41 @@ public class RestExceptionHandler {
                 .body(new ErrorDto(e.getMessage()));
     }
 
+    /**
+     * Handle saturation of a bounded resource (e.g. password hashing queue full)
+     *
+     * Fails fast with 503 + Retry-After so clients back off instead of holding request threads.
+     *
+     * @param e The ServiceOverloadedException with the suggested retry delay
+     * @return ResponseEntity with 503 status and Retry-After header (seconds)
+     */
+    @ExceptionHandler(ServiceOverloadedException.class)
+    @ResponseBody
+    public ResponseEntity<ErrorDto> handleServiceOverloaded(ServiceOverloadedException e) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(new ErrorDto(e.getMessage()));
+    }
+
+    /**
+     * Handle database saturation (no connection available within the pool timeout)
+     *
+     * The connection pool is the concurrency limit protecting the database: when it is exhausted,
+     * answer quickly with 503 + Retry-After instead of letting requests pile up.
+     *
+     * @param e Connection acquisition failure
+     * @return ResponseEntity with 503 status and a Retry-After hint (seconds)
+     */
+    @ExceptionHandler(value = {CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    @ResponseBody
+    public ResponseEntity<ErrorDto> handleDatabaseUnavailable(Exception e) {
+        return ResponseEntity
+                .status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErrorDto("Service temporarily unavailable, please retry"));
+    }
+
     /**
      * Handle password expiration exceptions
      *
@@ -0,0 +1,17 @@
+package com.it_incidents_backend.exceptions;
+
+import lombok.Getter;
+
+/**
+ * Thrown when a bounded resource (password hashing capacity...) is saturated.
+ * Mapped to 503 Service Unavailable with a Retry-After header.
+ */
+@Getter
+public class ServiceOverloadedException extends RuntimeException {
+    private final long retryAfterSeconds;
+
+    public ServiceOverloadedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
@@ -8,6 +8,7 @@ import com.it_incidents_backend.entities.Ticket;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.MappingConstants;
+import org.mapstruct.Named;
 
 import java.util.List;
 
@@ -21,6 +22,13 @@ public interface TicketMapper {
     @Mapping(target = "commentCount", expression = "java(ticket.getComments() != null ? ticket.getComments().size() : 0)")
     TicketDetailResponse toDetailResponse(Ticket ticket);
 
+    // Entity → Detailed Response without touching the comments collection
+    // (comments are batch-loaded by the service to avoid one query per ticket)
+    @Named("detailWithoutComments")
+    @Mapping(target = "comments", ignore = true)
+    @Mapping(target = "commentCount", ignore = true)
+    TicketDetailResponse toDetailResponseWithoutComments(Ticket ticket);
+
     // Entity → Admin Response (avec username)
     @Mapping(target = "createdByUsername", expression = "java(ticket.getCreatedBy() != null ? ticket.getCreatedBy().getUsername() : null)")
     TicketAdminResponse toAdminResponse(Ticket ticket);
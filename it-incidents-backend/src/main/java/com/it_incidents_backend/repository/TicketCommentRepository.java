@@ -3,11 +3,13 @@ package com.it_incidents_backend.repository;
 import com.it_incidents_backend.entities.Ticket;
 import com.it_incidents_backend.entities.TicketComment;
 import com.it_incidents_backend.entities.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,12 +17,14 @@ import java.util.UUID;
 public interface TicketCommentRepository extends JpaRepository<TicketComment, UUID> {
 
     // Find all comments for a specific ticket (ordered by creation date, newest first)
+    @EntityGraph(attributePaths = "author")
     List<TicketComment> findByTicketOrderByCreatedAtDesc(Ticket ticket);
 
     // Find all comments by a specific author
     List<TicketComment> findByAuthorOrderByCreatedAtDesc(User author);
 
     // Find public comments only for a ticket (exclude internal notes)
+    @EntityGraph(attributePaths = "author")
     List<TicketComment> findByTicketAndIsInternalFalseOrderByCreatedAtDesc(Ticket ticket);
 
     // Find internal comments only for a ticket (admin notes)
@@ -39,4 +43,8 @@ public interface TicketCommentRepository extends JpaRepository<TicketComment, UU
     // Find public comments for a ticket by ID
     @Query("SELECT c FROM TicketComment c WHERE c.ticket.id = :ticketId AND c.isInternal = false ORDER BY c.createdAt DESC")
     List<TicketComment> findPublicCommentsByTicketId(@Param("ticketId") Long ticketId);
-}
\ No newline at end of file
+
+    // Comments of several tickets with their authors, in one query (batch loading for listings)
+    @Query("SELECT c FROM TicketComment c JOIN FETCH c.author WHERE c.ticket.id IN :ticketIds ORDER BY c.createdAt DESC")
+    List<TicketComment> findWithAuthorByTicketIdIn(@Param("ticketIds") Collection<UUID> ticketIds);
+}
@@ -0,0 +1,20 @@
+package com.it_incidents_backend.repository;
+
+import com.it_incidents_backend.entities.TicketNumberCounter;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface TicketNumberCounterRepository extends JpaRepository<TicketNumberCounter, Integer> {
+
+    // Lock the counter row of a year while a block of numbers is reserved (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT c FROM TicketNumberCounter c WHERE c.year = :year")
+    Optional<TicketNumberCounter> findForUpdate(@Param("year") Integer year);
+}
@@ -1,21 +1,33 @@
 package com.it_incidents_backend.repository;
 
+import com.it_incidents_backend.dto.ticket.TicketExportRow;
 import com.it_incidents_backend.entities.Priority;
 import com.it_incidents_backend.entities.Ticket;
 import com.it_incidents_backend.entities.TicketStatus;
 import com.it_incidents_backend.entities.User;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface TicketRepository extends JpaRepository<Ticket, UUID> {
+public interface TicketRepository extends JpaRepository<Ticket, UUID>, JpaSpecificationExecutor<Ticket> {
 
     // Find ticket by ticket number
     Optional<Ticket> findByTicketNumber(String ticketNumber);
@@ -23,7 +35,8 @@ public interface TicketRepository extends JpaRepository<Ticket, UUID> {
     // Check if ticket number already exists
     boolean existsByTicketNumber(String ticketNumber);
 
-    // Find all tickets created by a specific user
+    // Find all tickets created by a specific user (creator fetched in the same query)
+    @EntityGraph(attributePaths = "createdBy")
     List<Ticket> findByCreatedByOrderByCreatedAtDesc(User createdBy);
 
     // Find tickets by status
@@ -35,6 +48,14 @@ public interface TicketRepository extends JpaRepository<Ticket, UUID> {
     // Find all tickets ordered by creation date (most recent first)
     List<Ticket> findAllByOrderByCreatedAtDesc();
 
+    // Same, with the creator fetched in the same query (admin listing shows the username)
+    @Query("SELECT t FROM Ticket t JOIN FETCH t.createdBy ORDER BY t.createdAt DESC")
+    List<Ticket> findAllWithCreatorOrderByCreatedAtDesc();
+
+    // Ticket with creator, comments and comment authors in one query (detail view)
+    @EntityGraph(attributePaths = {"createdBy", "comments", "comments.author"})
+    Optional<Ticket> findWithDetailsById(UUID id);
+
     // Find tickets by status for a specific user
     List<Ticket> findByCreatedByAndStatusOrderByCreatedAtDesc(User createdBy, TicketStatus status);
 
@@ -44,7 +65,7 @@ public interface TicketRepository extends JpaRepository<Ticket, UUID> {
     // Count tickets created by a user
     long countByCreatedBy(User createdBy);
 
-    // Find tickets created within a date range
+    // Find tickets created within a date range (to count them per period: TicketVolumeRepository)
     @Query("SELECT t FROM Ticket t WHERE t.createdAt BETWEEN :startDate AND :endDate ORDER BY t.createdAt DESC")
     List<Ticket> findByCreatedAtBetween(@Param("startDate") LocalDateTime startDate,
                                         @Param("endDate") LocalDateTime endDate);
@@ -57,7 +78,50 @@ public interface TicketRepository extends JpaRepository<Ticket, UUID> {
     @Query("SELECT t.status, COUNT(t) FROM Ticket t GROUP BY t.status")
     List<Object[]> getTicketStatsByStatus();
 
-    // Find recent tickets (last 7 days)
+    // Load a set of tickets with their creator (search results)
+    @EntityGraph(attributePaths = "createdBy")
+    List<Ticket> findWithCreatorByIdIn(Collection<UUID> ids);
+
+    // Highest number already issued for a prefix (e.g. "INC-2026-"), used to seed a new year counter
+    @Query("SELECT MAX(CAST(SUBSTRING(t.ticketNumber, LENGTH(:prefix) + 1) AS Long)) FROM Ticket t WHERE t.ticketNumber LIKE CONCAT(:prefix, '%')")
+    Long findMaxNumberWithPrefix(@Param("prefix") String prefix);
+
+    // Ticket counts per (status, priority, category) in one grouped query (dashboard statistics)
+    @Query("SELECT t.status, t.priority, t.category, COUNT(t) FROM Ticket t GROUP BY t.status, t.priority, t.category")
+    List<Object[]> countGroupedByStatusPriorityCategory();
+
+    // Find recent tickets (last 7 days; counts per period: TicketVolumeRepository)
     @Query("SELECT t FROM Ticket t WHERE t.createdAt >= :date ORDER BY t.createdAt DESC")
     List<Ticket> findRecentTickets(@Param("date") LocalDateTime date);
-}
\ No newline at end of file
+
+    // ========== EXPORT ==========
+
+    /**
+     * Every ticket as a flat export row, oldest first, read through a forward-only cursor
+     * - fetch size bounds the rows held by the driver (PostgreSQL streams only inside a transaction)
+     * - DTO projection: nothing enters the persistence context, memory stays constant
+     * - Order follows idx_tickets_created_at_id (no sort), comment counts from idx_ticket_id
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.it_incidents_backend.dto.ticket.TicketExportRow(" +
+            "t.id, t.ticketNumber, t.title, t.status, t.priority, t.category, " +
+            "t.createdAt, t.updatedAt, t.resolvedAt, t.closedAt, u.username, " +
+            "(SELECT COUNT(c) FROM TicketComment c WHERE c.ticket = t)) " +
+            "FROM Ticket t JOIN t.createdBy u ORDER BY t.createdAt, t.id")
+    Stream<TicketExportRow> streamExportRows();
+
+    // ========== KEYSET PAGINATION (created_at DESC, id DESC) ==========
+    // Each call reads at most limit + 1 rows, whatever the table size
+
+    Window<Ticket> findAllBy(ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = "createdBy")
+    Window<Ticket> findWithCreatorBy(ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Ticket> findByStatus(TicketStatus status, ScrollPosition position, Sort sort, Limit limit);
+
+    Window<Ticket> findByPriority(Priority priority, ScrollPosition position, Sort sort, Limit limit);
+
+    @EntityGraph(attributePaths = "createdBy")
+    Window<Ticket> findByCreatedById(UUID createdById, ScrollPosition position, Sort sort, Limit limit);
+}
@@ -0,0 +1,36 @@
+package com.it_incidents_backend.repository;
+
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
+import com.it_incidents_backend.entities.TicketResolutionDaily;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface TicketResolutionDailyRepository extends JpaRepository<TicketResolutionDaily, UUID> {
+
+    // Lock the row of a (day, priority, category) while a resolution is added (SELECT ... FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM TicketResolutionDaily r " +
+            "WHERE r.resolvedOn = :day AND r.priority = :priority AND r.category = :category")
+    Optional<TicketResolutionDaily> findForUpdate(@Param("day") LocalDate day,
+                                                  @Param("priority") Priority priority,
+                                                  @Param("category") Category category);
+
+    // Every row locked by the rebuild: resolutions in progress finish first, the next ones wait for it
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM TicketResolutionDaily r")
+    List<TicketResolutionDaily> findAllForUpdate();
+
+    // At most days x priorities x categories rows (unique key resolved_on, priority, category)
+    List<TicketResolutionDaily> findByResolvedOnBetweenOrderByResolvedOn(LocalDate from, LocalDate to);
+}
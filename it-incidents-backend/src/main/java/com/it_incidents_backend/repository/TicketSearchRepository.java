@@ -0,0 +1,165 @@
+package com.it_incidents_backend.repository;
+
+import com.it_incidents_backend.dto.ticket.TicketSearchCriteria;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Pattern;
+
+/**
+ * PostgreSQL full-text search over tickets (and optionally their comments).
+ *
+ * - tickets.search_vector: generated tsvector, weighted title (A) > description (B) > resolution (C)
+ * - ticket_comments.search_vector: generated tsvector over content
+ * - Both covered by GIN indexes, so a search never scans the tables
+ *
+ * Hibernate does not manage these columns (generated by the database, never mapped):
+ * they are created by ensureSearchSchema() at startup.
+ */
+@Repository
+public class TicketSearchRepository {
+
+    // Text search configuration name, inlined in DDL: restrict to plain identifiers
+    private static final Pattern LANGUAGE_PATTERN = Pattern.compile("[a-z_]+");
+
+    // A match in comments counts half as much as the same match in the ticket itself
+    private static final double COMMENT_RANK_WEIGHT = 0.5;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DataSource dataSource;
+    private final String language;
+    private volatile Boolean supported;
+
+    public TicketSearchRepository(DataSource dataSource,
+                                  @Value("${tickets.search.language:french}") String language) {
+        if (!LANGUAGE_PATTERN.matcher(language).matches()) {
+            throw new IllegalArgumentException("Invalid text search language: " + language);
+        }
+        this.dataSource = dataSource;
+        this.language = language;
+    }
+
+    /**
+     * Full-text search needs PostgreSQL (tsvector, GIN); other databases (H2 in tests) are not supported
+     */
+    public boolean isSupported() {
+        Boolean result = supported;
+        if (result == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                result = "PostgreSQL".equalsIgnoreCase(product);
+            } catch (MetaDataAccessException e) {
+                result = false;
+            }
+            supported = result;
+        }
+        return result;
+    }
+
+    /**
+     * Create the generated tsvector columns and their GIN indexes (idempotent)
+     * - The language is fixed when a column is created: changing it later requires dropping the columns
+     */
+    public void ensureSearchSchema() {
+        String config = "'" + language + "'::regconfig";
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+        jdbc.execute("ALTER TABLE tickets ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS ("
+                + "setweight(to_tsvector(" + config + ", coalesce(title, '')), 'A') || "
+                + "setweight(to_tsvector(" + config + ", coalesce(description, '')), 'B') || "
+                + "setweight(to_tsvector(" + config + ", coalesce(resolution, '')), 'C')) STORED");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_tickets_search_vector ON tickets USING GIN (search_vector)");
+
+        jdbc.execute("ALTER TABLE ticket_comments ADD COLUMN IF NOT EXISTS search_vector tsvector GENERATED ALWAYS AS ("
+                + "to_tsvector(" + config + ", coalesce(content, ''))) STORED");
+        jdbc.execute("CREATE INDEX IF NOT EXISTS idx_ticket_comments_search_vector ON ticket_comments USING GIN (search_vector)");
+    }
+
+    /**
+     * Ids of matching tickets, most relevant first (ties: most recent first)
+     */
+    public List<TicketSearchRow> search(TicketSearchCriteria criteria, int offset, int limit) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("language", language);
+        params.put("query", criteria.getQuery());
+
+        StringBuilder sql = new StringBuilder("WITH q AS (SELECT websearch_to_tsquery(CAST(:language AS regconfig), :query) AS query)");
+        if (criteria.isIncludeComments()) {
+            // Two GIN lookups (tickets, comments) merged, instead of an OR that defeats the indexes
+            sql.append(", comment_hits AS (")
+                    .append("SELECT c.ticket_id, MAX(ts_rank_cd(c.search_vector, q.query)) AS rank")
+                    .append(" FROM ticket_comments c, q WHERE c.search_vector @@ q.query GROUP BY c.ticket_id)")
+                    .append(", hits AS (")
+                    .append("SELECT t.id FROM tickets t, q WHERE t.search_vector @@ q.query")
+                    .append(" UNION SELECT ticket_id FROM comment_hits)")
+                    .append(" SELECT t.id, ts_rank_cd(t.search_vector, q.query) + COALESCE(ch.rank, 0) * ")
+                    .append(COMMENT_RANK_WEIGHT).append(" AS rank")
+                    .append(" FROM hits h JOIN tickets t ON t.id = h.id CROSS JOIN q")
+                    .append(" LEFT JOIN comment_hits ch ON ch.ticket_id = t.id")
+                    .append(" WHERE 1 = 1");
+        } else {
+            sql.append(" SELECT t.id, ts_rank_cd(t.search_vector, q.query) AS rank")
+                    .append(" FROM tickets t CROSS JOIN q")
+                    .append(" WHERE t.search_vector @@ q.query");
+        }
+
+        if (criteria.getStatus() != null) {
+            sql.append(" AND t.status = :status");
+            params.put("status", criteria.getStatus().name());
+        }
+        if (criteria.getPriority() != null) {
+            sql.append(" AND t.priority = :priority");
+            params.put("priority", criteria.getPriority().name());
+        }
+        if (criteria.getCategory() != null) {
+            sql.append(" AND t.category = :category");
+            params.put("category", criteria.getCategory().name());
+        }
+        if (criteria.getCreatedById() != null) {
+            sql.append(" AND t.created_by_id = :createdById");
+            params.put("createdById", criteria.getCreatedById());
+        }
+        if (criteria.getCreatedFrom() != null) {
+            sql.append(" AND t.created_at >= :createdFrom");
+            params.put("createdFrom", criteria.getCreatedFrom());
+        }
+        if (criteria.getCreatedTo() != null) {
+            sql.append(" AND t.created_at < :createdTo");
+            params.put("createdTo", criteria.getCreatedTo());
+        }
+
+        sql.append(" ORDER BY rank DESC, t.created_at DESC, t.id DESC LIMIT :limit OFFSET :offset");
+        params.put("limit", limit);
+        params.put("offset", offset);
+
+        Query query = entityManager.createNativeQuery(sql.toString());
+        params.forEach(query::setParameter);
+
+        List<?> rows = query.getResultList();
+        List<TicketSearchRow> result = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            UUID id = columns[0] instanceof UUID uuid ? uuid : UUID.fromString(columns[0].toString());
+            result.add(new TicketSearchRow(id, ((Number) columns[1]).doubleValue()));
+        }
+        return result;
+    }
+
+    public record TicketSearchRow(UUID id, double rank) {
+    }
+}
@@ -0,0 +1,86 @@
+package com.it_incidents_backend.repository;
+
+import com.it_incidents_backend.dto.ticket.TicketFilterRequest;
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
+import com.it_incidents_backend.entities.Ticket;
+import com.it_incidents_backend.entities.TicketStatus;
+import jakarta.persistence.criteria.JoinType;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Reusable ticket predicates for TicketRepository (JpaSpecificationExecutor)
+ * - Each predicate maps to a leading column of a tickets composite index (see Ticket @Table)
+ */
+public final class TicketSpecifications {
+
+    private TicketSpecifications() {
+    }
+
+    /**
+     * All the filters set in the request, combined with AND (no filter = all tickets)
+     */
+    public static Specification<Ticket> matching(TicketFilterRequest filter) {
+        List<Specification<Ticket>> specs = new ArrayList<>();
+        if (filter.getStatus() != null) specs.add(hasStatus(filter.getStatus()));
+        if (filter.getPriority() != null) specs.add(hasPriority(filter.getPriority()));
+        if (filter.getCategory() != null) specs.add(hasCategory(filter.getCategory()));
+        if (filter.getCreatedById() != null) specs.add(createdBy(filter.getCreatedById()));
+        if (filter.getCreatedFrom() != null) specs.add(createdFrom(filter.getCreatedFrom()));
+        if (filter.getCreatedTo() != null) specs.add(createdBefore(filter.getCreatedTo()));
+        if (filter.getResolvedFrom() != null) specs.add(resolvedFrom(filter.getResolvedFrom()));
+        if (filter.getResolvedTo() != null) specs.add(resolvedBefore(filter.getResolvedTo()));
+        return Specification.allOf(specs);
+    }
+
+    /**
+     * Loads the creator in the same query (admin listings show its username)
+     * - No predicate; skipped for count queries, where a fetch join is not allowed
+     */
+    public static Specification<Ticket> fetchCreator() {
+        return (root, query, cb) -> {
+            if (!Long.class.equals(query.getResultType())) {
+                root.fetch("createdBy", JoinType.LEFT);
+            }
+            return null;
+        };
+    }
+
+    public static Specification<Ticket> hasStatus(TicketStatus status) {
+        return (root, query, cb) -> cb.equal(root.get("status"), status);
+    }
+
+    public static Specification<Ticket> hasPriority(Priority priority) {
+        return (root, query, cb) -> cb.equal(root.get("priority"), priority);
+    }
+
+    public static Specification<Ticket> hasCategory(Category category) {
+        return (root, query, cb) -> cb.equal(root.get("category"), category);
+    }
+
+    // Compares the foreign key column: no join on users
+    public static Specification<Ticket> createdBy(UUID userId) {
+        return (root, query, cb) -> cb.equal(root.get("createdBy").get("id"), userId);
+    }
+
+    public static Specification<Ticket> createdFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("createdAt"), from);
+    }
+
+    public static Specification<Ticket> createdBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("createdAt"), to);
+    }
+
+    public static Specification<Ticket> resolvedFrom(LocalDateTime from) {
+        return (root, query, cb) -> cb.greaterThanOrEqualTo(root.get("resolvedAt"), from);
+    }
+
+    public static Specification<Ticket> resolvedBefore(LocalDateTime to) {
+        return (root, query, cb) -> cb.lessThan(root.get("resolvedAt"), to);
+    }
+}
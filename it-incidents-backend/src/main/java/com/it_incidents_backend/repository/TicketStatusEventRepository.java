@@ -0,0 +1,26 @@
+package com.it_incidents_backend.repository;
+
+import com.it_incidents_backend.entities.TicketStatusEvent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface TicketStatusEventRepository extends JpaRepository<TicketStatusEvent, UUID> {
+
+    // Status history of one ticket, oldest first (index ticket_id, occurred_at)
+    List<TicketStatusEvent> findByTicketIdOrderByOccurredAtAsc(UUID ticketId);
+
+    // Every resolution (occurred_at, priority, category, resolution_seconds), read from a cursor to rebuild the aggregates
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT e.occurredAt, e.priority, e.category, e.resolutionSeconds FROM TicketStatusEvent e " +
+            "WHERE e.resolutionSeconds IS NOT NULL")
+    Stream<Object[]> streamResolutions();
+}
@@ -0,0 +1,104 @@
+package com.it_incidents_backend.repository;
+
+import com.it_incidents_backend.dto.ticket.TicketVolumeResponse.Dimension;
+import com.it_incidents_backend.dto.ticket.TicketVolumeResponse.Interval;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+import org.springframework.jdbc.support.JdbcUtils;
+import org.springframework.jdbc.support.MetaDataAccessException;
+import org.springframework.stereotype.Repository;
+
+import javax.sql.DataSource;
+import java.sql.DatabaseMetaData;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Ticket volumes per time bucket, counted by the database (date_trunc + GROUP BY): no ticket is loaded.
+ *
+ * - One statement: created, resolved and closed counts from three range scans on the
+ *   created_at, resolved_at and closed_at indexes, merged with UNION ALL
+ * - Bucket unit and breakdown column come from enums, never from the request: safe to inline
+ * - date_trunc('week') starts on Monday in PostgreSQL; H2 (tests) needs 'iso_week' for the same buckets
+ */
+@Repository
+public class TicketVolumeRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final DataSource dataSource;
+    private volatile String weekUnit;
+
+    public TicketVolumeRepository(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * Non-empty (bucket, key) counts of the tickets created, resolved or closed in [from, to)
+     * - key: the priority or category name, null without breakdown
+     */
+    public List<VolumeRow> countByBucket(Interval interval, Dimension groupBy, LocalDateTime from, LocalDateTime to) {
+        String unit = switch (interval) {
+            case HOUR -> "hour";
+            case DAY -> "day";
+            case WEEK -> weekUnit();
+        };
+        String key = groupBy == null ? "" : ", " + (groupBy == Dimension.PRIORITY ? "priority" : "category") + " AS grp";
+
+        String sql = "SELECT kind, bucket" + (groupBy == null ? "" : ", grp") + ", COUNT(*) FROM ("
+                + volume("CREATED", "created_at", unit, key, "")
+                + " UNION ALL " + volume("RESOLVED", "resolved_at", unit, key, "")
+                // Cancelled tickets have a closed_at too
+                + " UNION ALL " + volume("CLOSED", "closed_at", unit, key, " AND status = 'CLOSED'")
+                + ") v GROUP BY kind, bucket" + (groupBy == null ? "" : ", grp");
+
+        Query query = entityManager.createNativeQuery(sql);
+        query.setParameter("from", from);
+        query.setParameter("to", to);
+
+        List<?> rows = query.getResultList();
+        List<VolumeRow> result = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            Object[] columns = (Object[]) row;
+            result.add(new VolumeRow(
+                    columns[0].toString(),
+                    toLocalDateTime(columns[1]),
+                    groupBy == null || columns[2] == null ? null : columns[2].toString(),
+                    ((Number) columns[columns.length - 1]).longValue()));
+        }
+        return result;
+    }
+
+    private static String volume(String kind, String column, String unit, String key, String condition) {
+        return "SELECT '" + kind + "' AS kind, date_trunc('" + unit + "', " + column + ") AS bucket" + key
+                + " FROM tickets WHERE " + column + " >= :from AND " + column + " < :to" + condition;
+    }
+
+    private String weekUnit() {
+        String unit = weekUnit;
+        if (unit == null) {
+            try {
+                String product = JdbcUtils.extractDatabaseMetaData(dataSource, DatabaseMetaData::getDatabaseProductName);
+                unit = "PostgreSQL".equalsIgnoreCase(product) ? "week" : "iso_week";
+            } catch (MetaDataAccessException e) {
+                unit = "week";
+            }
+            weekUnit = unit;
+        }
+        return unit;
+    }
+
+    private static LocalDateTime toLocalDateTime(Object value) {
+        return value instanceof Timestamp timestamp ? timestamp.toLocalDateTime() : (LocalDateTime) value;
+    }
+
+    /**
+     * kind: CREATED, RESOLVED or CLOSED
+     */
+    public record VolumeRow(String kind, LocalDateTime bucket, String key, long count) {
+    }
+}
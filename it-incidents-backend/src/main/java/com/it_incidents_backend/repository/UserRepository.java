@@ -2,11 +2,16 @@ package com.it_incidents_backend.repository;
 
 import com.it_incidents_backend.entities.Role;
 import com.it_incidents_backend.entities.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -48,6 +53,44 @@ public interface UserRepository extends JpaRepository<User, UUID> {
             "AND u.accountNonLocked = true")
     Optional<User> findActiveUserById(@Param("id") UUID id);
 
+    /**
+     * Persist a temporary lockout decided by the in-memory login throttle
+     * - Only the lock columns are written (no full-row save)
+     */
+    @Modifying
+    @Query("UPDATE User u SET u.failedLoginAttempts = :attempts, u.lockedUntil = :lockedUntil WHERE u.id = :id")
+    int lockTemporarily(@Param("id") UUID id,
+                        @Param("attempts") int attempts,
+                        @Param("lockedUntil") LocalDateTime lockedUntil);
+
+    /**
+     * Logins (username + email) of non-deleted users, one page at a time (login filter rebuild)
+     */
+    @Query("SELECT u.username AS username, u.email AS email FROM User u WHERE u.deleted = false")
+    Slice<LoginIdentity> findLoginIdentities(Pageable pageable);
+
+    /**
+     * Logins created or changed since the given time (login filter sync between nodes)
+     */
+    @Query("SELECT u.username AS username, u.email AS email FROM User u " +
+            "WHERE u.deleted = false AND (u.createdAt >= :since OR u.updatedAt >= :since)")
+    List<LoginIdentity> findLoginIdentitiesChangedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * Logins already used among the given usernames and emails, in one query
+     * (uniqueness checks of a signup, an update or a whole batch)
+     */
+    @Query("SELECT u.username AS username, u.email AS email FROM User u " +
+            "WHERE u.username IN :usernames OR u.email IN :emails")
+    List<LoginIdentity> findLoginIdentitiesIn(@Param("usernames") Collection<String> usernames,
+                                             @Param("emails") Collection<String> emails);
+
+    interface LoginIdentity {
+        String getUsername();
+
+        String getEmail();
+    }
+
     // Count users by role
     long countByRoleAndDeletedFalse(Role role);
 }
\ No newline at end of file
@@ -0,0 +1,51 @@
+package com.it_incidents_backend.security;
+
+import com.it_incidents_backend.entities.User;
+
+import java.time.LocalDateTime;
+
+/**
+ * Compact snapshot of the account flags checked on every authenticated request.
+ * Cached by {@link AccountStatusCache} so the JWT filter does not load the full User row each time.
+ */
+public record AccountStatus(
+        boolean deleted,
+        boolean enabled,
+        boolean accountNonLocked,
+        LocalDateTime lockedUntil,
+        boolean approved
+) {
+
+    /**
+     * Build the snapshot from a User entity.
+     * Null flags keep the same meaning as in the original filter checks
+     * (a null flag never blocks the request).
+     */
+    public static AccountStatus from(User user) {
+        return new AccountStatus(
+                Boolean.TRUE.equals(user.getDeleted()),
+                !Boolean.FALSE.equals(user.getEnabled()),
+                !Boolean.FALSE.equals(user.getAccountNonLocked()),
+                user.getLockedUntil(),
+                !Boolean.FALSE.equals(user.getIsApproved())
+        );
+    }
+
+    /**
+     * Temporary lock set after too many failed login attempts
+     */
+    public boolean isTemporarilyLocked() {
+        return lockedUntil != null && LocalDateTime.now().isBefore(lockedUntil);
+    }
+
+    /**
+     * Error code of the first check that blocks the account (same order as the JWT filter), null if active
+     */
+    public String blockingReason() {
+        if (deleted) return "ACCOUNT_DELETED";
+        if (!enabled) return "ACCOUNT_DISABLED";
+        if (!accountNonLocked || isTemporarilyLocked()) return "ACCOUNT_LOCKED";
+        if (!approved) return "ACCOUNT_NOT_APPROVED";
+        return null;
+    }
+}
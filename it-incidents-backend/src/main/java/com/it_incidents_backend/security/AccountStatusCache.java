@@ -0,0 +1,67 @@
+package com.it_incidents_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Bounded, short-lived cache of account status snapshots keyed by user id.
+ *
+ * SECURITY:
+ * - Entries are evicted as soon as an account change is committed (AccountStatusChangedEvent)
+ * - The TTL bounds staleness for changes made outside the application (other nodes, manual SQL)
+ * - Unknown users are never cached, so a missing account is re-checked on every request
+ * - Hit/miss counts in cache.gets{cache=accountStatus} (bound as a MeterBinder)
+ */
+@Component
+public class AccountStatusCache implements MeterBinder {
+
+    private final Cache<UUID, AccountStatus> cache;
+
+    public AccountStatusCache(
+            @Value("${security.account-status-cache.ttl-seconds:30}") long ttlSeconds,
+            @Value("${security.account-status-cache.max-size:10000}") long maxSize
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .maximumSize(maxSize)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * Return the cached status or load it with the given function.
+     * A null result (user not found) is returned as-is and not cached.
+     */
+    public AccountStatus get(UUID userId, Function<UUID, AccountStatus> loader) {
+        return cache.get(userId, loader);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "accountStatus");
+    }
+
+    public void evict(UUID userId) {
+        cache.invalidate(userId);
+    }
+
+    /**
+     * Evict after commit so a concurrent request cannot reload the old state
+     * (fallbackExecution covers changes published outside a transaction).
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountStatusChanged(AccountStatusChangedEvent event) {
+        evict(event.userId());
+    }
+}
@@ -0,0 +1,10 @@
+package com.it_incidents_backend.security;
+
+import java.util.UUID;
+
+/**
+ * Published whenever a change may affect whether a user's existing tokens are still accepted
+ * (disable, delete, lock, unlock, approval...).
+ */
+public record AccountStatusChangedEvent(UUID userId) {
+}
@@ -0,0 +1,186 @@
+package com.it_incidents_backend.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.argon2.Argon2PasswordEncoder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Password encoder with a target algorithm and work factor chosen for this host.
+ *
+ * - New hashes are written as {id}hash (e.g. {bcrypt}$2a$12$...), the algorithm the node targets
+ * - Hashes of any supported algorithm still match, including legacy hashes without prefix (BCrypt)
+ * - upgradeEncoding() is true when the stored hash uses another algorithm or other parameters
+ *   (BCrypt cost, Argon2 m/t/p) than the target: the login rehashes it with the current password
+ *
+ * The work factor comes from a startup benchmark (closest to the target hash time without exceeding it),
+ * unless pinned in configuration. Pin it when nodes of different speeds share the database,
+ * otherwise a user alternating between nodes is rehashed at every login.
+ */
+@Slf4j
+public class AdaptivePasswordEncoder implements PasswordEncoder {
+
+    private static final String CALIBRATION_PASSWORD = "Calibration-Password-2026!";
+    private static final int CALIBRATION_RUNS = 3;
+
+    /**
+     * Supported algorithms
+     * - id used in the {id} prefix, number of '$' ending the parameters part of the hash
+     * - work factor bounds of the calibration (BCrypt cost, Argon2 iterations)
+     */
+    public enum Algorithm {
+        BCRYPT("bcrypt", 3, 10, 14),    // $2a$12$...
+        ARGON2ID("argon2", 4, 2, 10);   // $argon2id$v=19$m=16384,t=2,p=1$...
+
+        private final String id;
+        private final int parameterSeparators;
+        private final int minWorkFactor;
+        private final int maxWorkFactor;
+
+        Algorithm(String id, int parameterSeparators, int minWorkFactor, int maxWorkFactor) {
+            this.id = id;
+            this.parameterSeparators = parameterSeparators;
+            this.minWorkFactor = minWorkFactor;
+            this.maxWorkFactor = maxWorkFactor;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public static Algorithm from(String value) {
+            return switch (value.trim().toLowerCase(Locale.ROOT)) {
+                case "bcrypt" -> BCRYPT;
+                case "argon2", "argon2id" -> ARGON2ID;
+                default -> throw new IllegalArgumentException("Unsupported password hashing algorithm: " + value);
+            };
+        }
+    }
+
+    private final Algorithm algorithm;
+    private final int workFactor;
+    private final String targetParameters;
+    private final DelegatingPasswordEncoder delegate;
+
+    public AdaptivePasswordEncoder(Algorithm algorithm, int workFactor) {
+        this.algorithm = algorithm;
+        this.workFactor = workFactor;
+
+        // Matching reads the parameters from the stored hash: only the target encoder's own ones matter
+        PasswordEncoder bcrypt = algorithm == Algorithm.BCRYPT
+                ? createEncoder(algorithm, workFactor) : new BCryptPasswordEncoder();
+        PasswordEncoder argon2 = algorithm == Algorithm.ARGON2ID
+                ? createEncoder(algorithm, workFactor) : argon2(Algorithm.ARGON2ID.minWorkFactor);
+        this.delegate = new DelegatingPasswordEncoder(algorithm.getId(), Map.of(
+                Algorithm.BCRYPT.getId(), bcrypt,
+                Algorithm.ARGON2ID.getId(), argon2
+        ));
+        // Hashes stored before the {id} prefix was introduced are plain BCrypt
+        this.delegate.setDefaultPasswordEncoderForMatches(bcrypt);
+
+        this.targetParameters = parameters(createEncoder(algorithm, workFactor).encode(CALIBRATION_PASSWORD), algorithm);
+    }
+
+    /**
+     * Encoder for the target algorithm with the work factor measured on this host
+     * - The algorithm's minimum is a security floor, used even when slower than the target
+     *
+     * @param targetMs hash time to get as close to as possible without exceeding it
+     */
+    public static AdaptivePasswordEncoder calibrated(Algorithm algorithm, long targetMs) {
+        int min = algorithm.minWorkFactor;
+        int max = algorithm.maxWorkFactor;
+        double baseMs = measure(createEncoder(algorithm, min));
+        int workFactor = switch (algorithm) {
+            // Each BCrypt cost step doubles the time
+            case BCRYPT -> min + (int) Math.floor(Math.log(targetMs / baseMs) / Math.log(2));
+            // Argon2 time grows linearly with the iterations
+            case ARGON2ID -> (int) Math.floor(min * targetMs / baseMs);
+        };
+        workFactor = Math.max(min, Math.min(max, workFactor));
+        log.info("Password hashing: {} work factor {} (target {} ms, {} ms measured at {})",
+                algorithm.getId(), workFactor, targetMs, Math.round(baseMs), min);
+        return new AdaptivePasswordEncoder(algorithm, workFactor);
+    }
+
+    public Algorithm getAlgorithm() {
+        return algorithm;
+    }
+
+    public int getWorkFactor() {
+        return workFactor;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    /**
+     * No hashing: only compares the stored hash prefix and parameters with the target
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null || encodedPassword.isEmpty()) {
+            return false;
+        }
+        String prefix = "{" + algorithm.getId() + "}";
+        if (!encodedPassword.startsWith(prefix)) {
+            return true; // Other algorithm, or legacy hash without prefix
+        }
+        return !targetParameters.equals(parameters(encodedPassword.substring(prefix.length()), algorithm));
+    }
+
+    // ========== HELPERS ==========
+
+    private static PasswordEncoder createEncoder(Algorithm algorithm, int workFactor) {
+        return switch (algorithm) {
+            case BCRYPT -> new BCryptPasswordEncoder(workFactor);
+            case ARGON2ID -> argon2(workFactor);
+        };
+    }
+
+    /**
+     * Argon2id with the Spring Security 5.8 defaults (16 MB, 1 lane), tuned on the iteration count
+     */
+    private static PasswordEncoder argon2(int iterations) {
+        return new Argon2PasswordEncoder(16, 32, 1, 1 << 14, iterations);
+    }
+
+    /**
+     * Fastest of a few runs, after one warm-up hash (JIT, class loading)
+     */
+    private static double measure(PasswordEncoder encoder) {
+        encoder.encode(CALIBRATION_PASSWORD);
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_RUNS; i++) {
+            long start = System.nanoTime();
+            encoder.encode(CALIBRATION_PASSWORD);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+        return Math.max(best, 1) / 1_000_000.0;
+    }
+
+    /**
+     * Hash up to and including the '$' that ends its parameters, "" when it is not in the expected format
+     */
+    private static String parameters(String hash, Algorithm algorithm) {
+        int index = -1;
+        for (int i = 0; i < algorithm.parameterSeparators; i++) {
+            index = hash.indexOf('$', index + 1);
+            if (index < 0) {
+                return "";
+            }
+        }
+        return hash.substring(0, index + 1);
+    }
+}
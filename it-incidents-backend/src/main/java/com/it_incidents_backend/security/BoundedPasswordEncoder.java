@@ -0,0 +1,227 @@
+package com.it_incidents_backend.security;
+
+import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.PriorityBlockingQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs password hashing (BCrypt, ~250ms each) on a dedicated, size-bounded pool
+ * instead of the request threads.
+ *
+ * - At most threads + queueCapacity hashes admitted at once; beyond that the call fails
+ *   immediately with 503 + Retry-After (a login storm cannot starve the Tomcat workers)
+ * - Admin requests jump the queue and have a few reserved slots of their own
+ * - A caller never waits more than timeoutMs for its result
+ * - Bulk hashing (imports) queues behind every interactive request, with slots of its own
+ *
+ * Metrics: password.hashing.queue, password.hashing.active, password.hashing.wait,
+ * password.hashing.duration (operation=encode|matches), password.hashing.rejected.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder, AutoCloseable {
+
+    private static final int PRIORITY_ADMIN = 0;
+    private static final int PRIORITY_DEFAULT = 1;
+    private static final int PRIORITY_BULK = 2;
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final Semaphore defaultPermits;
+    private final Semaphore adminPermits;
+    private final Semaphore bulkPermits;
+    private final long timeoutMs;
+    private final long retryAfterSeconds;
+    private final AtomicLong sequence = new AtomicLong();
+
+    private final Timer waitTimer;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejectedCounter;
+
+    public BoundedPasswordEncoder(PasswordEncoder delegate, int threads, int queueCapacity,
+                                  int adminReserved, long timeoutMs, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.timeoutMs = timeoutMs;
+        this.retryAfterSeconds = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(timeoutMs));
+        this.defaultPermits = new Semaphore(threads + queueCapacity);
+        this.adminPermits = new Semaphore(adminReserved);
+        this.bulkPermits = new Semaphore(threads);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        // Unbounded queue type, but the permits above cap what can ever be queued
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new PriorityBlockingQueue<>(),
+                task -> {
+                    Thread thread = new Thread(task, "password-hashing-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+
+        Gauge.builder("password.hashing.queue", executor, e -> e.getQueue().size())
+                .description("Password hashes waiting for a thread")
+                .register(meterRegistry);
+        Gauge.builder("password.hashing.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Password hashes in progress")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("password.hashing.wait")
+                .description("Time spent in the queue before hashing")
+                .register(meterRegistry);
+        this.encodeTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "encode")
+                .register(meterRegistry);
+        this.matchesTimer = Timer.builder("password.hashing.duration")
+                .tag("operation", "matches")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("password.hashing.rejected")
+                .description("Hashes refused because the pool was saturated or too slow")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return run(() -> encodeTimer.record(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return run(() -> matchesTimer.record(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    /**
+     * Hash for bulk work (user imports): lowest priority, never rejected
+     * - Blocks the caller until one of the bulk slots (one per thread) is free: the import slows down
+     *   under load instead of failing rows, and never takes an interactive request's place in the queue
+     * - No timeout: the caller decides how long to wait on the returned future
+     */
+    public Future<String> encodeBulk(CharSequence rawPassword) {
+        bulkPermits.acquireUninterruptibly();
+        HashingTask<String> task = new HashingTask<>(() -> encodeTimer.record(() -> delegate.encode(rawPassword)),
+                PRIORITY_BULK, sequence.incrementAndGet(), bulkPermits);
+        executor.execute(task);
+        return task;
+    }
+
+    /**
+     * Only parses the stored hash, no hashing involved
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdownNow();
+    }
+
+    // ========== EXECUTION ==========
+
+    private <T> T run(Callable<T> work) {
+        boolean admin = isAdminRequest();
+        Semaphore permits = acquire(admin);
+        if (permits == null) {
+            rejectedCounter.increment();
+            throw overloaded();
+        }
+
+        long queuedAt = System.nanoTime();
+        HashingTask<T> task = new HashingTask<>(() -> {
+            waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+            return work.call();
+        }, admin ? PRIORITY_ADMIN : PRIORITY_DEFAULT, sequence.incrementAndGet(), permits);
+        executor.execute(task);
+
+        try {
+            return task.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            task.cancel(true);
+            executor.remove(task);
+            rejectedCounter.increment();
+            log.warn("Password hashing took more than {} ms, request rejected", timeoutMs);
+            throw overloaded();
+        } catch (InterruptedException e) {
+            task.cancel(true);
+            Thread.currentThread().interrupt();
+            throw overloaded();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException("Password hashing failed", e.getCause());
+        }
+    }
+
+    /**
+     * Admins take a shared slot first and fall back to their reserved ones
+     *
+     * @return the semaphore a permit was taken from, or null when saturated
+     */
+    private Semaphore acquire(boolean admin) {
+        if (defaultPermits.tryAcquire()) {
+            return defaultPermits;
+        }
+        if (admin && adminPermits.tryAcquire()) {
+            return adminPermits;
+        }
+        return null;
+    }
+
+    private ServiceOverloadedException overloaded() {
+        return new ServiceOverloadedException("Too many concurrent authentication requests, please retry",
+                retryAfterSeconds);
+    }
+
+    private static boolean isAdminRequest() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null
+                && authentication.getPrincipal() instanceof UserPrincipal principal
+                && principal.getRole() == Role.ADMIN;
+    }
+
+    /**
+     * Queue entry ordered by priority then arrival; releases its permit once done or cancelled
+     */
+    private static final class HashingTask<T> extends FutureTask<T> implements Comparable<HashingTask<?>> {
+
+        private final int priority;
+        private final long sequence;
+        private final Semaphore permits;
+
+        HashingTask(Callable<T> callable, int priority, long sequence, Semaphore permits) {
+            super(callable);
+            this.priority = priority;
+            this.sequence = sequence;
+            this.permits = permits;
+        }
+
+        @Override
+        protected void done() {
+            permits.release();
+        }
+
+        @Override
+        public int compareTo(HashingTask<?> other) {
+            int byPriority = Integer.compare(priority, other.priority);
+            return byPriority != 0 ? byPriority : Long.compare(sequence, other.sequence);
+        }
+    }
+}
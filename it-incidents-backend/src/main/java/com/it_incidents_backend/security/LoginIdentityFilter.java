@@ -0,0 +1,212 @@
+package com.it_incidents_backend.security;
+
+import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.repository.UserRepository.LoginIdentity;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory membership filter (Bloom filter) over the usernames and emails that can log in.
+ *
+ * - mightExist() false: the login matches no account, rejected without a query
+ * - mightExist() true: maybe an account (false positive rate configured), normal lookup
+ * - Keys are lower-cased: a case variant is at worst a false positive, never a false negative
+ *
+ * Maintenance:
+ * - Built page by page once the application is ready; until then every login is looked up in the database
+ * - New and renamed logins added after commit by the services (signup, creation, update)
+ * - Synced from the users table every sync-interval-ms (logins created on other nodes or by SQL):
+ *   such a login can be refused for up to one interval on this node
+ * - Renames and deletions leave stale keys (false positives only); rebuilt once they exceed 10% of the keys
+ */
+@Slf4j
+@Component
+public class LoginIdentityFilter {
+
+    private static final int PAGE_SIZE = 1000;
+    private static final double STALE_RATIO_REBUILD = 0.1;
+
+    private final UserRepository userRepository;
+    private final boolean enabled;
+    private final long expectedIdentities;
+    private final double falsePositiveRate;
+    private final long syncIntervalMs;
+
+    private volatile BloomFilter active;
+    private volatile BloomFilter building;
+    private volatile boolean ready;
+    private volatile LocalDateTime lastSync;
+    private final AtomicLong staleEntries = new AtomicLong();
+    private final ReentrantLock rebuildLock = new ReentrantLock();
+
+    public LoginIdentityFilter(UserRepository userRepository,
+                               @Value("${security.login-filter.enabled:true}") boolean enabled,
+                               @Value("${security.login-filter.expected-identities:100000}") long expectedIdentities,
+                               @Value("${security.login-filter.false-positive-rate:0.01}") double falsePositiveRate,
+                               @Value("${security.login-filter.sync-interval-ms:30000}") long syncIntervalMs) {
+        this.userRepository = userRepository;
+        this.enabled = enabled;
+        this.expectedIdentities = expectedIdentities;
+        this.falsePositiveRate = falsePositiveRate;
+        this.syncIntervalMs = syncIntervalMs;
+        this.active = BloomFilter.create(expectedIdentities, falsePositiveRate);
+    }
+
+    /**
+     * @return false only when no account can have this username or email
+     */
+    public boolean mightExist(String usernameOrEmail) {
+        if (!enabled || !ready) {
+            return true;
+        }
+        return usernameOrEmail != null && active.mightContain(key(usernameOrEmail));
+    }
+
+    /**
+     * Add an account's logins once the current transaction commits (immediately without transaction)
+     * - Before commit the account is not visible to a login anyway
+     */
+    public void register(String username, String email) {
+        if (!enabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    add(username, email);
+                }
+            });
+        } else {
+            add(username, email);
+        }
+    }
+
+    /**
+     * A login was renamed or its account deleted: its old key stays in the filter until the next rebuild
+     */
+    public void markStale() {
+        staleEntries.incrementAndGet();
+    }
+
+    // ========== BUILD & SYNC ==========
+
+    /**
+     * First build once the application is ready (after the data seeders), off the startup thread
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        if (enabled) {
+            Thread thread = new Thread(this::rebuild, "login-filter-build");
+            thread.setDaemon(true);
+            thread.start();
+        }
+    }
+
+    /**
+     * Add the logins changed since the previous run, or rebuild when too many keys are stale
+     */
+    @Scheduled(fixedDelayString = "${security.login-filter.sync-interval-ms:30000}")
+    public void sync() {
+        if (!enabled || !ready) {
+            return;
+        }
+        if (staleEntries.get() > STALE_RATIO_REBUILD * active.insertions()) {
+            rebuild();
+            return;
+        }
+        // Overlap with the previous run: clock skew between nodes and commits in flight
+        LocalDateTime since = lastSync.minusNanos(syncIntervalMs * 1_000_000);
+        LocalDateTime startedAt = LocalDateTime.now();
+        for (LoginIdentity identity : userRepository.findLoginIdentitiesChangedSince(since)) {
+            add(identity.getUsername(), identity.getEmail());
+        }
+        lastSync = startedAt;
+    }
+
+    /**
+     * Build a new filter from the users table, one page at a time, then swap it in
+     * - Logins registered meanwhile go to both filters, so none is lost by the swap
+     */
+    public void rebuild() {
+        if (!rebuildLock.tryLock()) {
+            return;
+        }
+        try {
+            LocalDateTime startedAt = LocalDateTime.now();
+            long staleAtStart = staleEntries.get();
+            BloomFilter next = BloomFilter.create(
+                    Math.max(expectedIdentities, 2 * active.insertions()), falsePositiveRate);
+            building = next;
+
+            PageRequest page = PageRequest.of(0, PAGE_SIZE, Sort.by("id"));
+            Slice<LoginIdentity> slice;
+            do {
+                slice = userRepository.findLoginIdentities(page);
+                for (LoginIdentity identity : slice) {
+                    putBoth(next, identity.getUsername(), identity.getEmail());
+                }
+                page = page.next();
+            } while (slice.hasNext());
+
+            active = next;
+            building = null;
+            staleEntries.addAndGet(-staleAtStart);
+            lastSync = startedAt;
+            if (!ready) {
+                ready = true;
+                log.info("Login filter ready: {} logins", next.insertions());
+            }
+        } catch (RuntimeException e) {
+            building = null;
+            log.warn("Login filter rebuild failed, logins still looked up in the database", e);
+        } finally {
+            rebuildLock.unlock();
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // ========== HELPERS ==========
+
+    /**
+     * Reads building before active: the rebuild sets active before clearing building,
+     * so a concurrent swap can never be missed by both reads
+     */
+    private void add(String username, String email) {
+        BloomFilter next = building;
+        putBoth(active, username, email);
+        if (next != null) {
+            putBoth(next, username, email);
+        }
+    }
+
+    private static void putBoth(BloomFilter filter, String username, String email) {
+        if (username != null) {
+            filter.put(key(username));
+        }
+        if (email != null) {
+            filter.put(key(email));
+        }
+    }
+
+    private static String key(String login) {
+        return login.trim().toLowerCase(Locale.ROOT);
+    }
+}
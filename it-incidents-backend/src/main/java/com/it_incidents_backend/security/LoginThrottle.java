@@ -0,0 +1,122 @@
+package com.it_incidents_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Locale;
+
+/**
+ * In-memory failed-login counters over a sliding window, per login (username/email) and per client IP.
+ *
+ * - Failures are counted here, not in the users table: a credential-stuffing burst causes no writes
+ * - Counters are lock-free (SlidingWindowCounter) inside a concurrent, size-bounded Caffeine map;
+ *   idle keys expire after one window, the least used are evicted beyond max-keys
+ * - Per node: with several nodes an attacker gets max-failures attempts on each before the account lock
+ *   (persisted, shared) applies everywhere
+ */
+@Component
+public class LoginThrottle {
+
+    private static final int BUCKETS = 10;
+
+    private final Cache<String, SlidingWindowCounter> byLogin;
+    private final Cache<String, SlidingWindowCounter> byIp;
+    private final long windowMillis;
+    private final int maxFailuresPerLogin;
+    private final int maxFailuresPerIp;
+
+    public LoginThrottle(
+            @Value("${security.login-throttle.window-minutes:5}") long windowMinutes,
+            @Value("${security.max-failed-attempts:5}") int maxFailuresPerLogin,
+            @Value("${security.login-throttle.max-failures-per-ip:50}") int maxFailuresPerIp,
+            @Value("${security.login-throttle.max-keys:100000}") long maxKeys
+    ) {
+        this.windowMillis = Duration.ofMinutes(windowMinutes).toMillis();
+        this.maxFailuresPerLogin = maxFailuresPerLogin;
+        this.maxFailuresPerIp = maxFailuresPerIp;
+        this.byLogin = newCounters(maxKeys);
+        this.byIp = newCounters(maxKeys);
+    }
+
+    /**
+     * @return true when the client IP reached its failure limit in the current window
+     */
+    public boolean isIpThrottled(String ip) {
+        return count(byIp, ip, System.currentTimeMillis()) >= maxFailuresPerIp;
+    }
+
+    /**
+     * @return true when one of the account's logins reached the failure limit in the current window
+     */
+    public boolean isLoginThrottled(String... logins) {
+        long now = System.currentTimeMillis();
+        for (String login : logins) {
+            if (count(byLogin, key(login), now) >= maxFailuresPerLogin) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Count a failed attempt for the IP and each login identifying the account
+     *
+     * @return failures of the account in the window (highest of its logins)
+     */
+    public int recordFailure(String ip, String... logins) {
+        long now = System.currentTimeMillis();
+        if (ip != null) {
+            byIp.get(ip, k -> newCounter()).increment(now);
+        }
+        int failures = 0;
+        for (String login : logins) {
+            if (login != null) {
+                failures = Math.max(failures, byLogin.get(key(login), k -> newCounter()).increment(now));
+            }
+        }
+        return failures;
+    }
+
+    public boolean isLockThreshold(int failures) {
+        return failures >= maxFailuresPerLogin;
+    }
+
+    /**
+     * Successful login: forget the account's failures (the IP keeps its own)
+     */
+    public void reset(String... logins) {
+        for (String login : logins) {
+            if (login != null) {
+                byLogin.invalidate(key(login));
+            }
+        }
+    }
+
+    // ========== HELPERS ==========
+
+    private Cache<String, SlidingWindowCounter> newCounters(long maxKeys) {
+        return Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMillis(windowMillis))
+                .maximumSize(maxKeys)
+                .build();
+    }
+
+    private SlidingWindowCounter newCounter() {
+        return new SlidingWindowCounter(windowMillis, BUCKETS);
+    }
+
+    private static int count(Cache<String, SlidingWindowCounter> counters, String key, long now) {
+        if (key == null) {
+            return 0;
+        }
+        SlidingWindowCounter counter = counters.getIfPresent(key);
+        return counter == null ? 0 : counter.count(now);
+    }
+
+    private static String key(String login) {
+        return login == null ? null : login.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,33 @@
+package com.it_incidents_backend.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Arrays;
+
+/**
+ * "New password must be different from current password" without a second BCrypt hash.
+ *
+ * Once the current password has been verified against the stored hash, matches(newPassword, hash)
+ * is true exactly when both passwords have the same BCrypt input: BCrypt only uses the first 72 UTF-8 bytes.
+ * For Argon2id hashes (no truncation) the check is slightly stricter, never weaker.
+ */
+public final class PasswordReuseCheck {
+
+    private static final int BCRYPT_MAX_BYTES = 72;
+
+    private PasswordReuseCheck() {
+    }
+
+    /**
+     * @param newPassword     the requested password
+     * @param currentPassword the current password, ALREADY verified against the stored hash
+     */
+    public static boolean isSamePassword(CharSequence newPassword, CharSequence currentPassword) {
+        return MessageDigest.isEqual(bcryptInput(newPassword), bcryptInput(currentPassword));
+    }
+
+    private static byte[] bcryptInput(CharSequence password) {
+        byte[] bytes = password.toString().getBytes(StandardCharsets.UTF_8);
+        return bytes.length > BCRYPT_MAX_BYTES ? Arrays.copyOf(bytes, BCRYPT_MAX_BYTES) : bytes;
+    }
+}
@@ -0,0 +1,59 @@
+package com.it_incidents_backend.security;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free event counter over a sliding time window, split into fixed buckets.
+ *
+ * - Each bucket is one long: (bucket number << COUNT_BITS) | count, updated with a single CAS
+ * - A bucket whose number is older than the window is stale and restarts at 1 when reused
+ * - The window slides one bucket at a time (window / buckets granularity)
+ */
+final class SlidingWindowCounter {
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private final AtomicLongArray buckets;
+    private final long bucketMillis;
+
+    SlidingWindowCounter(long windowMillis, int bucketCount) {
+        this.buckets = new AtomicLongArray(bucketCount);
+        this.bucketMillis = Math.max(1, windowMillis / bucketCount);
+    }
+
+    /**
+     * Record one event
+     *
+     * @return the number of events in the window, this one included
+     */
+    int increment(long nowMillis) {
+        long slot = nowMillis / bucketMillis;
+        int index = (int) (slot % buckets.length());
+        for (;;) {
+            long current = buckets.get(index);
+            long next = (current >>> COUNT_BITS) == slot
+                    ? (current & COUNT_MASK) == COUNT_MASK ? current : current + 1
+                    : (slot << COUNT_BITS) | 1;
+            if (buckets.compareAndSet(index, current, next)) {
+                return count(nowMillis);
+            }
+        }
+    }
+
+    /**
+     * Number of events in the window ending now
+     */
+    int count(long nowMillis) {
+        long slot = nowMillis / bucketMillis;
+        int total = 0;
+        for (int i = 0; i < buckets.length(); i++) {
+            long bucket = buckets.get(i);
+            long age = slot - (bucket >>> COUNT_BITS);
+            if (age >= 0 && age < buckets.length()) {
+                total += (int) (bucket & COUNT_MASK);
+            }
+        }
+        return total;
+    }
+}
@@ -0,0 +1,32 @@
+package com.it_incidents_backend.security;
+
+import com.it_incidents_backend.entities.Role;
+
+import java.time.Instant;
+import java.util.UUID;
+
+/**
+ * Claims of a JWT whose signature and expiration have already been verified.
+ * Produced once per request by JwtUtil.verify() so callers never re-parse the token.
+ *
+ * @param role null for refresh tokens (they carry no role claim)
+ */
+public record VerifiedToken(
+        String subject,
+        UUID userId,
+        Role role,
+        String type,
+        Instant expiresAt
+) {
+
+    public static final String ACCESS = "access";
+    public static final String REFRESH = "refresh";
+
+    public boolean isAccessToken() {
+        return ACCESS.equals(type);
+    }
+
+    public boolean isRefreshToken() {
+        return REFRESH.equals(type);
+    }
+}
@@ -0,0 +1,93 @@
+package com.it_incidents_backend.security;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+
+/**
+ * Cache of already-verified access tokens, keyed by a SHA-256 digest of the token.
+ *
+ * SECURITY:
+ * - The raw token is never stored, only its digest
+ * - The digest includes the signing key fingerprint: after a secret rotation
+ *   old entries can no longer be hit and simply age out
+ * - Each entry expires at the token's own exp claim
+ * - Account status (disabled, locked...) is still checked on every request by the filter
+ *
+ * Disable with jwt.cache.enabled=false.
+ */
+@Component
+@ConditionalOnProperty(name = "jwt.cache.enabled", havingValue = "true", matchIfMissing = true)
+public class VerifiedTokenCache {
+
+    private final Cache<ByteBuffer, VerifiedToken> cache;
+
+    public VerifiedTokenCache(
+            @Value("${jwt.cache.max-size:10000}") long maxSize,
+            MeterRegistry meterRegistry
+    ) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfter(new Expiry<ByteBuffer, VerifiedToken>() {
+                    @Override
+                    public long expireAfterCreate(ByteBuffer key, VerifiedToken token, long currentTime) {
+                        long millis = token.expiresAt().toEpochMilli() - System.currentTimeMillis();
+                        return Math.max(0, millis) * 1_000_000L;
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(ByteBuffer key, VerifiedToken token, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "jwtVerifiedTokens");
+    }
+
+    /**
+     * @return the cached token, or null if absent or already expired
+     */
+    public VerifiedToken get(byte[] keyFingerprint, String token) {
+        VerifiedToken cached = cache.getIfPresent(digest(keyFingerprint, token));
+        if (cached != null && !cached.expiresAt().isAfter(Instant.now())) {
+            return null;
+        }
+        return cached;
+    }
+
+    public void put(byte[] keyFingerprint, String token, VerifiedToken verified) {
+        cache.put(digest(keyFingerprint, token), verified);
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    private static ByteBuffer digest(byte[] keyFingerprint, String token) {
+        try {
+            MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+            sha256.update(keyFingerprint);
+            return ByteBuffer.wrap(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -7,12 +7,14 @@ import com.it_incidents_backend.entities.Role;
 import com.it_incidents_backend.entities.Ticket;
 import com.it_incidents_backend.entities.TicketComment;
 import com.it_incidents_backend.entities.User;
+import com.it_incidents_backend.events.TicketCommentAddedEvent;
 import com.it_incidents_backend.exceptions.AppException;
 import com.it_incidents_backend.mapper.CommentMapper;
 import com.it_incidents_backend.repository.TicketCommentRepository;
 import com.it_incidents_backend.repository.TicketRepository;
 import com.it_incidents_backend.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -29,6 +31,7 @@ public class CommentService {
     private final TicketRepository ticketRepository;
     private final UserRepository userRepository;
     private final CommentMapper commentMapper;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Add comment to ticket
@@ -69,6 +72,16 @@ public class CommentService {
         ticket.setLastUpdatedBy(user.getUsername());
         ticketRepository.save(ticket);
 
+        eventPublisher.publishEvent(new TicketCommentAddedEvent(
+                ticket.getId(),
+                ticket.getTicketNumber(),
+                ticket.getCreatedBy().getId(),
+                savedComment.getId(),
+                user.getUsername(),
+                Boolean.TRUE.equals(savedComment.getIsInternal()),
+                LocalDateTime.now()
+        ));
+
         return commentMapper.toResponse(savedComment);
     }
 
@@ -0,0 +1,245 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.dto.notification.AccountStatusNotification;
+import com.it_incidents_backend.dto.notification.TicketNotification;
+import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.events.TicketCommentAddedEvent;
+import com.it_incidents_backend.events.TicketStatusChangedEvent;
+import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.security.AccountStatus;
+import com.it_incidents_backend.security.AccountStatusChangedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-Sent Events push channel (replaces the front-end status polling)
+ *
+ * - One SseEmitter per open tab, registered by user; admins also in a shared set
+ * - Idle connections hold no thread: the request thread is released once the emitter is returned
+ *   (servlet async), only a socket and a small registry entry remain
+ * - Events are sent after commit on a small dedicated pool, never on the thread that changed the data
+ *
+ * Routing:
+ * - account-status: the affected user only, then the stream is closed (account blocked)
+ * - ticket-status: ticket owner + all admins
+ * - ticket-comment: admins always, owner only for public comments
+ */
+@Slf4j
+@Service
+public class NotificationService {
+
+    private static final String KEEPALIVE = "keepalive";
+
+    private final UserRepository userRepository;
+    private final long timeoutMs;
+    private final int maxStreamsPerUser;
+    private final ThreadPoolExecutor sender;
+
+    private final Map<UUID, Set<Subscriber>> subscribersByUser = new ConcurrentHashMap<>();
+    private final Set<Subscriber> admins = ConcurrentHashMap.newKeySet();
+
+    public NotificationService(UserRepository userRepository,
+                               @Value("${notifications.sse.timeout-ms:900000}") long timeoutMs,
+                               @Value("${notifications.sse.max-streams-per-user:5}") int maxStreamsPerUser,
+                               @Value("${notifications.sse.sender-threads:2}") int senderThreads,
+                               @Value("${notifications.sse.queue-capacity:10000}") int queueCapacity) {
+        this.userRepository = userRepository;
+        this.timeoutMs = timeoutMs;
+        this.maxStreamsPerUser = maxStreamsPerUser;
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.sender = new ThreadPoolExecutor(senderThreads, senderThreads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "sse-sender-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // Never block the publishing thread: a dropped notification only delays a client refresh
+                (task, executor) -> log.warn("Notification queue full, event dropped"));
+    }
+
+    // ========== SUBSCRIPTIONS ==========
+
+    /**
+     * Open a stream for the authenticated user (at most maxStreamsPerUser open tabs)
+     */
+    public SseEmitter subscribe(UUID userId, Role role) {
+        SseEmitter emitter = createEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(userId, emitter);
+
+        subscribersByUser.compute(userId, (id, streams) -> {
+            Set<Subscriber> set = streams != null ? streams : ConcurrentHashMap.newKeySet();
+            if (set.size() >= maxStreamsPerUser) {
+                throw new AppException("Too many open notification streams", HttpStatus.TOO_MANY_REQUESTS);
+            }
+            set.add(subscriber);
+            return set;
+        });
+        if (role == Role.ADMIN) {
+            admins.add(subscriber);
+        }
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> {
+            unsubscribe(subscriber);
+            emitter.complete(); // Client reconnects (and is authenticated again)
+        });
+        emitter.onError(error -> unsubscribe(subscriber));
+
+        // First event: confirms the stream to the client and flushes the response headers
+        send(subscriber, SseEmitter.event().name("connected").data(userId.toString()));
+        return emitter;
+    }
+
+    SseEmitter createEmitter(long timeout) {
+        return new SseEmitter(timeout);
+    }
+
+    /**
+     * Number of open streams (all users)
+     */
+    public int openStreams() {
+        return subscribersByUser.values().stream().mapToInt(Set::size).sum();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        admins.remove(subscriber);
+        subscribersByUser.computeIfPresent(subscriber.userId(), (id, streams) -> {
+            streams.remove(subscriber);
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+
+    // ========== EVENT LISTENERS (after commit) ==========
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketStatusChanged(TicketStatusChangedEvent event) {
+        TicketNotification notification = TicketNotification.builder()
+                .ticketId(event.ticketId())
+                .ticketNumber(event.ticketNumber())
+                .previousStatus(event.previousStatus())
+                .status(event.newStatus())
+                .actor(event.changedBy())
+                .occurredAt(event.changedAt())
+                .build();
+        broadcast(recipients(event.ownerId(), true), "ticket-status", notification);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketCommentAdded(TicketCommentAddedEvent event) {
+        TicketNotification notification = TicketNotification.builder()
+                .ticketId(event.ticketId())
+                .ticketNumber(event.ticketNumber())
+                .commentId(event.commentId())
+                .internal(event.internal())
+                .actor(event.authorUsername())
+                .occurredAt(event.createdAt())
+                .build();
+        broadcast(recipients(event.ownerId(), !event.internal()), "ticket-comment", notification);
+    }
+
+    /**
+     * Account blocked (disabled, deleted, locked...): tell the user's open tabs, then close their streams
+     * - Nothing to do, and no query, when the user has no open stream
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAccountStatusChanged(AccountStatusChangedEvent event) {
+        Set<Subscriber> streams = subscribersByUser.get(event.userId());
+        if (streams == null || streams.isEmpty()) {
+            return;
+        }
+
+        String reason = userRepository.findById(event.userId())
+                .map(AccountStatus::from)
+                .map(AccountStatus::blockingReason)
+                .orElse("ACCOUNT_NOT_FOUND");
+        if (reason == null) {
+            return; // Still active (unlock, approval...)
+        }
+
+        AccountStatusNotification notification = AccountStatusNotification.builder().reason(reason).build();
+        for (Subscriber subscriber : Set.copyOf(streams)) {
+            dispatch(() -> {
+                send(subscriber, SseEmitter.event().name("account-status").data(notification));
+                subscriber.emitter().complete();
+            });
+        }
+    }
+
+    // ========== KEEPALIVE ==========
+
+    /**
+     * Comment line on every stream so proxies do not close idle connections
+     */
+    @Scheduled(fixedRateString = "${notifications.sse.heartbeat-ms:25000}")
+    public void sendHeartbeats() {
+        for (Set<Subscriber> streams : subscribersByUser.values()) {
+            for (Subscriber subscriber : streams) {
+                dispatch(() -> send(subscriber, SseEmitter.event().comment(KEEPALIVE)));
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        sender.shutdownNow();
+        subscribersByUser.values().forEach(streams -> streams.forEach(s -> s.emitter().complete()));
+        subscribersByUser.clear();
+        admins.clear();
+    }
+
+    // ========== HELPERS ==========
+
+    private Collection<Subscriber> recipients(UUID ownerId, boolean includeOwner) {
+        Set<Subscriber> recipients = new LinkedHashSet<>(admins);
+        if (includeOwner) {
+            recipients.addAll(subscribersByUser.getOrDefault(ownerId, Set.of()));
+        }
+        return recipients;
+    }
+
+    private void broadcast(Collection<Subscriber> recipients, String name, Object data) {
+        for (Subscriber subscriber : recipients) {
+            dispatch(() -> send(subscriber, SseEmitter.event().name(name).data(data)));
+        }
+    }
+
+    private void dispatch(Runnable task) {
+        sender.execute(task);
+    }
+
+    /**
+     * Send one event; a failed write means the client is gone
+     */
+    private void send(Subscriber subscriber, SseEmitter.SseEventBuilder event) {
+        try {
+            subscriber.emitter().send(event);
+        } catch (IOException | IllegalStateException e) {
+            unsubscribe(subscriber);
+        }
+    }
+
+    private record Subscriber(UUID userId, SseEmitter emitter) {
+    }
+}
@@ -0,0 +1,383 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.dto.ticket.ResolutionTimeStats;
+import com.it_incidents_backend.dto.ticket.TicketResolutionStatsResponse;
+import com.it_incidents_backend.dto.ticket.TicketStatusHistoryResponse;
+import com.it_incidents_backend.dto.ticket.TicketVolumeResponse;
+import com.it_incidents_backend.entities.*;
+import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.repository.TicketRepository;
+import com.it_incidents_backend.repository.TicketResolutionDailyRepository;
+import com.it_incidents_backend.repository.TicketStatusEventRepository;
+import com.it_incidents_backend.repository.TicketVolumeRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Ticket status history and resolution-time analytics.
+ *
+ * - Every status transition is appended to ticket_status_events by TicketService, in its transaction
+ * - Transitions to RESOLVED also add their resolution time to the (day, priority, category) row of
+ *   ticket_resolution_daily, locked with SELECT ... FOR UPDATE: reports read those rows, never the tickets
+ * - A resolution stays counted when the ticket is reopened later; resolving it again adds a new resolution
+ *   (measured from the ticket creation)
+ * - The aggregates can be rebuilt from the event log (rebuildResolutionStats)
+ * - Ticket volumes per hour/day/week are counted by the database from the ticket timestamps
+ */
+@Slf4j
+@Service
+public class TicketAnalyticsService {
+
+    private static final double[] PERCENTILES = {0.50, 0.90, 0.95};
+
+    private final TicketStatusEventRepository eventRepository;
+    private final TicketResolutionDailyRepository dailyRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketVolumeRepository volumeRepository;
+    private final TransactionTemplate newRowTx;
+    private final int maxRangeDays;
+    private final int maxBuckets;
+
+    public TicketAnalyticsService(TicketStatusEventRepository eventRepository,
+                                  TicketResolutionDailyRepository dailyRepository,
+                                  TicketRepository ticketRepository,
+                                  TicketVolumeRepository volumeRepository,
+                                  PlatformTransactionManager transactionManager,
+                                  @Value("${tickets.analytics.max-range-days:366}") int maxRangeDays,
+                                  @Value("${tickets.analytics.max-buckets:2000}") int maxBuckets) {
+        this.eventRepository = eventRepository;
+        this.dailyRepository = dailyRepository;
+        this.ticketRepository = ticketRepository;
+        this.volumeRepository = volumeRepository;
+        this.newRowTx = new TransactionTemplate(transactionManager);
+        this.newRowTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.maxRangeDays = maxRangeDays;
+        this.maxBuckets = maxBuckets;
+    }
+
+    // ========== RECORDING ==========
+
+    /**
+     * Append a status transition of the ticket (previousStatus null on creation)
+     * - Part of the caller's transaction: the event and the aggregates commit or roll back with the ticket
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransition(Ticket ticket, TicketStatus previousStatus, String changedBy, LocalDateTime at) {
+        Long resolutionSeconds = null;
+        if (ticket.getStatus() == TicketStatus.RESOLVED && ticket.getResolvedAt() != null) {
+            resolutionSeconds = Math.max(0, Duration.between(ticket.getCreatedAt(), ticket.getResolvedAt()).toSeconds());
+        }
+
+        eventRepository.save(TicketStatusEvent.builder()
+                .ticketId(ticket.getId())
+                .fromStatus(previousStatus)
+                .toStatus(ticket.getStatus())
+                .priority(ticket.getPriority())
+                .category(ticket.getCategory())
+                .changedBy(changedBy)
+                .occurredAt(at)
+                .resolutionSeconds(resolutionSeconds)
+                .build());
+
+        if (resolutionSeconds != null) {
+            LocalDate day = ticket.getResolvedAt().toLocalDate();
+            TicketResolutionDaily row = lockDailyRow(day, ticket.getPriority(), ticket.getCategory());
+            row.record(resolutionSeconds);
+        }
+    }
+
+    /**
+     * Lock the aggregate row, creating it first when this is the first resolution of the key
+     * - Created in its own short transaction so that it exists (and can be locked) for everyone;
+     *   another instance creating it at the same time is fine (unique key)
+     */
+    private TicketResolutionDaily lockDailyRow(LocalDate day, Priority priority, Category category) {
+        Optional<TicketResolutionDaily> row = dailyRepository.findForUpdate(day, priority, category);
+        if (row.isPresent()) {
+            return row.get();
+        }
+        try {
+            newRowTx.executeWithoutResult(status ->
+                    dailyRepository.saveAndFlush(TicketResolutionDaily.empty(day, priority, category)));
+        } catch (DataIntegrityViolationException e) {
+            // Created by another transaction in the meantime
+        }
+        return dailyRepository.findForUpdate(day, priority, category).orElseThrow();
+    }
+
+    /**
+     * Recompute every resolution aggregate from the event log (bulk loads, drift after manual SQL)
+     * - Locks every aggregate row before reading the log: a resolution holding a row lock commits first
+     *   (its event is read), one arriving later waits and adds to the rebuilt row (its event was not read)
+     * - Rows updated in place rather than deleted and re-inserted, so a waiting resolution still finds its row
+     * - One pass over the resolutions, read from a cursor
+     */
+    @Transactional
+    public long rebuildResolutionStats() {
+        Map<String, TicketResolutionDaily> existing = new HashMap<>();
+        for (TicketResolutionDaily row : dailyRepository.findAllForUpdate()) {
+            existing.put(key(row.getResolvedOn(), row.getPriority(), row.getCategory()), row);
+        }
+
+        Map<String, TicketResolutionDaily> rows = new HashMap<>();
+        long resolutions = 0;
+        try (Stream<Object[]> stream = eventRepository.streamResolutions()) {
+            for (Object[] event : (Iterable<Object[]>) stream::iterator) {
+                LocalDate day = ((LocalDateTime) event[0]).toLocalDate();
+                Priority priority = (Priority) event[1];
+                Category category = (Category) event[2];
+                rows.computeIfAbsent(key(day, priority, category),
+                                key -> TicketResolutionDaily.empty(day, priority, category))
+                        .record((Long) event[3]);
+                resolutions++;
+            }
+        }
+
+        for (Map.Entry<String, TicketResolutionDaily> entry : rows.entrySet()) {
+            TicketResolutionDaily recomputed = entry.getValue();
+            TicketResolutionDaily row = existing.remove(entry.getKey());
+            if (row == null) {
+                // Created since the lock by a resolution that has committed (its event was read)
+                row = dailyRepository.findForUpdate(recomputed.getResolvedOn(), recomputed.getPriority(),
+                        recomputed.getCategory()).orElse(null);
+            }
+            if (row == null) {
+                dailyRepository.save(recomputed);
+            } else {
+                row.replaceTotals(recomputed);
+            }
+        }
+        // Locked rows without any resolution left in the log
+        dailyRepository.deleteAllInBatch(existing.values());
+        log.info("Resolution statistics rebuilt: {} resolutions in {} rows", resolutions, rows.size());
+        return resolutions;
+    }
+
+    private static String key(LocalDate day, Priority priority, Category category) {
+        return day + "|" + priority + "|" + category;
+    }
+
+    // ========== REPORTS ==========
+
+    /**
+     * Resolution times of the tickets resolved between from and to (inclusive, default: the last 30 days)
+     * - Reads at most days x priorities x categories aggregate rows
+     */
+    @Transactional(readOnly = true)
+    public TicketResolutionStatsResponse getResolutionStats(LocalDate from, LocalDate to,
+                                                            Priority priority, Category category) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        checkRange(start, end);
+
+        List<TicketResolutionDaily> rows = dailyRepository.findByResolvedOnBetweenOrderByResolvedOn(start, end).stream()
+                .filter(row -> priority == null || row.getPriority() == priority)
+                .filter(row -> category == null || row.getCategory() == category)
+                .toList();
+
+        List<ResolutionTimeStats> days = rows.stream()
+                .collect(Collectors.groupingBy(TicketResolutionDaily::getResolvedOn, TreeMap::new, Collectors.toList()))
+                .entrySet().stream()
+                .map(day -> summarize(day.getKey(), day.getValue()))
+                .toList();
+
+        return TicketResolutionStatsResponse.builder()
+                .from(start)
+                .to(end)
+                .priority(priority)
+                .category(category)
+                .overall(summarize(null, rows))
+                .days(days)
+                .byPriority(breakdown(rows, TicketResolutionDaily::getPriority, Priority.class))
+                .byCategory(breakdown(rows, TicketResolutionDaily::getCategory, Category.class))
+                .build();
+    }
+
+    /**
+     * Transitions of one ticket and the time spent in each status (one indexed query)
+     */
+    @Transactional(readOnly = true)
+    public TicketStatusHistoryResponse getStatusHistory(UUID ticketId) {
+        List<TicketStatusEvent> events = eventRepository.findByTicketIdOrderByOccurredAtAsc(ticketId);
+        if (events.isEmpty() && !ticketRepository.existsById(ticketId)) {
+            throw new AppException("Ticket not found", HttpStatus.NOT_FOUND);
+        }
+
+        Map<TicketStatus, Long> secondsInStatus = new EnumMap<>(TicketStatus.class);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < events.size(); i++) {
+            TicketStatusEvent event = events.get(i);
+            LocalDateTime until = i + 1 < events.size() ? events.get(i + 1).getOccurredAt() : now;
+            secondsInStatus.merge(event.getToStatus(),
+                    Math.max(0, Duration.between(event.getOccurredAt(), until).toSeconds()), Long::sum);
+        }
+
+        return TicketStatusHistoryResponse.builder()
+                .ticketId(ticketId)
+                .transitions(events.stream()
+                        .map(event -> TicketStatusHistoryResponse.Transition.builder()
+                                .fromStatus(event.getFromStatus())
+                                .toStatus(event.getToStatus())
+                                .changedBy(event.getChangedBy())
+                                .occurredAt(event.getOccurredAt())
+                                .build())
+                        .toList())
+                .secondsInStatus(secondsInStatus)
+                .build();
+    }
+
+    /**
+     * Tickets created, resolved and closed per bucket between from and to (inclusive days, default: the last 30)
+     * - Widened to whole buckets (weeks from Monday); one grouped query, empty buckets filled here
+     */
+    @Transactional(readOnly = true)
+    public TicketVolumeResponse getVolume(TicketVolumeResponse.Interval interval, LocalDate from, LocalDate to,
+                                          TicketVolumeResponse.Dimension groupBy) {
+        LocalDate endDay = to != null ? to : LocalDate.now();
+        LocalDate startDay = from != null ? from : endDay.minusDays(29);
+        checkRange(startDay, endDay);
+
+        LocalDateTime start = interval.truncate(startDay.atStartOfDay());
+        LocalDateTime end = endDay.plusDays(1).atStartOfDay();
+        if (!interval.truncate(end).equals(end)) {
+            end = interval.next(interval.truncate(end));
+        }
+
+        Map<LocalDateTime, TicketVolumeResponse.Bucket> buckets = new LinkedHashMap<>();
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = interval.next(bucket)) {
+            if (buckets.size() == maxBuckets) {
+                throw new AppException("Too many buckets (limit " + maxBuckets + "): use a larger interval or a "
+                        + "shorter range", HttpStatus.BAD_REQUEST);
+            }
+            buckets.put(bucket, TicketVolumeResponse.Bucket.builder()
+                    .start(bucket)
+                    .counts(new TicketVolumeResponse.Counts())
+                    .breakdown(groupBy == null ? null : new TreeMap<>())
+                    .build());
+        }
+
+        TicketVolumeResponse.Counts total = new TicketVolumeResponse.Counts();
+        for (TicketVolumeRepository.VolumeRow row : volumeRepository.countByBucket(interval, groupBy, start, end)) {
+            TicketVolumeResponse.Bucket bucket = buckets.get(row.bucket());
+            add(bucket.getCounts(), row);
+            add(total, row);
+            if (groupBy != null && row.key() != null) {
+                add(bucket.getBreakdown().computeIfAbsent(row.key(), key -> new TicketVolumeResponse.Counts()), row);
+            }
+        }
+
+        return TicketVolumeResponse.builder()
+                .interval(interval)
+                .groupBy(groupBy)
+                .from(start)
+                .to(end)
+                .total(total)
+                .buckets(List.copyOf(buckets.values()))
+                .build();
+    }
+
+    // ========== HELPERS ==========
+
+    private void checkRange(LocalDate start, LocalDate end) {
+        if (start.isAfter(end)) {
+            throw new AppException("from must not be after to", HttpStatus.BAD_REQUEST);
+        }
+        if (ChronoUnit.DAYS.between(start, end) >= maxRangeDays) {
+            throw new AppException("Date range is limited to " + maxRangeDays + " days", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private static void add(TicketVolumeResponse.Counts counts, TicketVolumeRepository.VolumeRow row) {
+        switch (row.kind()) {
+            case "CREATED" -> counts.setCreated(counts.getCreated() + row.count());
+            case "RESOLVED" -> counts.setResolved(counts.getResolved() + row.count());
+            case "CLOSED" -> counts.setClosed(counts.getClosed() + row.count());
+            default -> throw new IllegalStateException("Unknown volume kind: " + row.kind());
+        }
+    }
+
+    private static <K extends Enum<K>> Map<K, ResolutionTimeStats> breakdown(List<TicketResolutionDaily> rows,
+                                                                            Function<TicketResolutionDaily, K> key,
+                                                                            Class<K> type) {
+        Map<K, ResolutionTimeStats> result = new EnumMap<>(type);
+        rows.stream()
+                .collect(Collectors.groupingBy(key))
+                .forEach((value, group) -> result.put(value, summarize(null, group)));
+        return result;
+    }
+
+    /**
+     * Merge aggregate rows: counts, sums and histogram cells add up, max is the max
+     */
+    static ResolutionTimeStats summarize(LocalDate day, List<TicketResolutionDaily> rows) {
+        long count = 0;
+        long total = 0;
+        long max = 0;
+        long[] cells = new long[TicketResolutionDaily.BUCKET_UPPER_SECONDS.length + 1];
+        for (TicketResolutionDaily row : rows) {
+            count += row.getResolvedCount();
+            total += row.getTotalSeconds();
+            max = Math.max(max, row.getMaxSeconds());
+            for (int i = 0; i < cells.length; i++) {
+                cells[i] += row.getHistogram()[i];
+            }
+        }
+        if (count == 0) {
+            return ResolutionTimeStats.builder().day(day).build();
+        }
+        return ResolutionTimeStats.builder()
+                .day(day)
+                .resolvedCount(count)
+                .meanSeconds(total / count)
+                .p50Seconds(percentile(cells, count, max, PERCENTILES[0]))
+                .p90Seconds(percentile(cells, count, max, PERCENTILES[1]))
+                .p95Seconds(percentile(cells, count, max, PERCENTILES[2]))
+                .maxSeconds(max)
+                .build();
+    }
+
+    /**
+     * Estimate: find the bucket holding the rank, interpolate linearly inside it (never beyond the max seen)
+     */
+    static long percentile(long[] cells, long count, long max, double quantile) {
+        long rank = Math.max(1, (long) Math.ceil(quantile * count));
+        long before = 0;
+        for (int i = 0; i < cells.length; i++) {
+            if (before + cells[i] >= rank) {
+                long lower = i == 0 ? 0 : TicketResolutionDaily.BUCKET_UPPER_SECONDS[i - 1];
+                long upper = i < TicketResolutionDaily.BUCKET_UPPER_SECONDS.length
+                        ? Math.min(TicketResolutionDaily.BUCKET_UPPER_SECONDS[i], max) : max;
+                if (upper <= lower) {
+                    return upper;
+                }
+                return lower + Math.round((upper - lower) * (double) (rank - before) / cells[i]);
+            }
+            before += cells[i];
+        }
+        return max;
+    }
+}
@@ -0,0 +1,218 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.dto.ticket.TicketExportRow;
+import com.it_incidents_backend.exceptions.ServiceOverloadedException;
+import com.it_incidents_backend.repository.TicketRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Full ticket dumps (audit) written straight into the HTTP response.
+ *
+ * - Rows read from a forward-only cursor (TicketRepository.streamExportRows) and written one by one:
+ *   memory is constant whatever the number of tickets
+ * - CSV or NDJSON, optionally gzip-compressed
+ * - Each export holds a database connection until it ends: at most max-concurrent run at once,
+ *   the next ones get 503 + Retry-After
+ */
+@Slf4j
+@Service
+public class TicketExportService {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final String CSV_HEADER = "id,ticketNumber,title,status,priority,category,createdAt,updatedAt,"
+            + "resolvedAt,closedAt,createdByUsername,commentCount";
+
+    public enum Format {
+        CSV("text/csv", "csv"),
+        NDJSON(MediaType.APPLICATION_NDJSON_VALUE, "ndjson");
+
+        private final String contentType;
+        private final String extension;
+
+        Format(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+    }
+
+    private final TicketRepository ticketRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTx;
+    private final Semaphore exportPermits;
+
+    public TicketExportService(TicketRepository ticketRepository,
+                               ObjectMapper objectMapper,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${tickets.export.max-concurrent:2}") int maxConcurrent) {
+        this.ticketRepository = ticketRepository;
+        this.objectMapper = objectMapper;
+        this.readOnlyTx = new TransactionTemplate(transactionManager);
+        this.readOnlyTx.setReadOnly(true);
+        this.exportPermits = new Semaphore(maxConcurrent);
+    }
+
+    /**
+     * Reserve an export slot now (the caller gets 503 when none is free) and return the body that writes the dump
+     * - The slot is released once the body has been written, or failed (client gone...)
+     * - Register the body as async interceptor of the request: the slot is then also released when
+     *   the request ends without the body having run (async timeout, task executor rejection)
+     */
+    public ExportBody export(Format format, boolean gzip) {
+        if (!exportPermits.tryAcquire()) {
+            throw new ServiceOverloadedException("Too many exports in progress, please retry later", 30);
+        }
+        return new ExportBody(format, gzip);
+    }
+
+    /**
+     * Body of one export, holding its slot until released (once, whichever of the two paths comes first)
+     */
+    public final class ExportBody implements StreamingResponseBody, CallableProcessingInterceptor {
+
+        private final Format format;
+        private final boolean gzip;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ExportBody(Format format, boolean gzip) {
+            this.format = format;
+            this.gzip = gzip;
+        }
+
+        @Override
+        public void writeTo(OutputStream output) throws IOException {
+            if (released.get()) {
+                // The request already ended (timed out): its slot may be in use by another export
+                throw new IOException("Export request already completed");
+            }
+            try {
+                write(output, format, gzip);
+            } finally {
+                release();
+            }
+        }
+
+        @Override
+        public <T> void afterCompletion(NativeWebRequest request, Callable<T> task) {
+            release();
+        }
+
+        private void release() {
+            if (released.compareAndSet(false, true)) {
+                exportPermits.release();
+            }
+        }
+    }
+
+    private void write(OutputStream output, Format format, boolean gzip) throws IOException {
+        OutputStream target = gzip ? new GZIPOutputStream(output, BUFFER_SIZE) : output;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        if (format == Format.CSV) {
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long started = System.currentTimeMillis();
+        long rows;
+        try {
+            // The cursor only streams inside a transaction
+            rows = readOnlyTx.execute(status -> {
+                try (Stream<TicketExportRow> stream = ticketRepository.streamExportRows()) {
+                    long count = 0;
+                    for (TicketExportRow row : (Iterable<TicketExportRow>) stream::iterator) {
+                        writeRow(writer, format, row);
+                        count++;
+                    }
+                    return count;
+                }
+            });
+        } catch (UncheckedIOException e) {
+            // Client disconnected: the cursor and the transaction are already closed
+            throw e.getCause();
+        }
+
+        writer.flush();
+        if (gzip) {
+            ((GZIPOutputStream) target).finish();
+        }
+        log.info("Ticket export ({}{}): {} rows in {} ms", format, gzip ? ", gzip" : "", rows,
+                System.currentTimeMillis() - started);
+    }
+
+    private void writeRow(Writer writer, Format format, TicketExportRow row) {
+        try {
+            if (format == Format.NDJSON) {
+                writer.write(objectMapper.writeValueAsString(row));
+            } else {
+                writer.write(csvLine(row));
+            }
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String csvLine(TicketExportRow row) {
+        return String.join(",",
+                csv(row.id()),
+                csv(row.ticketNumber()),
+                csv(row.title()),
+                csv(row.status()),
+                csv(row.priority()),
+                csv(row.category()),
+                csv(row.createdAt()),
+                csv(row.updatedAt()),
+                csv(row.resolvedAt()),
+                csv(row.closedAt()),
+                csv(row.createdByUsername()),
+                String.valueOf(row.commentCount()));
+    }
+
+    /**
+     * RFC 4180 field: quoted when it contains a comma, a quote or a line break
+     * - A leading =, +, - or @ is prefixed with ' so spreadsheets do not run it as a formula
+     */
+    private static String csv(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (!text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.contains(",") || text.contains("\"") || text.contains("\n") || text.contains("\r")) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
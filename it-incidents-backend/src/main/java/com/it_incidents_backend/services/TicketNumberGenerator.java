@@ -0,0 +1,123 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.entities.TicketNumberCounter;
+import com.it_incidents_backend.repository.TicketNumberCounterRepository;
+import com.it_incidents_backend.repository.TicketRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Ticket numbers (INC-YYYY-NNNN) without table scans nor duplicates.
+ *
+ * - Numbers are handed out from an in-memory block (lock-free)
+ * - A new block is reserved from the per-year counter row (ticket_number_counters),
+ *   locked with SELECT ... FOR UPDATE in its own short transaction
+ * - Several instances each reserve their own blocks: numbers stay unique, not contiguous
+ *
+ * Gap-tolerant: numbers left in a block at shutdown (or used by a rolled back create) are skipped.
+ */
+@Component
+public class TicketNumberGenerator {
+
+    private static final String PREFIX = "INC-";
+
+    private final TicketNumberCounterRepository counterRepository;
+    private final TicketRepository ticketRepository;
+    private final TransactionTemplate reservationTx;
+    private final int blockSize;
+
+    private final ReentrantLock refillLock = new ReentrantLock();
+    private volatile Block current;
+
+    public TicketNumberGenerator(TicketNumberCounterRepository counterRepository,
+                                 TicketRepository ticketRepository,
+                                 PlatformTransactionManager transactionManager,
+                                 @Value("${tickets.number.block-size:50}") int blockSize) {
+        this.counterRepository = counterRepository;
+        this.ticketRepository = ticketRepository;
+        this.reservationTx = new TransactionTemplate(transactionManager);
+        this.reservationTx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    /**
+     * Next ticket number for the current year
+     */
+    public String next() {
+        int year = Year.now().getValue();
+        while (true) {
+            Block block = current;
+            if (block != null && block.year() == year) {
+                long value = block.next().getAndIncrement();
+                if (value < block.end()) {
+                    return format(year, value);
+                }
+            }
+            refill(year, block);
+        }
+    }
+
+    /**
+     * Reserve a new block, unless another thread already replaced the exhausted one
+     * - ReentrantLock rather than synchronized: a virtual thread waiting on the database here does not pin its carrier
+     */
+    private void refill(int year, Block exhausted) {
+        refillLock.lock();
+        try {
+            if (current != exhausted) {
+                return;
+            }
+            long start = reserve(year);
+            current = new Block(year, new AtomicLong(start), start + blockSize);
+        } finally {
+            refillLock.unlock();
+        }
+    }
+
+    /**
+     * Reserve [start, start + blockSize) in the year counter and commit immediately
+     * - Creates the counter on first use, starting after the highest number already issued
+     */
+    private long reserve(int year) {
+        try {
+            return reserveOnce(year);
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the year counter first: lock and use it
+            return reserveOnce(year);
+        }
+    }
+
+    private long reserveOnce(int year) {
+        return reservationTx.execute(status -> {
+            TicketNumberCounter counter = counterRepository.findForUpdate(year)
+                    .orElseGet(() -> newCounter(year));
+            long first = counter.getNextValue();
+            counter.setNextValue(first + blockSize);
+            counterRepository.saveAndFlush(counter);
+            return first;
+        });
+    }
+
+    private TicketNumberCounter newCounter(int year) {
+        Long highest = ticketRepository.findMaxNumberWithPrefix(PREFIX + year + "-");
+        return TicketNumberCounter.builder()
+                .year(year)
+                .nextValue(highest == null ? 1L : highest + 1)
+                .build();
+    }
+
+    private static String format(int year, long value) {
+        return String.format("%s%d-%04d", PREFIX, year, value);
+    }
+
+    private record Block(int year, AtomicLong next, long end) {
+    }
+}
@@ -0,0 +1,101 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.dto.ticket.TicketSearchCriteria;
+import com.it_incidents_backend.dto.ticket.TicketSearchHit;
+import com.it_incidents_backend.dto.ticket.TicketSearchResponse;
+import com.it_incidents_backend.entities.Ticket;
+import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.mapper.TicketMapper;
+import com.it_incidents_backend.repository.TicketRepository;
+import com.it_incidents_backend.repository.TicketSearchRepository;
+import com.it_incidents_backend.repository.TicketSearchRepository.TicketSearchRow;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Ranked full-text search over tickets (ADMIN)
+ * - Matching and ranking done by PostgreSQL (GIN index), tickets then loaded in one query
+ */
+@Service
+@RequiredArgsConstructor
+public class TicketSearchService {
+
+    private static final int MAX_QUERY_LENGTH = 200;
+
+    private final TicketSearchRepository searchRepository;
+    private final TicketRepository ticketRepository;
+    private final TicketMapper ticketMapper;
+
+    @Value("${tickets.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${tickets.page.max-size:100}")
+    private int maxPageSize;
+
+    @Transactional(readOnly = true)
+    public TicketSearchResponse search(TicketSearchCriteria criteria, Integer page, Integer size) {
+        if (!searchRepository.isSupported()) {
+            throw new AppException("Full-text search is not available on this database", HttpStatus.NOT_IMPLEMENTED);
+        }
+        if (criteria.getQuery() == null || criteria.getQuery().isBlank()) {
+            throw new AppException("Search query is required", HttpStatus.BAD_REQUEST);
+        }
+        if (criteria.getQuery().length() > MAX_QUERY_LENGTH) {
+            throw new AppException("Search query must not exceed " + MAX_QUERY_LENGTH + " characters", HttpStatus.BAD_REQUEST);
+        }
+        if (criteria.getCreatedFrom() != null && criteria.getCreatedTo() != null
+                && !criteria.getCreatedFrom().isBefore(criteria.getCreatedTo())) {
+            throw new AppException("createdFrom must be before createdTo", HttpStatus.BAD_REQUEST);
+        }
+
+        int pageNumber = page == null ? 0 : page;
+        if (pageNumber < 0) {
+            throw new AppException("Page must be at least 0", HttpStatus.BAD_REQUEST);
+        }
+        int pageSize = size == null ? defaultPageSize : size;
+        if (pageSize < 1) {
+            throw new AppException("Page size must be at least 1", HttpStatus.BAD_REQUEST);
+        }
+        pageSize = Math.min(pageSize, maxPageSize);
+
+        // One extra row tells whether a next page exists (no COUNT query)
+        List<TicketSearchRow> rows = searchRepository.search(criteria, pageNumber * pageSize, pageSize + 1);
+        boolean hasNext = rows.size() > pageSize;
+        if (hasNext) {
+            rows = rows.subList(0, pageSize);
+        }
+
+        Map<UUID, Ticket> tickets = ticketRepository.findWithCreatorByIdIn(rows.stream().map(TicketSearchRow::id).toList())
+                .stream()
+                .collect(Collectors.toMap(Ticket::getId, Function.identity()));
+
+        // Keep the rank order returned by the database
+        List<TicketSearchHit> hits = new ArrayList<>(rows.size());
+        for (TicketSearchRow row : rows) {
+            Ticket ticket = tickets.get(row.id());
+            if (ticket != null) {
+                hits.add(TicketSearchHit.builder()
+                        .ticket(ticketMapper.toAdminResponse(ticket))
+                        .rank(row.rank())
+                        .build());
+            }
+        }
+
+        return TicketSearchResponse.builder()
+                .items(hits)
+                .page(pageNumber)
+                .size(pageSize)
+                .hasNext(hasNext)
+                .build();
+    }
+}
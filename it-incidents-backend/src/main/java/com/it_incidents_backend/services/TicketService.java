@@ -3,20 +3,33 @@ package com.it_incidents_backend.services;
 import com.it_incidents_backend.dto.comment.CommentResponse;
 import com.it_incidents_backend.dto.ticket.*;
 import com.it_incidents_backend.entities.*;
+import com.it_incidents_backend.events.TicketCommentAddedEvent;
+import com.it_incidents_backend.events.TicketStatusChangedEvent;
 import com.it_incidents_backend.exceptions.AppException;
 import com.it_incidents_backend.mapper.CommentMapper;
 import com.it_incidents_backend.mapper.TicketMapper;
 import com.it_incidents_backend.repository.TicketCommentRepository;
 import com.it_incidents_backend.repository.TicketRepository;
+import com.it_incidents_backend.repository.TicketSpecifications;
 import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Window;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.time.Year;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.UUID;
 
@@ -29,6 +42,23 @@ public class TicketService {
     private final TicketCommentRepository commentRepository;
     private final TicketMapper ticketMapper;
     private final CommentMapper commentMapper;
+    private final TicketStatsSnapshot statsSnapshot;
+    private final TicketNumberGenerator ticketNumberGenerator;
+    private final TicketAnalyticsService analyticsService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // ========== KEYSET PAGINATION SETTINGS ==========
+    // Stable order: created_at DESC, then id DESC to break ties between tickets created at the same instant
+    private static final Sort KEYSET_SORT = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    // Max ticket ids per IN (...) when batch-loading comments
+    private static final int COMMENT_BATCH_SIZE = 500;
+
+    @Value("${tickets.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${tickets.page.max-size:100}")
+    private int maxPageSize;
 
     /**
      * Create a new ticket (USER role)
@@ -43,13 +73,14 @@ public class TicketService {
         Ticket ticket = ticketMapper.toEntity(request);
 
         // Set required fields
-        ticket.setTicketNumber(generateTicketNumber());
+        ticket.setTicketNumber(ticketNumberGenerator.next());
         ticket.setStatus(TicketStatus.PENDING);
         ticket.setCreatedBy(user);
         ticket.setLastUpdatedBy(user.getUsername());
 
         // Save ticket
         Ticket savedTicket = ticketRepository.save(ticket);
+        publishStatusChange(savedTicket, null, user.getUsername());
 
         return ticketMapper.toResponse(savedTicket);
     }
@@ -67,7 +98,7 @@ public class TicketService {
      */
     @Transactional(readOnly = true)
     public List<TicketAdminResponse> getAllTicketsForAdmin() {
-        List<Ticket> tickets = ticketRepository.findAllByOrderByCreatedAtDesc();
+        List<Ticket> tickets = ticketRepository.findAllWithCreatorOrderByCreatedAtDesc();
         return ticketMapper.toAdminResponseList(tickets);
     }
 
@@ -79,7 +110,7 @@ public class TicketService {
      */
     @Transactional(readOnly = true)
     public TicketDetailResponse getTicketById(UUID ticketId, UUID userId, Role userRole) {
-        Ticket ticket = ticketRepository.findById(ticketId)
+        Ticket ticket = ticketRepository.findWithDetailsById(ticketId)
                 .orElseThrow(() -> new AppException("Ticket not found", HttpStatus.NOT_FOUND));
 
         // Check permissions
@@ -112,7 +143,7 @@ public class TicketService {
     /**
      * Get user's own tickets
      */
-    @Transactional
+    @Transactional(readOnly = true)
     public List<TicketDetailResponse> getMyTickets(UUID userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new AppException("User not found", HttpStatus.NOT_FOUND));
@@ -120,18 +151,7 @@ public class TicketService {
         List<Ticket> tickets = ticketRepository.findByCreatedByOrderByCreatedAtDesc(user);
 
         // Map to detailed response with public comments only
-        return tickets.stream()
-                .map(ticket -> {
-                    TicketDetailResponse response = ticketMapper.toDetailResponse(ticket);
-                    // Filter to show only public comments
-                    List<CommentResponse> publicComments = ticket.getComments().stream()
-                            .filter(comment -> !comment.getIsInternal())
-                            .map(commentMapper::toResponse)
-                            .collect(Collectors.toList());
-                    response.setComments(publicComments);
-                    return response;
-                })
-                .collect(Collectors.toList());
+        return toOwnerDetailResponses(tickets);
     }
 
     /**
@@ -139,10 +159,11 @@ public class TicketService {
      */
     @Transactional
     public TicketDetailResponse updateTicketStatus(UUID ticketId, UpdateTicketStatusRequest request, String adminUsername) {
-        Ticket ticket = ticketRepository.findById(ticketId)
+        Ticket ticket = ticketRepository.findWithDetailsById(ticketId)
                 .orElseThrow(() -> new AppException("Ticket not found", HttpStatus.NOT_FOUND));
 
         // Update status
+        TicketStatus previousStatus = ticket.getStatus();
         ticket.setStatus(request.getStatus());
         ticket.setLastUpdatedBy(adminUsername);
 
@@ -162,6 +183,7 @@ public class TicketService {
 
         // Save
         Ticket updatedTicket = ticketRepository.save(ticket);
+        publishStatusChange(updatedTicket, previousStatus, adminUsername);
         return ticketMapper.toDetailResponse(updatedTicket);
     }
 
@@ -170,7 +192,7 @@ public class TicketService {
      */
     @Transactional
     public TicketDetailResponse confirmResolution(UUID ticketId, ConfirmResolutionRequest request, UUID userId) {
-        Ticket ticket = ticketRepository.findById(ticketId)
+        Ticket ticket = ticketRepository.findWithDetailsById(ticketId)
                 .orElseThrow(() -> new AppException("Ticket not found", HttpStatus.NOT_FOUND));
 
         // Check if user owns this ticket
@@ -183,6 +205,7 @@ public class TicketService {
             throw new AppException("Ticket must be in RESOLVED status to confirm", HttpStatus.BAD_REQUEST);
         }
 
+        TicketStatus previousStatus = ticket.getStatus();
         if (request.getConfirmed()) {
             // User confirms resolution → close ticket
             ticket.close();
@@ -198,33 +221,35 @@ public class TicketService {
                         .content(request.getComment())
                         .isInternal(false)
                         .build();
-                commentRepository.save(comment);
+                TicketComment savedComment = commentRepository.save(comment);
+
+                // Pushed like any other comment (CommentService.addComment)
+                eventPublisher.publishEvent(new TicketCommentAddedEvent(
+                        ticket.getId(),
+                        ticket.getTicketNumber(),
+                        ticket.getCreatedBy().getId(),
+                        savedComment.getId(),
+                        ticket.getCreatedBy().getUsername(),
+                        false,
+                        LocalDateTime.now()
+                ));
             }
         }
 
         ticket.setLastUpdatedBy(ticket.getCreatedBy().getUsername());
         Ticket updatedTicket = ticketRepository.save(ticket);
+        publishStatusChange(updatedTicket, previousStatus, updatedTicket.getLastUpdatedBy());
 
         return ticketMapper.toDetailResponse(updatedTicket);
     }
 
     /**
      * Get ticket statistics (ADMIN dashboard)
+     * - Served from an in-memory snapshot: O(1) whatever the number of tickets
+     * - Snapshot built with one grouped query, then maintained on status transitions
      */
     public TicketStatsResponse getTicketStats() {
-        long totalTickets = ticketRepository.count();
-        long pendingTickets = ticketRepository.countByStatus(TicketStatus.PENDING);
-        long inProgressTickets = ticketRepository.countByStatus(TicketStatus.IN_PROGRESS);
-        long resolvedTickets = ticketRepository.countByStatus(TicketStatus.RESOLVED);
-        long closedTickets = ticketRepository.countByStatus(TicketStatus.CLOSED);
-
-        return TicketStatsResponse.builder()
-                .totalTickets(totalTickets)
-                .pendingTickets(pendingTickets)
-                .inProgressTickets(inProgressTickets)
-                .resolvedTickets(resolvedTickets)
-                .closedTickets(closedTickets)
-                .build();
+        return statsSnapshot.current();
     }
 
     /**
@@ -243,12 +268,172 @@ public class TicketService {
         return ticketMapper.toResponseList(tickets);
     }
 
+    // ========== KEYSET-PAGINATED LISTINGS ==========
+
+    /**
+     * Page of all tickets (PUBLIC, limited info)
+     */
+    @Transactional(readOnly = true)
+    public TicketPageResponse<TicketResponse> getTicketsPage(String cursor, Integer size) {
+        int limit = resolvePageSize(size);
+        Window<Ticket> window = ticketRepository.findAllBy(
+                KeysetCursor.toScrollPosition(cursor), KEYSET_SORT, Limit.of(limit));
+        return toPage(window, limit, ticketMapper::toResponseList);
+    }
+
+    /**
+     * Page of all tickets for ADMIN (includes creator username)
+     */
+    @Transactional(readOnly = true)
+    public TicketPageResponse<TicketAdminResponse> getTicketsPageForAdmin(String cursor, Integer size) {
+        int limit = resolvePageSize(size);
+        Window<Ticket> window = ticketRepository.findWithCreatorBy(
+                KeysetCursor.toScrollPosition(cursor), KEYSET_SORT, Limit.of(limit));
+        return toPage(window, limit, ticketMapper::toAdminResponseList);
+    }
+
+    /**
+     * Page of the current user's tickets (public comments only)
+     */
+    @Transactional(readOnly = true)
+    public TicketPageResponse<TicketDetailResponse> getMyTicketsPage(UUID userId, String cursor, Integer size) {
+        int limit = resolvePageSize(size);
+        Window<Ticket> window = ticketRepository.findByCreatedById(
+                userId, KeysetCursor.toScrollPosition(cursor), KEYSET_SORT, Limit.of(limit));
+        return toPage(window, limit, this::toOwnerDetailResponses);
+    }
+
+    /**
+     * Page of tickets with the given status (ADMIN filtering)
+     */
+    @Transactional(readOnly = true)
+    public TicketPageResponse<TicketResponse> getTicketsByStatusPage(TicketStatus status, String cursor, Integer size) {
+        int limit = resolvePageSize(size);
+        Window<Ticket> window = ticketRepository.findByStatus(
+                status, KeysetCursor.toScrollPosition(cursor), KEYSET_SORT, Limit.of(limit));
+        return toPage(window, limit, ticketMapper::toResponseList);
+    }
+
+    /**
+     * Page of tickets with the given priority (ADMIN filtering)
+     */
+    @Transactional(readOnly = true)
+    public TicketPageResponse<TicketResponse> getTicketsByPriorityPage(Priority priority, String cursor, Integer size) {
+        int limit = resolvePageSize(size);
+        Window<Ticket> window = ticketRepository.findByPriority(
+                priority, KeysetCursor.toScrollPosition(cursor), KEYSET_SORT, Limit.of(limit));
+        return toPage(window, limit, ticketMapper::toResponseList);
+    }
+
+    /**
+     * Page of tickets matching any combination of filters (ADMIN filtering)
+     * - One query per page (creator fetched with the tickets), served by the tickets composite indexes
+     */
+    @Transactional(readOnly = true)
+    public TicketPageResponse<TicketAdminResponse> getFilteredTicketsPage(TicketFilterRequest filter, String cursor, Integer size) {
+        if (filter.getCreatedFrom() != null && filter.getCreatedTo() != null
+                && !filter.getCreatedFrom().isBefore(filter.getCreatedTo())) {
+            throw new AppException("createdFrom must be before createdTo", HttpStatus.BAD_REQUEST);
+        }
+        if (filter.getResolvedFrom() != null && filter.getResolvedTo() != null
+                && !filter.getResolvedFrom().isBefore(filter.getResolvedTo())) {
+            throw new AppException("resolvedFrom must be before resolvedTo", HttpStatus.BAD_REQUEST);
+        }
+
+        int limit = resolvePageSize(size);
+        Specification<Ticket> spec = TicketSpecifications.matching(filter).and(TicketSpecifications.fetchCreator());
+        Window<Ticket> window = ticketRepository.findBy(spec, query -> query
+                .sortBy(KEYSET_SORT)
+                .limit(limit)
+                .scroll(KeysetCursor.toScrollPosition(cursor)));
+        return toPage(window, limit, ticketMapper::toAdminResponseList);
+    }
+
+    // ========== HELPER METHODS ==========
+
+    /**
+     * Record a creation or status transition in the status history (same transaction)
+     * and notify listeners (stats snapshot, ...)
+     */
+    private void publishStatusChange(Ticket ticket, TicketStatus previousStatus, String changedBy) {
+        if (previousStatus == ticket.getStatus()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        analyticsService.recordTransition(ticket, previousStatus, changedBy, now);
+        eventPublisher.publishEvent(new TicketStatusChangedEvent(
+                ticket.getId(),
+                ticket.getTicketNumber(),
+                ticket.getCreatedBy().getId(),
+                previousStatus,
+                ticket.getStatus(),
+                ticket.getPriority(),
+                ticket.getCategory(),
+                changedBy,
+                now
+        ));
+    }
+
+    /**
+     * Tickets seen by their owner: details + public comments only
+     * - Comments and their authors are loaded for all tickets in one query per chunk
+     *   instead of one lazy load per ticket (and per comment author)
+     * - commentCount keeps counting every comment, as toDetailResponse does
+     */
+    private List<TicketDetailResponse> toOwnerDetailResponses(List<Ticket> tickets) {
+        Map<UUID, List<TicketComment>> commentsByTicket = new HashMap<>();
+        List<UUID> ticketIds = tickets.stream().map(Ticket::getId).toList();
+        for (int from = 0; from < ticketIds.size(); from += COMMENT_BATCH_SIZE) {
+            List<UUID> chunk = ticketIds.subList(from, Math.min(from + COMMENT_BATCH_SIZE, ticketIds.size()));
+            for (TicketComment comment : commentRepository.findWithAuthorByTicketIdIn(chunk)) {
+                commentsByTicket.computeIfAbsent(comment.getTicket().getId(), id -> new ArrayList<>()).add(comment);
+            }
+        }
+
+        return tickets.stream()
+                .map(ticket -> {
+                    List<TicketComment> comments = commentsByTicket.getOrDefault(ticket.getId(), List.of());
+                    TicketDetailResponse response = ticketMapper.toDetailResponseWithoutComments(ticket);
+                    response.setCommentCount(comments.size());
+                    // Filter to show only public comments
+                    response.setComments(comments.stream()
+                            .filter(comment -> !comment.getIsInternal())
+                            .map(commentMapper::toResponse)
+                            .collect(Collectors.toList()));
+                    return response;
+                })
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * Requested page size, defaulted and capped by configuration
+     */
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new AppException("Page size must be at least 1", HttpStatus.BAD_REQUEST);
+        }
+        return Math.min(size, maxPageSize);
+    }
+
     /**
-     * Generate unique ticket number (e.g., INC-2025-0001)
+     * Build the page DTO; the cursor points at the last ticket returned
      */
-    private String generateTicketNumber() {
-        int year = Year.now().getValue();
-        long count = ticketRepository.count() + 1;
-        return String.format("INC-%d-%04d", year, count);
+    private <T> TicketPageResponse<T> toPage(Window<Ticket> window, int limit, Function<List<Ticket>, List<T>> mapper) {
+        List<Ticket> tickets = window.getContent();
+        String nextCursor = null;
+        if (window.hasNext() && !tickets.isEmpty()) {
+            Ticket last = tickets.get(tickets.size() - 1);
+            nextCursor = new KeysetCursor(last.getCreatedAt(), last.getId()).encode();
+        }
+
+        return TicketPageResponse.<T>builder()
+                .items(mapper.apply(tickets))
+                .size(limit)
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
     }
-}
\ No newline at end of file
+}
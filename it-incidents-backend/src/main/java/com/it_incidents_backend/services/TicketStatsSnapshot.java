@@ -0,0 +1,139 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.dto.ticket.TicketStatsResponse;
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
+import com.it_incidents_backend.entities.TicketStatus;
+import com.it_incidents_backend.events.TicketStatusChangedEvent;
+import com.it_incidents_backend.repository.TicketRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * In-memory ticket counters backing the admin dashboard statistics.
+ *
+ * - Loaded with a single GROUP BY (status, priority, category) query
+ * - Kept up to date incrementally from TicketStatusChangedEvent (after commit)
+ * - Fully recomputed in the background to absorb any drift
+ *   (changes made outside the application, concurrent refresh, other nodes)
+ *
+ * Reading the stats never touches the database once the snapshot is loaded.
+ */
+@Component
+@RequiredArgsConstructor
+public class TicketStatsSnapshot {
+
+    private static final TicketStatus[] STATUSES = TicketStatus.values();
+    private static final Priority[] PRIORITIES = Priority.values();
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final TicketRepository ticketRepository;
+
+    private final ReentrantLock refreshLock = new ReentrantLock();
+
+    // One counter per (status, priority, category) cell
+    private volatile AtomicLongArray counts;
+    private volatile LocalDateTime refreshedAt;
+
+    /**
+     * Current statistics (loads the snapshot on first use)
+     */
+    public TicketStatsResponse current() {
+        AtomicLongArray cells = counts;
+        if (cells == null) {
+            cells = refresh();
+        }
+
+        Map<TicketStatus, Long> byStatus = new EnumMap<>(TicketStatus.class);
+        Map<Priority, Long> byPriority = new EnumMap<>(Priority.class);
+        Map<Category, Long> byCategory = new EnumMap<>(Category.class);
+        for (TicketStatus status : STATUSES) byStatus.put(status, 0L);
+        for (Priority priority : PRIORITIES) byPriority.put(priority, 0L);
+        for (Category category : CATEGORIES) byCategory.put(category, 0L);
+
+        long total = 0;
+        for (TicketStatus status : STATUSES) {
+            for (Priority priority : PRIORITIES) {
+                for (Category category : CATEGORIES) {
+                    long count = Math.max(0, cells.get(index(status, priority, category)));
+                    total += count;
+                    byStatus.merge(status, count, Long::sum);
+                    byPriority.merge(priority, count, Long::sum);
+                    byCategory.merge(category, count, Long::sum);
+                }
+            }
+        }
+
+        return TicketStatsResponse.builder()
+                .totalTickets(total)
+                .pendingTickets(byStatus.get(TicketStatus.PENDING))
+                .inProgressTickets(byStatus.get(TicketStatus.IN_PROGRESS))
+                .resolvedTickets(byStatus.get(TicketStatus.RESOLVED))
+                .closedTickets(byStatus.get(TicketStatus.CLOSED))
+                .cancelledTickets(byStatus.get(TicketStatus.CANCELLED))
+                .ticketsByPriority(byPriority)
+                .ticketsByCategory(byCategory)
+                .generatedAt(refreshedAt)
+                .build();
+    }
+
+    /**
+     * Periodic full recount (tickets.stats.refresh-interval-ms)
+     */
+    @Scheduled(
+            initialDelayString = "${tickets.stats.refresh-interval-ms:300000}",
+            fixedDelayString = "${tickets.stats.refresh-interval-ms:300000}"
+    )
+    public void scheduledRefresh() {
+        refresh();
+    }
+
+    /**
+     * Recompute every counter with one grouped query
+     * - One refresh at a time (ReentrantLock: no carrier pinning on virtual threads while the query runs)
+     */
+    public AtomicLongArray refresh() {
+        refreshLock.lock();
+        try {
+            AtomicLongArray fresh = new AtomicLongArray(STATUSES.length * PRIORITIES.length * CATEGORIES.length);
+            List<Object[]> rows = ticketRepository.countGroupedByStatusPriorityCategory();
+            for (Object[] row : rows) {
+                fresh.addAndGet(index((TicketStatus) row[0], (Priority) row[1], (Category) row[2]), (Long) row[3]);
+            }
+            counts = fresh;
+            refreshedAt = LocalDateTime.now();
+            return fresh;
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    /**
+     * Apply a committed status transition: O(1), no query
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onTicketStatusChanged(TicketStatusChangedEvent event) {
+        AtomicLongArray cells = counts;
+        if (cells == null) {
+            return; // Not loaded yet: the first read will see the committed data
+        }
+        if (event.previousStatus() != null) {
+            cells.decrementAndGet(index(event.previousStatus(), event.priority(), event.category()));
+        }
+        cells.incrementAndGet(index(event.newStatus(), event.priority(), event.category()));
+    }
+
+    private static int index(TicketStatus status, Priority priority, Category category) {
+        return (status.ordinal() * PRIORITIES.length + priority.ordinal()) * CATEGORIES.length + category.ordinal();
+    }
+}
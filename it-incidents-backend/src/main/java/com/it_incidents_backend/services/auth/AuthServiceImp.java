@@ -10,7 +10,12 @@ import com.it_incidents_backend.entities.Role;
 import com.it_incidents_backend.entities.User;
 import com.it_incidents_backend.exceptions.AppException;
 import com.it_incidents_backend.exceptions.PasswordExpiredException;
+import com.it_incidents_backend.exceptions.ServiceOverloadedException;
 import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.security.LoginIdentityFilter;
+import com.it_incidents_backend.security.PasswordReuseCheck;
+import com.it_incidents_backend.security.VerifiedToken;
+import com.it_incidents_backend.services.users.LoginConflicts;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
@@ -43,17 +48,8 @@ public class AuthServiceImp implements AuthService {
             "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$"
     );
 
-    /**
-     * Maximum failed login attempts before account lockout
-     * After 5 failed attempts, the account is temporarily locked
-     */
-    private static final int MAX_FAILED_ATTEMPTS = 5;
-
-    /**
-     * Account lockout duration in minutes
-     * User must wait 15 minutes before attempting to log in again
-     */
-    private static final int LOCKOUT_DURATION_MINUTES = 15;
+    private static final String USERNAME_TAKEN = "Username is already taken";
+    private static final String EMAIL_TAKEN = "Email is already registered";
 
     /**
      * Password expiration period in days
@@ -67,6 +63,12 @@ public class AuthServiceImp implements AuthService {
     private final UserRepository userRepository;
     private final JwtUtil jwtUtil;
     private final LoginAttemptService loginAttemptService;
+    private final LoginIdentityFilter loginIdentityFilter;
+
+    /**
+     * Hash compared against for unknown logins (created on first use, with the current work factor)
+     */
+    private volatile String dummyHash;
 
 
     @Autowired
@@ -74,12 +76,14 @@ public class AuthServiceImp implements AuthService {
             PasswordEncoder passwordEncoder,
             UserRepository userRepository,
             JwtUtil jwtUtil,
-            LoginAttemptService loginAttemptService
+            LoginAttemptService loginAttemptService,
+            LoginIdentityFilter loginIdentityFilter
     ) {
         this.passwordEncoder = passwordEncoder;
         this.userRepository = userRepository;
         this.jwtUtil = jwtUtil;
         this.loginAttemptService = loginAttemptService;
+        this.loginIdentityFilter = loginIdentityFilter;
     }
 
     // ========== AUTHENTICATION METHOD ==========
@@ -106,13 +110,19 @@ public class AuthServiceImp implements AuthService {
     public AuthResponse authenticate(LoginRequest loginRequest) {
         String usernameOrEmail = loginRequest.getUsernameOrEmail();
 
+        // ========== STEP 0: THROTTLE ==========
+        // Too many recent failures from this client IP: reject before any query or hash
+        loginAttemptService.checkClientNotThrottled();
+
         // ========== STEP 1: FIND USER ==========
+        // Login known to match no account (in-memory filter): rejected without a query
+        if (!loginIdentityFilter.mightExist(usernameOrEmail)) {
+            throw rejectUnknownLogin(loginRequest);
+        }
+
         // Search by username OR email (both are unique)
         User user = userRepository.findByUsernameOrEmail(usernameOrEmail, usernameOrEmail)
-                .orElseThrow(() -> new AppException(
-                        "Invalid credentials",
-                        HttpStatus.UNAUTHORIZED
-                ));
+                .orElseThrow(() -> rejectUnknownLogin(loginRequest));
 
         // ========== STEP 2: SECURITY CHECKS ==========
 
@@ -135,7 +145,7 @@ public class AuthServiceImp implements AuthService {
         }
 
         // CHECK 3: Is account temporarily locked due to failed login attempts?
-        // After MAX_FAILED_ATTEMPTS, account is locked for LOCKOUT_DURATION_MINUTES
+        // Set by LoginAttemptService: security.max-failed-attempts failures lock it for security.lockout-duration-minutes
         if (user.getLockedUntil() != null) {
             if (LocalDateTime.now().isBefore(user.getLockedUntil())) {
                 // Still locked - calculate remaining time
@@ -168,6 +178,9 @@ public class AuthServiceImp implements AuthService {
             );
         }
 
+        // CHECK 4b: Too many recent failures for this account (in memory, not yet persisted as a lock)?
+        loginAttemptService.checkAccountNotThrottled(user);
+
         // ========== STEP 3: PASSWORD VERIFICATION ==========
 
         // BCrypt password matching (constant-time comparison to prevent timing attacks)
@@ -195,11 +208,15 @@ public class AuthServiceImp implements AuthService {
 
         // ========== STEP 5: SUCCESSFUL LOGIN ==========
 
-        // Reset failed login attempts counter
+        // Reset failed login attempts counter (in memory, and the persisted lock state if any)
+        loginAttemptService.recordSuccessfulLogin(user);
         if (user.getFailedLoginAttempts() > 0) {
             user.resetFailedLoginAttempts();
         }
 
+        // Rehash if the stored hash uses another algorithm or work factor than the current target
+        upgradePasswordHash(user, loginRequest.getPassword());
+
         // Update last login timestamp for audit trail
         user.setLastLogin(LocalDateTime.now());
         userRepository.save(user);
@@ -234,6 +251,47 @@ public class AuthServiceImp implements AuthService {
 
 
 
+    /**
+     * Unknown login: same error and same hashing work as a wrong password,
+     * so neither the message nor the response time reveals which logins exist
+     */
+    private AppException rejectUnknownLogin(LoginRequest loginRequest) {
+        passwordEncoder.matches(loginRequest.getPassword(), dummyHash());
+        loginAttemptService.recordUnknownLogin(loginRequest.getUsernameOrEmail());
+        return new AppException(
+                "Invalid credentials",
+                HttpStatus.UNAUTHORIZED
+        );
+    }
+
+    private String dummyHash() {
+        String hash = dummyHash;
+        if (hash == null) {
+            hash = passwordEncoder.encode(UUID.randomUUID().toString());
+            dummyHash = hash;
+        }
+        return hash;
+    }
+
+    /**
+     * Transparent hash upgrade (algorithm or work factor changed since the password was set)
+     * - Only possible here: the raw password is known and has just been verified
+     * - passwordChangedAt untouched: same password, the expiration timer keeps running
+     * - Skipped when the hashing pool is saturated, retried at the next login
+     */
+    private void upgradePasswordHash(User user, String rawPassword) {
+        if (!passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        try {
+            user.setPassword(passwordEncoder.encode(rawPassword));
+        } catch (ServiceOverloadedException e) {
+            // The login itself succeeded, do not fail it for an optional rehash
+        }
+    }
+
+
+
     // ========== SIGNUP/REGISTRATION METHOD ==========
 
     /**
@@ -258,20 +316,20 @@ public class AuthServiceImp implements AuthService {
 
         // ========== STEP 1: INPUT VALIDATION ==========
 
-        // VALIDATION 1: Check if username already exists
+        // VALIDATION 1 & 2: Check if username or email already exists (one query)
         // Usernames must be unique across the system
-        if (userRepository.existsByUsername(signUpRequest.getUsername())) {
+        // Emails must be unique (used for account recovery)
+        LoginConflicts conflicts = LoginConflicts.find(
+                userRepository, signUpRequest.getUsername(), signUpRequest.getEmail());
+        if (conflicts.usernameTaken(signUpRequest.getUsername())) {
             throw new AppException(
-                    "Username is already taken",
+                    USERNAME_TAKEN,
                     HttpStatus.BAD_REQUEST
             );
         }
-
-        // VALIDATION 2: Check if email already exists
-        // Emails must be unique (used for account recovery)
-        if (userRepository.existsByEmail(signUpRequest.getEmail())) {
+        if (conflicts.emailTaken(signUpRequest.getEmail())) {
             throw new AppException(
-                    "Email is already registered",
+                    EMAIL_TAKEN,
                     HttpStatus.BAD_REQUEST
             );
         }
@@ -310,8 +368,7 @@ public class AuthServiceImp implements AuthService {
                 .build();
 
         // ========== STEP 3: HASH PASSWORD ==========
-        // BCrypt hashing with automatic salt generation
-        // The strength (12) is configured in SecurityConfig
+        // Salted hash; algorithm and work factor come from security.password-hashing.* (SecurityConfig)
 //        user.setPassword(passwordEncoder.encode(signUpRequest.getPassword()));
 //
 //        // ========== STEP 4: SET SECURE DEFAULTS ==========
@@ -324,7 +381,9 @@ public class AuthServiceImp implements AuthService {
 //        user.setLastLogin(LocalDateTime.now());     // Set initial login time
 
         // ========== STEP 5: SAVE USER ==========
-        user = userRepository.save(user);
+        // Flushed now: a concurrent signup with the same login gets the same 400, not a 500
+        user = LoginConflicts.saveAndFlush(userRepository, user, USERNAME_TAKEN, EMAIL_TAKEN);
+        loginIdentityFilter.register(user.getUsername(), user.getEmail());
 
         // ========== STEP 6: GENERATE JWT TOKENS ==========
 
@@ -381,17 +440,16 @@ public class AuthServiceImp implements AuthService {
 
         // ========== STEP 1: VALIDATE REFRESH TOKEN ==========
 
-        // Check if token is valid and not expired
-        if (!jwtUtil.validateToken(refreshToken) || jwtUtil.isTokenExpired(refreshToken)) {
-            throw new AppException(
-                    "Invalid or expired refresh token",
-                    HttpStatus.UNAUTHORIZED
-            );
-        }
+        // Signature and expiration are checked in a single parse
+        VerifiedToken token = jwtUtil.verify(refreshToken)
+                .orElseThrow(() -> new AppException(
+                        "Invalid or expired refresh token",
+                        HttpStatus.UNAUTHORIZED
+                ));
 
         // ========== STEP 2: VERIFY TOKEN TYPE ==========
         // Ensure this is actually a refresh token, not an access token
-        if (!"refresh".equals(jwtUtil.getTokenType(refreshToken))) {
+        if (!token.isRefreshToken()) {
             throw new AppException(
                     "Invalid token type",
                     HttpStatus.UNAUTHORIZED
@@ -399,8 +457,13 @@ public class AuthServiceImp implements AuthService {
         }
 
         // ========== STEP 3: EXTRACT USER INFO ==========
-        String username = jwtUtil.getUsernameFromToken(refreshToken);
-        UUID userId = jwtUtil.getUserIdFromToken(refreshToken);
+        UUID userId = token.userId();
+        if (userId == null) {
+            throw new AppException(
+                    "Invalid or expired refresh token",
+                    HttpStatus.UNAUTHORIZED
+            );
+        }
 
         // ========== STEP 4: FIND AND VALIDATE USER ==========
         User user = userRepository.findById(userId)
@@ -504,7 +567,8 @@ public class AuthServiceImp implements AuthService {
 
         // VALIDATION 2: Ensure new password is different from current
         // Prevents users from "changing" to the same password
-        if (passwordEncoder.matches(request.getNewPassword(), user.getPassword())) {
+        // (current password verified in step 2: compared in memory, no second BCrypt hash)
+        if (PasswordReuseCheck.isSamePassword(request.getNewPassword(), request.getCurrentPassword())) {
             throw new AppException(
                     "New password must be different from current password",
                     HttpStatus.BAD_REQUEST
@@ -1,10 +1,20 @@
 package com.it_incidents_backend.services.auth;
 
 import com.it_incidents_backend.entities.User;
+import com.it_incidents_backend.exceptions.AppException;
 import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.security.AccountStatusChangedEvent;
+import com.it_incidents_backend.security.LoginThrottle;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Propagation;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import java.time.LocalDateTime;
 
@@ -12,32 +22,95 @@ import java.time.LocalDateTime;
 public class LoginAttemptService {
 
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LoginThrottle loginThrottle;
+    private final TransactionTemplate requiresNew;
+    private final long lockoutMinutes;
 
-    // public static final int MAX_FAILED_ATTEMPTS = 5;
-    // public static final int LOCKOUT_DURATION_MINUTES = 15;
-
-    public LoginAttemptService(UserRepository userRepository) {
+    public LoginAttemptService(UserRepository userRepository,
+                               ApplicationEventPublisher eventPublisher,
+                               LoginThrottle loginThrottle,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${security.lockout-duration-minutes:30}") long lockoutMinutes) {
         this.userRepository = userRepository;
+        this.eventPublisher = eventPublisher;
+        this.loginThrottle = loginThrottle;
+        this.requiresNew = new TransactionTemplate(transactionManager);
+        this.requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.lockoutMinutes = lockoutMinutes;
+    }
+
+    /**
+     * Reject the attempt before any query when the client IP already reached its failure limit
+     */
+    public void checkClientNotThrottled() {
+        if (loginThrottle.isIpThrottled(clientIp())) {
+            throw tooManyAttempts();
+        }
     }
+
+    /**
+     * Reject the attempt before the password hash when the account already reached its failure limit
+     * (parallel attempts started before the lock was written)
+     */
+    public void checkAccountNotThrottled(User user) {
+        if (loginThrottle.isLoginThrottled(user.getUsername(), user.getEmail())) {
+            throw tooManyAttempts();
+        }
+    }
+
     /**
      * Handle failed login attempt
      *
      * SECURITY FEATURES:
-     * - Increments failed attempts counter
-     * - Locks account after MAX_FAILED_ATTEMPTS
-     * - Sets temporary lockout time
+     * - Counts the failure in memory (per username, email and client IP): no database write
+     * - Locks account after max-failed-attempts within the window
+     * - Sets temporary lockout time: the only state written, in its own transaction
+     *   (the login transaction is rolled back by the error)
      *
      * @param user The user who failed to log in
-     * Record a failed login attempt in a separate transaction
      */
-    @Transactional(propagation = Propagation.REQUIRES_NEW)
     public void recordFailedLogin(User user) {
-        user.incrementFailedLoginAttempts();
+        int failures = loginThrottle.recordFailure(clientIp(), user.getUsername(), user.getEmail());
+        if (!loginThrottle.isLockThreshold(failures)) {
+            return;
+        }
 
-        // if (user.getFailedLoginAttempts() >= MAX_FAILED_ATTEMPTS) {
-        //     user.setLockedUntil(LocalDateTime.now().plusMinutes(LOCKOUT_DURATION_MINUTES));
-        // }
+        LocalDateTime lockedUntil = LocalDateTime.now().plusMinutes(lockoutMinutes);
+        requiresNew.executeWithoutResult(status -> {
+            userRepository.lockTemporarily(user.getId(), failures, lockedUntil);
+            // The account is now temporarily locked: drop any cached status
+            eventPublisher.publishEvent(new AccountStatusChangedEvent(user.getId()));
+        });
+    }
 
-        userRepository.save(user);
+    /**
+     * Failed attempt on a login that matches no account (counted for the login and the IP)
+     */
+    public void recordUnknownLogin(String usernameOrEmail) {
+        loginThrottle.recordFailure(clientIp(), usernameOrEmail);
+    }
+
+    public void recordSuccessfulLogin(User user) {
+        loginThrottle.reset(user.getUsername(), user.getEmail());
+    }
+
+    private static AppException tooManyAttempts() {
+        return new AppException(
+                "Too many failed login attempts. Please try again later.",
+                HttpStatus.TOO_MANY_REQUESTS
+        );
+    }
+
+    /**
+     * Address of the client of the current request, null outside a request
+     * - Behind the proxy, resolved from X-Forwarded-For by Tomcat (server.forward-headers-strategy=native)
+     */
+    private static String clientIp() {
+        if (RequestContextHolder.getRequestAttributes() instanceof ServletRequestAttributes attributes) {
+            HttpServletRequest request = attributes.getRequest();
+            return request.getRemoteAddr();
+        }
+        return null;
     }
 }
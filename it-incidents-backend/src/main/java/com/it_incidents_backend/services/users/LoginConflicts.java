@@ -0,0 +1,104 @@
+package com.it_incidents_backend.services.users;
+
+import com.it_incidents_backend.entities.User;
+import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.repository.UserRepository.LoginIdentity;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Usernames and emails already taken, found in one query for one user or a whole batch.
+ *
+ * - Replaces an existsByUsername + existsByEmail pair (two round-trips) per check
+ * - The unique constraints stay the authority: a concurrent insert of the same login still fails at flush,
+ *   and {@link #saveAndFlush} turns that failure into the caller's own message instead of a 500
+ */
+public final class LoginConflicts {
+
+    // Column named in the violation message (PostgreSQL "Key (email)=...", H2 "USERS(EMAIL ...")
+    private static final Pattern USERNAME_COLUMN = Pattern.compile("\\(\\s*\"?username\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern EMAIL_COLUMN = Pattern.compile("\\(\\s*\"?email\\b", Pattern.CASE_INSENSITIVE);
+
+    private final Set<String> takenUsernames = new HashSet<>();
+    private final Set<String> takenEmails = new HashSet<>();
+
+    private LoginConflicts() {
+    }
+
+    /**
+     * Single user check; a null login (unchanged on update) is not checked
+     */
+    public static LoginConflicts find(UserRepository userRepository, String username, String email) {
+        return find(userRepository,
+                username == null ? List.of() : List.of(username),
+                email == null ? List.of() : List.of(email));
+    }
+
+    /**
+     * Batch check: one query whatever the number of candidates (null entries ignored)
+     */
+    public static LoginConflicts find(UserRepository userRepository,
+                                      Collection<String> usernames,
+                                      Collection<String> emails) {
+        List<String> candidateUsernames = usernames.stream().filter(Objects::nonNull).distinct().toList();
+        List<String> candidateEmails = emails.stream().filter(Objects::nonNull).distinct().toList();
+
+        LoginConflicts conflicts = new LoginConflicts();
+        if (candidateUsernames.isEmpty() && candidateEmails.isEmpty()) {
+            return conflicts;
+        }
+        for (LoginIdentity identity : userRepository.findLoginIdentitiesIn(candidateUsernames, candidateEmails)) {
+            conflicts.takenUsernames.add(identity.getUsername());
+            conflicts.takenEmails.add(identity.getEmail());
+        }
+        return conflicts;
+    }
+
+    public boolean usernameTaken(String username) {
+        return username != null && takenUsernames.contains(username);
+    }
+
+    public boolean emailTaken(String email) {
+        return email != null && takenEmails.contains(email);
+    }
+
+    /**
+     * Save and flush now, so a login taken meanwhile by a concurrent request fails here
+     * with the same message as the up-front check
+     */
+    public static User saveAndFlush(UserRepository userRepository, User user,
+                                    String usernameTakenMessage, String emailTakenMessage) {
+        try {
+            User saved = userRepository.save(user);
+            userRepository.flush();
+            return saved;
+        } catch (DataIntegrityViolationException e) {
+            throw translate(e, usernameTakenMessage, emailTakenMessage);
+        }
+    }
+
+    /**
+     * Map a unique-constraint violation on the users table to the caller's message
+     * - Any other integrity violation is rethrown unchanged
+     */
+    public static RuntimeException translate(DataIntegrityViolationException e,
+                                             String usernameTakenMessage, String emailTakenMessage) {
+        String message = String.valueOf(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        if (EMAIL_COLUMN.matcher(message).find()) {
+            return new AppException(emailTakenMessage, HttpStatus.BAD_REQUEST);
+        }
+        if (USERNAME_COLUMN.matcher(message).find()) {
+            return new AppException(usernameTakenMessage, HttpStatus.BAD_REQUEST);
+        }
+        return e;
+    }
+}
@@ -0,0 +1,276 @@
+package com.it_incidents_backend.services.users;
+
+import com.it_incidents_backend.dto.user.UserCreateRequest;
+import com.it_incidents_backend.entities.Role;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Reads an import file one row at a time: only the current row is held in memory.
+ *
+ * - CSV: header row first (column names of UserCreateRequest, any order, case-insensitive),
+ *   quoted fields may contain commas, quotes ("") and line breaks
+ * - NDJSON: one UserCreateRequest JSON object per line, blank lines skipped
+ * - A malformed row becomes a row with an error, reading goes on with the next one
+ * - Rows longer than maxRowChars are skipped (error), so a single huge row cannot exhaust memory
+ */
+public abstract class UserImportReader implements Iterator<UserImportReader.Row> {
+
+    /**
+     * @param index position of the data row in the file (0 = first row after any header)
+     * @param request parsed row, null when error is set
+     */
+    public record Row(int index, UserCreateRequest request, String error) {
+    }
+
+    private final Reader reader;
+    private final int maxRowChars;
+    private int index;
+    private Row next;
+    private boolean finished;
+
+    protected UserImportReader(Reader reader, int maxRowChars) {
+        this.reader = reader;
+        this.maxRowChars = maxRowChars;
+    }
+
+    public static UserImportReader csv(Reader reader, int maxRowChars) {
+        return new Csv(reader, maxRowChars);
+    }
+
+    public static UserImportReader ndjson(Reader reader, ObjectMapper objectMapper, int maxRowChars) {
+        return new NdJson(reader, objectMapper, maxRowChars);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next == null && !finished) {
+            next = readRow();
+            finished = next == null;
+        }
+        return next != null;
+    }
+
+    @Override
+    public Row next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        Row row = next;
+        next = null;
+        return row;
+    }
+
+    /**
+     * @return the next row, null at the end of the file
+     */
+    protected abstract Row readRow();
+
+    protected Row row(UserCreateRequest request) {
+        return new Row(index++, request, null);
+    }
+
+    protected Row error(String message) {
+        return new Row(index++, null, message);
+    }
+
+    protected int read() {
+        try {
+            return reader.read();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the import file", e);
+        }
+    }
+
+    protected int maxRowChars() {
+        return maxRowChars;
+    }
+
+    // ========== CSV ==========
+
+    private static final class Csv extends UserImportReader {
+
+        private Map<String, Integer> columns;
+        private boolean tooLong;
+
+        Csv(Reader reader, int maxRowChars) {
+            super(reader, maxRowChars);
+        }
+
+        @Override
+        protected Row readRow() {
+            if (columns == null) {
+                List<String> header = readRecord();
+                if (header == null) {
+                    return null;
+                }
+                columns = new HashMap<>();
+                for (int i = 0; i < header.size(); i++) {
+                    columns.put(header.get(i).trim().toLowerCase(Locale.ROOT), i);
+                }
+            }
+
+            List<String> fields;
+            do {
+                fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+            } while (!tooLong && fields.size() == 1 && fields.get(0).isBlank());
+
+            if (tooLong) {
+                return error("Row longer than " + maxRowChars() + " characters");
+            }
+            try {
+                return row(new UserCreateRequest(
+                        field(fields, "username"),
+                        field(fields, "email"),
+                        field(fields, "password"),
+                        field(fields, "firstname"),
+                        field(fields, "lastname"),
+                        field(fields, "phonenumber"),
+                        role(field(fields, "role")),
+                        approved(field(fields, "isapproved"))
+                ));
+            } catch (IllegalArgumentException e) {
+                return error(e.getMessage());
+            }
+        }
+
+        private String field(List<String> fields, String column) {
+            Integer position = columns.get(column);
+            if (position == null || position >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(position).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private static Role role(String value) {
+            if (value == null) {
+                return null;
+            }
+            try {
+                return Role.valueOf(value.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException("Unknown role: " + value);
+            }
+        }
+
+        private static Boolean approved(String value) {
+            return value == null ? null : Boolean.valueOf(value);
+        }
+
+        /**
+         * One CSV record (RFC 4180 quoting), null at the end of the file
+         * - Past maxRowChars the rest of the record is consumed but not kept (tooLong set)
+         */
+        private List<String> readRecord() {
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean quoted = false;
+            int length = 0;
+            tooLong = false;
+
+            int c = read();
+            if (c == -1) {
+                return null;
+            }
+            while (c != -1) {
+                if (quoted) {
+                    if (c == '"') {
+                        int following = read();
+                        if (following == '"') {
+                            field.append('"');
+                        } else {
+                            quoted = false;
+                            c = following;
+                            continue;
+                        }
+                    } else {
+                        field.append((char) c);
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else if (c == '\n') {
+                    break;
+                } else if (c != '\r') {
+                    field.append((char) c);
+                }
+
+                if (++length > maxRowChars()) {
+                    tooLong = true;
+                    field.setLength(0);
+                    fields.clear();
+                }
+                c = read();
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+    }
+
+    // ========== NDJSON ==========
+
+    private static final class NdJson extends UserImportReader {
+
+        private final ObjectMapper objectMapper;
+
+        NdJson(Reader reader, ObjectMapper objectMapper, int maxRowChars) {
+            super(reader, maxRowChars);
+            this.objectMapper = objectMapper;
+        }
+
+        @Override
+        protected Row readRow() {
+            StringBuilder line = new StringBuilder();
+            boolean tooLong = false;
+            int c;
+            while (true) {
+                c = read();
+                if (c == -1 || c == '\n') {
+                    if (!tooLong && line.toString().isBlank()) {
+                        if (c == -1) {
+                            return null;
+                        }
+                        line.setLength(0);
+                        continue;
+                    }
+                    break;
+                }
+                if (tooLong) {
+                    continue;
+                }
+                if (line.length() >= maxRowChars()) {
+                    tooLong = true;
+                    line.setLength(0);
+                } else {
+                    line.append((char) c);
+                }
+            }
+
+            if (tooLong) {
+                return error("Row longer than " + maxRowChars() + " characters");
+            }
+            try {
+                return row(objectMapper.readValue(line.toString(), UserCreateRequest.class));
+            } catch (JacksonException e) {
+                return error("Invalid JSON: " + e.getOriginalMessage());
+            }
+        }
+    }
+}
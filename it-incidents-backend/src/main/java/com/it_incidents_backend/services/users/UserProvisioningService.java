@@ -0,0 +1,362 @@
+package com.it_incidents_backend.services.users;
+
+import com.it_incidents_backend.dto.user.UserBatchCreateResponse;
+import com.it_incidents_backend.dto.user.UserBatchError;
+import com.it_incidents_backend.dto.user.UserCreateRequest;
+import com.it_incidents_backend.dto.user.UserImportResponse;
+import com.it_incidents_backend.entities.User;
+import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.mapper.UserMapper;
+import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.security.BoundedPasswordEncoder;
+import com.it_incidents_backend.security.LoginIdentityFilter;
+import com.it_incidents_backend.services.users.UserImportReader.Row;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+/**
+ * Creation of many users at once: batch requests and streamed file imports (CSV / NDJSON).
+ *
+ * - Rows follow the createUser rules; invalid rows are reported, valid rows are created
+ * - Uniqueness of a whole chunk checked in one query (plus duplicates inside the chunk)
+ * - Passwords hashed in parallel on the hashing pool at bulk priority: logins keep going first
+ * - Inserts sent with JDBC batching (hibernate.jdbc.batch_size, reWriteBatchedInserts on PostgreSQL)
+ * - Imports are read and written one chunk at a time, one transaction per chunk: memory depends on
+ *   chunk-size, not on the file size, and a failed chunk does not undo the previous ones
+ */
+@Slf4j
+@Service
+public class UserProvisioningService {
+
+    // Column lengths of the users table (User entity)
+    private static final int MAX_USERNAME = 100;
+    private static final int MAX_EMAIL = 150;
+    private static final int MAX_NAME = 100;
+    private static final int MAX_PHONE = 20;
+
+    private final UserRepository userRepository;
+    private final UserMapper userMapper;
+    private final PasswordEncoder passwordEncoder;
+    private final LoginIdentityFilter loginIdentityFilter;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate chunkTx;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+    private final int maxRowChars;
+
+    public UserProvisioningService(UserRepository userRepository,
+                                   UserMapper userMapper,
+                                   PasswordEncoder passwordEncoder,
+                                   LoginIdentityFilter loginIdentityFilter,
+                                   ObjectMapper objectMapper,
+                                   PlatformTransactionManager transactionManager,
+                                   @Value("${users.import.chunk-size:500}") int chunkSize,
+                                   @Value("${users.import.max-reported-errors:1000}") int maxReportedErrors,
+                                   @Value("${users.import.max-row-chars:8192}") int maxRowChars) {
+        this.userRepository = userRepository;
+        this.userMapper = userMapper;
+        this.passwordEncoder = passwordEncoder;
+        this.loginIdentityFilter = loginIdentityFilter;
+        this.objectMapper = objectMapper;
+        this.chunkTx = new TransactionTemplate(transactionManager);
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+        this.maxRowChars = maxRowChars;
+    }
+
+    // ========== BATCH REQUEST ==========
+
+    /**
+     * Create the rows of a batch request in the caller's transaction
+     * - A login taken meanwhile by a concurrent request fails the whole batch (nothing saved)
+     */
+    public UserBatchCreateResponse createBatch(List<UserCreateRequest> requests) {
+        List<Row> rows = IntStream.range(0, requests.size())
+                .mapToObj(i -> new Row(i, requests.get(i), null))
+                .toList();
+        Chunk chunk = prepare(rows);
+
+        List<User> saved = List.of();
+        if (!chunk.users().isEmpty()) {
+            try {
+                saved = save(chunk.users());
+            } catch (DataIntegrityViolationException e) {
+                throw LoginConflicts.translate(e,
+                        UserServicesImp.USERNAME_TAKEN + " by a concurrent request, no user created",
+                        UserServicesImp.EMAIL_TAKEN + " by a concurrent request, no user created");
+            }
+        }
+
+        return new UserBatchCreateResponse(
+                requests.size(),
+                saved.stream().map(userMapper::toResponseDto).toList(),
+                chunk.errors()
+        );
+    }
+
+    // ========== STREAMED IMPORT ==========
+
+    /**
+     * Import a CSV (text/csv) or NDJSON (application/x-ndjson) file read from the request body
+     * - Runs outside any transaction: each chunk commits on its own
+     */
+    public UserImportResponse importUsers(InputStream body, String contentType) {
+        UserImportReader reader = readerFor(body, contentType);
+        ImportResult result = new ImportResult();
+
+        List<Row> rows = new ArrayList<>(chunkSize);
+        while (reader.hasNext()) {
+            rows.add(reader.next());
+            if (rows.size() == chunkSize) {
+                importChunk(rows, result);
+                rows.clear();
+            }
+        }
+        if (!rows.isEmpty()) {
+            importChunk(rows, result);
+        }
+
+        log.info("User import: {} rows, {} created, {} rejected", result.processed, result.created, result.failed);
+        return result.toResponse();
+    }
+
+    private void importChunk(List<Row> rows, ImportResult result) {
+        Chunk chunk = prepare(rows);
+        List<UserBatchError> errors = new ArrayList<>(chunk.errors());
+        int created = 0;
+
+        if (!chunk.users().isEmpty()) {
+            try {
+                created = chunkTx.execute(status -> save(chunk.users()).size());
+            } catch (DataIntegrityViolationException e) {
+                // A login was taken by a concurrent request after the check: this chunk only is not created
+                String message = chunkFailure(e);
+                for (Row row : chunk.accepted()) {
+                    errors.add(new UserBatchError(row.index(), row.request().username(), message));
+                }
+            }
+        }
+        result.add(rows.size(), created, errors);
+    }
+
+    private UserImportReader readerFor(InputStream body, String contentType) {
+        MediaType type = contentType == null ? null : MediaType.parseMediaType(contentType);
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        if (type != null && type.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+            return UserImportReader.csv(reader, maxRowChars);
+        }
+        if (type != null && type.isCompatibleWith(MediaType.APPLICATION_NDJSON)) {
+            return UserImportReader.ndjson(reader, objectMapper, maxRowChars);
+        }
+        throw new AppException("Import files must be text/csv or application/x-ndjson", HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+    }
+
+    private static String chunkFailure(DataIntegrityViolationException e) {
+        RuntimeException translated = LoginConflicts.translate(e,
+                UserServicesImp.USERNAME_TAKEN + " by a concurrent request, chunk not created",
+                UserServicesImp.EMAIL_TAKEN + " by a concurrent request, chunk not created");
+        return translated instanceof AppException
+                ? translated.getMessage()
+                : "Chunk not created: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+    }
+
+    // ========== CHUNK PROCESSING ==========
+
+    /**
+     * Rows ready to insert (password hashed) and rows rejected
+     *
+     * @param accepted rows of the users to insert, in the same order
+     */
+    private record Chunk(List<Row> accepted, List<User> users, List<UserBatchError> errors) {
+    }
+
+    /**
+     * Validate the rows (one uniqueness query) and hash the passwords of the valid ones in parallel
+     */
+    private Chunk prepare(List<Row> rows) {
+        LoginConflicts conflicts = LoginConflicts.find(userRepository,
+                rows.stream().map(row -> row.request() == null ? null : row.request().username()).toList(),
+                rows.stream().map(row -> row.request() == null ? null : row.request().email()).toList());
+
+        Set<String> chunkUsernames = new HashSet<>();
+        Set<String> chunkEmails = new HashSet<>();
+        List<UserBatchError> errors = new ArrayList<>();
+        List<Row> valid = new ArrayList<>();
+
+        for (Row row : rows) {
+            String error = row.error() != null
+                    ? row.error()
+                    : validateRow(row.request(), conflicts, chunkUsernames, chunkEmails);
+            if (error != null) {
+                errors.add(new UserBatchError(row.index(), row.request() == null ? null : row.request().username(), error));
+            } else {
+                valid.add(row);
+            }
+        }
+
+        // Submitting blocks once every bulk hashing slot is busy: back-pressure on the reading
+        List<Future<String>> hashes = valid.stream()
+                .map(row -> hash(row.request().password()))
+                .toList();
+
+        List<Row> accepted = new ArrayList<>(valid.size());
+        List<User> users = new ArrayList<>(valid.size());
+        for (int i = 0; i < valid.size(); i++) {
+            Row row = valid.get(i);
+            try {
+                users.add(newUser(row.request(), hashes.get(i).get()));
+                accepted.add(row);
+            } catch (ExecutionException e) {
+                log.warn("Password hashing failed for import row {}", row.index(), e.getCause());
+                errors.add(new UserBatchError(row.index(), row.request().username(), "Password hashing failed"));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AppException("User creation interrupted", HttpStatus.SERVICE_UNAVAILABLE);
+            }
+        }
+        return new Chunk(accepted, users, errors);
+    }
+
+    /**
+     * @return why the row cannot be created, null when it can (its logins are then reserved in the chunk)
+     */
+    private static String validateRow(UserCreateRequest request, LoginConflicts conflicts,
+                                      Set<String> chunkUsernames, Set<String> chunkEmails) {
+        if (request == null || isBlank(request.username()) || isBlank(request.email())
+                || isBlank(request.password()) || request.role() == null) {
+            return "Username, email, password and role are required";
+        }
+        // Column sizes of the users table: an over-long row would fail the insert of its whole chunk
+        String tooLong = tooLong(request);
+        if (tooLong != null) {
+            return tooLong;
+        }
+        if (conflicts.usernameTaken(request.username())) {
+            return UserServicesImp.USERNAME_TAKEN;
+        }
+        if (conflicts.emailTaken(request.email())) {
+            return UserServicesImp.EMAIL_TAKEN;
+        }
+        if (chunkUsernames.contains(request.username())) {
+            return "Username appears more than once in the batch";
+        }
+        if (chunkEmails.contains(request.email())) {
+            return "Email appears more than once in the batch";
+        }
+        if (!UserServicesImp.isPasswordStrong(request.password())) {
+            return UserServicesImp.PASSWORD_POLICY_MESSAGE;
+        }
+        chunkUsernames.add(request.username());
+        chunkEmails.add(request.email());
+        return null;
+    }
+
+    private Future<String> hash(String rawPassword) {
+        if (passwordEncoder instanceof BoundedPasswordEncoder bounded) {
+            return bounded.encodeBulk(rawPassword);
+        }
+        return CompletableFuture.completedFuture(passwordEncoder.encode(rawPassword));
+    }
+
+    /**
+     * Insert with one flush: the inserts leave in JDBC batches
+     */
+    private List<User> save(List<User> users) {
+        List<User> saved = userRepository.saveAll(users);
+        userRepository.flush();
+        saved.forEach(user -> loginIdentityFilter.register(user.getUsername(), user.getEmail()));
+        return saved;
+    }
+
+    /**
+     * Entity for an admin-created user: hashed password and secure account defaults
+     */
+    User newUser(UserCreateRequest request, String passwordHash) {
+        User user = userMapper.toEntity(request);
+        user.setPassword(passwordHash);
+
+        // ========== SECURITY: SET SECURE ACCOUNT DEFAULTS ==========
+        // Credential expiration is calculated dynamically in User.isCredentialsNonExpired()
+        // based on passwordChangedAt + 90 days
+        user.setEnabled(true);                  // Account is active
+        user.setAccountNonLocked(true);         // Account is not locked
+        user.setIsApproved(true);               // Admin-created users are auto-approved
+        user.setDeleted(false);                 // Not soft-deleted
+        user.setFailedLoginAttempts(0);         // No failed login attempts
+        user.setPasswordChangedAt(LocalDateTime.now()); // Track password creation date (CRITICAL for expiration calculation!)
+        return user;
+    }
+
+    private static String tooLong(UserCreateRequest request) {
+        if (request.username().length() > MAX_USERNAME) {
+            return "Username must be at most " + MAX_USERNAME + " characters";
+        }
+        if (request.email().length() > MAX_EMAIL) {
+            return "Email must be at most " + MAX_EMAIL + " characters";
+        }
+        if (length(request.firstName()) > MAX_NAME || length(request.lastName()) > MAX_NAME) {
+            return "First and last name must be at most " + MAX_NAME + " characters";
+        }
+        if (length(request.phoneNumber()) > MAX_PHONE) {
+            return "Phone number must be at most " + MAX_PHONE + " characters";
+        }
+        return null;
+    }
+
+    private static int length(String value) {
+        return value == null ? 0 : value.length();
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    /**
+     * Totals of an import; only the first max-reported-errors rejected rows are kept for the response
+     */
+    private final class ImportResult {
+        private long processed;
+        private long created;
+        private long failed;
+        private final List<UserBatchError> errors = new ArrayList<>();
+
+        void add(int rows, int createdRows, List<UserBatchError> rejected) {
+            processed += rows;
+            created += createdRows;
+            failed += rejected.size();
+            for (UserBatchError error : rejected) {
+                if (errors.size() < maxReportedErrors) {
+                    errors.add(error);
+                }
+            }
+        }
+
+        UserImportResponse toResponse() {
+            errors.sort((a, b) -> Integer.compare(a.index(), b.index()));
+            return new UserImportResponse(processed, created, failed, errors, failed > errors.size());
+        }
+    }
+}
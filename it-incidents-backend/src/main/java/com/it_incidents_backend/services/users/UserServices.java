@@ -1,5 +1,6 @@
 package com.it_incidents_backend.services.users;
 
+import java.io.InputStream;
 import java.util.List;
 import java.util.UUID; // ⭐ ADD THIS IMPORT
 
@@ -7,8 +8,10 @@ import org.springframework.data.domain.Page;
 
 import com.it_incidents_backend.dto.ticket.TicketResponse;
 import com.it_incidents_backend.dto.user.PasswordChangeRequest;
+import com.it_incidents_backend.dto.user.UserBatchCreateResponse;
 import com.it_incidents_backend.dto.user.UserCreateRequest;
 import com.it_incidents_backend.dto.user.UserDetailResponse;
+import com.it_incidents_backend.dto.user.UserImportResponse;
 import com.it_incidents_backend.dto.user.UserResponse;
 import com.it_incidents_backend.dto.user.UserSelfUpdateRequest;
 import com.it_incidents_backend.dto.user.UserUpdateRequest;
@@ -20,6 +23,16 @@ public interface UserServices {
 
     UserResponse createUser(UserCreateRequest createUserRequest);
 
+    /**
+     * Create several users at once (ADMIN only), invalid rows reported without failing the batch
+     */
+    UserBatchCreateResponse createUsers(List<UserCreateRequest> createUserRequests);
+
+    /**
+     * Import users from a CSV (text/csv) or NDJSON (application/x-ndjson) body, read as a stream (ADMIN only)
+     */
+    UserImportResponse importUsers(InputStream body, String contentType);
+
     void updateUserByAdmin(UUID id, UserUpdateRequest updateUserRequest);
 
     void updateCurrentUser(UserSelfUpdateRequest request);
@@ -1,5 +1,6 @@
 package com.it_incidents_backend.services.users;
 
+import java.io.InputStream;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
@@ -7,6 +8,8 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
@@ -16,6 +19,8 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.it_incidents_backend.dto.ticket.TicketResponse;
 import com.it_incidents_backend.dto.user.PasswordChangeRequest;
+import com.it_incidents_backend.dto.user.UserBatchCreateResponse;
+import com.it_incidents_backend.dto.user.UserImportResponse;
 import com.it_incidents_backend.dto.user.UserCreateRequest;
 import com.it_incidents_backend.dto.user.UserDetailResponse;
 import com.it_incidents_backend.dto.user.UserResponse;
@@ -28,6 +33,9 @@ import com.it_incidents_backend.mapper.TicketMapper;
 import com.it_incidents_backend.mapper.UserMapper;
 import com.it_incidents_backend.repository.TicketRepository;
 import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.security.AccountStatusChangedEvent;
+import com.it_incidents_backend.security.LoginIdentityFilter;
+import com.it_incidents_backend.security.PasswordReuseCheck;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import com.it_incidents_backend.util.SecurityUtils;
@@ -51,6 +59,11 @@ public class UserServicesImp implements UserServices {
             "^(?=.*[a-z])(?=.*[A-Z])(?=.*\\d)(?=.*[@$!%*?&])[A-Za-z\\d@$!%*?&]{8,}$"
     );
 
+    static final String PASSWORD_POLICY_MESSAGE = "Password must be at least 8 characters long and contain: " +
+            "1 uppercase letter, 1 lowercase letter, 1 digit, and 1 special character (@$!%*?&)";
+    static final String USERNAME_TAKEN = "Username already taken";
+    static final String EMAIL_TAKEN = "Email already in use";
+
     // ========== DEPENDENCIES ==========
 
     private final UserRepository userRepository;
@@ -58,6 +71,10 @@ public class UserServicesImp implements UserServices {
     private final PasswordEncoder passwordEncoder;
     private final TicketRepository ticketRepository;
     private final TicketMapper ticketMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final LoginIdentityFilter loginIdentityFilter;
+    private final UserProvisioningService userProvisioningService;
+    private final int maxBatchSize;
 
     @Autowired
     public UserServicesImp(
@@ -65,13 +82,21 @@ public class UserServicesImp implements UserServices {
             UserMapper userMapper,
             PasswordEncoder passwordEncoder,
             TicketRepository ticketRepository,
-            TicketMapper ticketMapper
+            TicketMapper ticketMapper,
+            ApplicationEventPublisher eventPublisher,
+            LoginIdentityFilter loginIdentityFilter,
+            UserProvisioningService userProvisioningService,
+            @Value("${users.batch.max-size:500}") int maxBatchSize
     ) {
         this.userRepository = userRepository;
         this.userMapper = userMapper;
         this.passwordEncoder = passwordEncoder;
         this.ticketRepository = ticketRepository;
         this.ticketMapper = ticketMapper;
+        this.eventPublisher = eventPublisher;
+        this.loginIdentityFilter = loginIdentityFilter;
+        this.userProvisioningService = userProvisioningService;
+        this.maxBatchSize = maxBatchSize;
     }
 
     // ========== USER RETRIEVAL METHODS ==========
@@ -117,49 +142,60 @@ public class UserServicesImp implements UserServices {
     @Override
     @Transactional
     public UserResponse createUser(UserCreateRequest createUserRequest) {
-        // ========== VALIDATION: CHECK DUPLICATE USERNAME ==========
-        if (this.userRepository.existsByUsername(createUserRequest.username())) {
-            throw new AppException("Username already taken", HttpStatus.BAD_REQUEST);
+        // ========== VALIDATION: CHECK DUPLICATE USERNAME / EMAIL (ONE QUERY) ==========
+        LoginConflicts conflicts = LoginConflicts.find(
+                this.userRepository, createUserRequest.username(), createUserRequest.email());
+        if (conflicts.usernameTaken(createUserRequest.username())) {
+            throw new AppException(USERNAME_TAKEN, HttpStatus.BAD_REQUEST);
         }
-
-        // ========== VALIDATION: CHECK DUPLICATE EMAIL ==========
-        if (this.userRepository.existsByEmail(createUserRequest.email())) {
-            throw new AppException("Email already in use", HttpStatus.BAD_REQUEST);
+        if (conflicts.emailTaken(createUserRequest.email())) {
+            throw new AppException(EMAIL_TAKEN, HttpStatus.BAD_REQUEST);
         }
 
         // ========== SECURITY: VALIDATE PASSWORD STRENGTH ==========
         if (!PASSWORD_PATTERN.matcher(createUserRequest.password()).matches()) {
-            throw new AppException(
-                    "Password must be at least 8 characters long and contain: " +
-                            "1 uppercase letter, 1 lowercase letter, 1 digit, and 1 special character (@$!%*?&)",
-                    HttpStatus.BAD_REQUEST
-            );
+            throw new AppException(PASSWORD_POLICY_MESSAGE, HttpStatus.BAD_REQUEST);
         }
 
         // ========== CREATE USER ENTITY ==========
-        User user = this.userMapper.toEntity(createUserRequest);
-
-        // ========== SECURITY: HASH PASSWORD WITH BCRYPT ==========
-        // BCrypt automatically generates a salt and hashes the password
-        // The strength (12) is configured in SecurityConfig
-        user.setPassword(passwordEncoder.encode(createUserRequest.password()));
-
-        // ========== SECURITY: SET SECURE ACCOUNT DEFAULTS ==========
-        // Credential expiration is calculated dynamically in User.isCredentialsNonExpired()
-        // based on passwordChangedAt + 90 days
-        user.setEnabled(true);                  // Account is active
-        user.setAccountNonLocked(true);         // Account is not locked
-        user.setIsApproved(true);               // Admin-created users are auto-approved
-        user.setDeleted(false);                 // Not soft-deleted
-        user.setFailedLoginAttempts(0);         // No failed login attempts
-        user.setPasswordChangedAt(LocalDateTime.now()); // Track password creation date (CRITICAL for expiration calculation!)
+        // Salted hash; algorithm and work factor come from security.password-hashing.* (SecurityConfig)
+        User user = this.userProvisioningService.newUser(
+                createUserRequest, passwordEncoder.encode(createUserRequest.password()));
 
         // ========== SAVE USER ==========
-        user = this.userRepository.save(user);
+        // Flushed now: a concurrent creation with the same login gets the same 400, not a 500
+        user = LoginConflicts.saveAndFlush(this.userRepository, user, USERNAME_TAKEN, EMAIL_TAKEN);
+        this.loginIdentityFilter.register(user.getUsername(), user.getEmail());
 
         return this.userMapper.toResponseDto(user);
     }
 
+    /**
+     * Create several users at once (ADMIN only)
+     * - Same rules as createUser, checked row by row: invalid rows are reported, valid rows are created
+     * - Created users inserted together in the same transaction, see UserProvisioningService
+     */
+    @Override
+    @Transactional
+    public UserBatchCreateResponse createUsers(List<UserCreateRequest> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new AppException("No users to create", HttpStatus.BAD_REQUEST);
+        }
+        if (requests.size() > maxBatchSize) {
+            throw new AppException("At most " + maxBatchSize + " users per batch", HttpStatus.BAD_REQUEST);
+        }
+
+        return this.userProvisioningService.createBatch(requests);
+    }
+
+    /**
+     * Import users from a CSV or NDJSON file (ADMIN only), streamed chunk by chunk
+     */
+    @Override
+    public UserImportResponse importUsers(InputStream body, String contentType) {
+        return this.userProvisioningService.importUsers(body, contentType);
+    }
+
     // ========== PASSWORD UPDATE METHOD ==========
 
     /**
@@ -204,7 +240,8 @@ public class UserServicesImp implements UserServices {
 
         // ========== SECURITY: PREVENT PASSWORD REUSE ==========
         // User cannot use the same password they currently have
-        if (passwordEncoder.matches(passwordChangeRequest.newPassword(), user.getPassword())) {
+        // (current password verified above: compared in memory, no second BCrypt hash)
+        if (PasswordReuseCheck.isSamePassword(passwordChangeRequest.newPassword(), passwordChangeRequest.currentPassword())) {
             throw new AppException(
                     "New password must be different from current password",
                     HttpStatus.BAD_REQUEST
@@ -243,29 +280,18 @@ public class UserServicesImp implements UserServices {
         User user = this.userRepository.findById(id)
                 .orElseThrow(() -> new AppException("User not found", HttpStatus.NOT_FOUND));
 
-        // ========== VALIDATION: CHECK USERNAME UNIQUENESS ==========
-        if (updateUserRequest.username() != null &&
-                !updateUserRequest.username().equals(user.getUsername())) {
-            if (this.userRepository.existsByUsername(updateUserRequest.username())) {
-                throw new AppException("Username already taken", HttpStatus.BAD_REQUEST);
-            }
-            user.setUsername(updateUserRequest.username());
-        }
-
-        // ========== VALIDATION: CHECK EMAIL UNIQUENESS ==========
-        if (updateUserRequest.email() != null &&
-                !updateUserRequest.email().equals(user.getEmail())) {
-            if (this.userRepository.existsByEmail(updateUserRequest.email())) {
-                throw new AppException("Email already in use", HttpStatus.BAD_REQUEST);
-            }
-            user.setEmail(updateUserRequest.email());
-        }
+        // ========== VALIDATION: CHECK USERNAME / EMAIL UNIQUENESS (ONE QUERY, CHANGED ONLY) ==========
+        String previousUsername = user.getUsername();
+        String previousEmail = user.getEmail();
+        checkLoginsAvailable(user, updateUserRequest.username(), updateUserRequest.email());
 
         // ========== UPDATE USER FIELDS ==========
         // MapStruct will only update non-null fields
         user = this.userMapper.partialUpdate(updateUserRequest, user);
 
-        this.userRepository.save(user);
+        LoginConflicts.saveAndFlush(this.userRepository, user, USERNAME_TAKEN, EMAIL_TAKEN);
+        registerLoginChange(user, previousUsername, previousEmail);
+        this.eventPublisher.publishEvent(new AccountStatusChangedEvent(id));
     }
 
     /**
@@ -284,27 +310,42 @@ public class UserServicesImp implements UserServices {
         User user = this.userRepository.findById(currentUserId)
                 .orElseThrow(() -> new AppException("User not found", HttpStatus.NOT_FOUND));
 
-        // username uniqueness
-        if (request.username() != null &&
-                !request.username().equals(user.getUsername())) {
+        // username / email uniqueness (one query, changed values only)
+        String previousUsername = user.getUsername();
+        String previousEmail = user.getEmail();
+        checkLoginsAvailable(user, request.username(), request.email());
 
-            if (this.userRepository.existsByUsername(request.username())) {
-                throw new AppException("Username already taken", HttpStatus.BAD_REQUEST);
-            }
-        }
+        user = this.userMapper.partialUpdate(request, user);
 
-        // email uniqueness
-        if (request.email() != null &&
-                !request.email().equals(user.getEmail())) {
+        LoginConflicts.saveAndFlush(this.userRepository, user, USERNAME_TAKEN, EMAIL_TAKEN);
+        registerLoginChange(user, previousUsername, previousEmail);
+    }
 
-            if (this.userRepository.existsByEmail(request.email())) {
-                throw new AppException("Email already in use", HttpStatus.BAD_REQUEST);
-            }
-        }
+    /**
+     * Reject a new username or email already used by another account
+     * - Unchanged (or absent) values are not checked; no query when nothing changes
+     */
+    private void checkLoginsAvailable(User user, String newUsername, String newEmail) {
+        String username = newUsername != null && !newUsername.equals(user.getUsername()) ? newUsername : null;
+        String email = newEmail != null && !newEmail.equals(user.getEmail()) ? newEmail : null;
 
-        user = this.userMapper.partialUpdate(request, user);
+        LoginConflicts conflicts = LoginConflicts.find(this.userRepository, username, email);
+        if (conflicts.usernameTaken(username)) {
+            throw new AppException(USERNAME_TAKEN, HttpStatus.BAD_REQUEST);
+        }
+        if (conflicts.emailTaken(email)) {
+            throw new AppException(EMAIL_TAKEN, HttpStatus.BAD_REQUEST);
+        }
+    }
 
-        this.userRepository.save(user);
+    /**
+     * Keep the login filter in sync after a rename (the old login becomes a stale key)
+     */
+    private void registerLoginChange(User user, String previousUsername, String previousEmail) {
+        if (!user.getUsername().equals(previousUsername) || !user.getEmail().equals(previousEmail)) {
+            this.loginIdentityFilter.register(user.getUsername(), user.getEmail());
+            this.loginIdentityFilter.markStale();
+        }
     }
 
     // ========== USER DELETION METHOD ==========
@@ -329,6 +370,10 @@ public class UserServicesImp implements UserServices {
         // ========== SOFT DELETE ==========
         user.softDelete(currentAdminUsername);
         this.userRepository.save(user);
+        this.loginIdentityFilter.markStale();
+
+        // ========== REVOKE CACHED ACCOUNT STATUS ==========
+        this.eventPublisher.publishEvent(new AccountStatusChangedEvent(id));
     }
 
     // ========== ACCOUNT MANAGEMENT METHODS ==========
@@ -351,6 +396,7 @@ public class UserServicesImp implements UserServices {
         user.setDeleted(false);         // Unmark as deleted
 
         this.userRepository.save(user);
+        this.eventPublisher.publishEvent(new AccountStatusChangedEvent(id));
     }
 
     /**
@@ -370,6 +416,7 @@ public class UserServicesImp implements UserServices {
         user.setEnabled(false);         // Prevent login
 
         this.userRepository.save(user);
+        this.eventPublisher.publishEvent(new AccountStatusChangedEvent(id));
     }
 
     /**
@@ -395,6 +442,7 @@ public class UserServicesImp implements UserServices {
         user.setAccountNonLocked(true);
 
         this.userRepository.save(user);
+        this.eventPublisher.publishEvent(new AccountStatusChangedEvent(id));
     }
 
     // ========== USER TICKETS RETRIEVAL ==========
@@ -450,6 +498,7 @@ public class UserServicesImp implements UserServices {
         user.setIsApproved(true);  // Approve the account
 
         this.userRepository.save(user);
+        this.eventPublisher.publishEvent(new AccountStatusChangedEvent(id));
     }
 
     // ========== HELPER METHODS ==========
@@ -458,7 +507,7 @@ public class UserServicesImp implements UserServices {
      * Validate password strength (private helper)
      * Returns true if password meets all requirements
      */
-    private boolean isPasswordStrong(String password) {
+    static boolean isPasswordStrong(String password) {
         return PASSWORD_PATTERN.matcher(password).matches();
     }
 }
\ No newline at end of file
@@ -0,0 +1,67 @@
+package com.it_incidents_backend.util;
+
+import com.it_incidents_backend.exceptions.AppException;
+import org.springframework.data.domain.ScrollPosition;
+import org.springframework.http.HttpStatus;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Opaque cursor for keyset pagination on (created_at DESC, id DESC).
+ *
+ * The client only ever sees a Base64-URL token; its content (position of the
+ * last row returned) is an implementation detail and may change.
+ */
+public record KeysetCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final String SEPARATOR = "|";
+
+    /**
+     * Encode the position of the last row of a page
+     */
+    public String encode() {
+        String raw = createdAt + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor sent back by the client
+     *
+     * @throws AppException 400 if the cursor was not produced by encode()
+     */
+    public static KeysetCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new IllegalArgumentException("Missing separator");
+            }
+            return new KeysetCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1))
+            );
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new AppException("Invalid cursor", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    /**
+     * Scroll position for Spring Data: first page when the cursor is null or blank
+     */
+    public static ScrollPosition toScrollPosition(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return ScrollPosition.keyset();
+        }
+        KeysetCursor position = decode(cursor);
+        Map<String, Object> keys = new LinkedHashMap<>();
+        keys.put("createdAt", position.createdAt());
+        keys.put("id", position.id());
+        return ScrollPosition.forward(keys);
+    }
+}
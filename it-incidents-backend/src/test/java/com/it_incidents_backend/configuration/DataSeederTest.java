@@ -0,0 +1,104 @@
+package com.it_incidents_backend.configuration;
+
+import com.it_incidents_backend.entities.User;
+import com.it_incidents_backend.repository.TicketCommentRepository;
+import com.it_incidents_backend.repository.TicketRepository;
+import com.it_incidents_backend.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * tests for the startup seeding write path
+ *
+ * concerns tested:
+ *   - demo data written in JDBC batches: far fewer statements than rows
+ *   - second run finds everything in one query and writes nothing
+ */
+// Not transactional: the seeder commits its own transaction
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "security.login-filter.enabled=false"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({DataSeeder.class, DataSeederTest.Config.class})
+@DisplayName("DataSeeder - Batched seeding")
+class DataSeederTest {
+
+    private static final int DEMO_USERS = 8;
+    private static final int DEMO_TICKETS = 22;
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+
+    @Autowired
+    private DataSeeder dataSeeder;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketCommentRepository commentRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    // The runner already ran at context startup: start each test from an empty database
+    @BeforeEach
+    void setUp() {
+        commentRepository.deleteAllInBatch();
+        ticketRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("seeding should write every row in batches, then do nothing on the next run")
+    void run_shouldBatchInsertsAndBeIdempotent() {
+        dataSeeder.run();
+
+        long rows = userRepository.count() + ticketRepository.count() + commentRepository.count();
+        assertThat(userRepository.count()).isEqualTo(DEMO_USERS);
+        assertThat(ticketRepository.count()).isEqualTo(DEMO_TICKETS);
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(rows);
+        // Without batching every row would be its own statement
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(rows / 4);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+
+        User deleted = userRepository.findByUsername("deleted_user").orElseThrow();
+        assertThat(deleted.getDeleted()).isTrue();
+
+        statistics.clear();
+        dataSeeder.run();
+
+        // Demo accounts lookup only
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityInsertCount()).isZero();
+    }
+}
@@ -2,6 +2,9 @@ package com.it_incidents_backend.configuration;
 
 import com.it_incidents_backend.entities.Role;
 import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.security.AccountStatusCache;
+import com.it_incidents_backend.security.AccountStatusChangedEvent;
+import com.it_incidents_backend.security.VerifiedToken;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
@@ -10,6 +13,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
@@ -18,6 +22,7 @@ import com.it_incidents_backend.entities.User;
 import java.util.Optional;
 
 import java.io.IOException;
+import java.time.Instant;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -39,6 +44,9 @@ class JwtAuthenticationFilterTest {
     @Mock
     private FilterChain filterChain;
 
+    @Spy
+    private AccountStatusCache accountStatusCache = new AccountStatusCache(30, 100);
+
     @InjectMocks
     private JwtAuthenticationFilter jwtFilter;
 
@@ -52,6 +60,10 @@ class JwtAuthenticationFilterTest {
         SecurityContextHolder.clearContext();
     }
 
+    private VerifiedToken accessToken(String username, UUID userId) {
+        return new VerifiedToken(username, userId, Role.USER, VerifiedToken.ACCESS, Instant.now().plusSeconds(3600));
+    }
+
     @Test
     @DisplayName("Request without Authorization header should not authenticate")
     void noAuthHeader_shouldNotSetAuthentication() throws ServletException, IOException {
@@ -72,11 +84,7 @@ class JwtAuthenticationFilterTest {
         request.setServletPath("/api/tickets");
 
         // Mock JWT validation
-        when(jwtUtil.validateToken(token)).thenReturn(true);
-        when(jwtUtil.isTokenExpired(token)).thenReturn(false);
-        when(jwtUtil.getUsernameFromToken(token)).thenReturn("testuser");
-        when(jwtUtil.getUserIdFromToken(token)).thenReturn(userId);
-        when(jwtUtil.getRoleFromToken(token)).thenReturn(Role.USER);
+        when(jwtUtil.verify(token)).thenReturn(Optional.of(accessToken("testuser", userId)));
 
         // ========== NEW: Mock User Repository ==========
         // Create a mock active user
@@ -107,8 +115,8 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + expiredToken);
         request.setServletPath("/api/tickets");
 
-        when(jwtUtil.validateToken(expiredToken)).thenReturn(true);
-        when(jwtUtil.isTokenExpired(expiredToken)).thenReturn(true);
+        // Expired tokens are rejected by the parser itself
+        when(jwtUtil.verify(expiredToken)).thenReturn(Optional.empty());
 
         jwtFilter.doFilterInternal(request, response, filterChain);
 
@@ -146,11 +154,7 @@ class JwtAuthenticationFilterTest {
         request.setServletPath("/api/tickets");
 
         UUID userId = UUID.randomUUID();
-        when(jwtUtil.validateToken("valid.token.one")).thenReturn(true);
-        when(jwtUtil.isTokenExpired("valid.token.one")).thenReturn(false);
-        when(jwtUtil.getUsernameFromToken("valid.token.one")).thenReturn("testuser");
-        when(jwtUtil.getUserIdFromToken("valid.token.one")).thenReturn(userId);
-        when(jwtUtil.getRoleFromToken("valid.token.one")).thenReturn(Role.USER);
+        when(jwtUtil.verify("valid.token.one")).thenReturn(Optional.of(accessToken("testuser", userId)));
 
         // ========== NEW: Mock User Repository ==========
         User mockUser = new User();
@@ -166,8 +170,8 @@ class JwtAuthenticationFilterTest {
 
         jwtFilter.doFilterInternal(request, response, filterChain);
 
-        verify(jwtUtil, times(1)).validateToken("valid.token.one");
-        verify(jwtUtil, never()).validateToken("malicious.token.two");
+        verify(jwtUtil, times(1)).verify("valid.token.one");
+        verify(jwtUtil, never()).verify("malicious.token.two");
     }
 
     @Test
@@ -190,11 +194,7 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + token);
         request.setServletPath("/api/tickets");
 
-        when(jwtUtil.validateToken(token)).thenReturn(true);
-        when(jwtUtil.isTokenExpired(token)).thenReturn(false);
-        when(jwtUtil.getUsernameFromToken(token)).thenReturn("testuser");
-        when(jwtUtil.getUserIdFromToken(token)).thenReturn(null); // null userid
-        when(jwtUtil.getRoleFromToken(token)).thenReturn(Role.USER);
+        when(jwtUtil.verify(token)).thenReturn(Optional.of(accessToken("testuser", null)));
 
         jwtFilter.doFilterInternal(request, response, filterChain);
 
@@ -235,11 +235,7 @@ class JwtAuthenticationFilterTest {
         request.addHeader("Authorization", "Bearer " + token);
         request.setServletPath("/api/tickets");
 
-        when(jwtUtil.validateToken(token)).thenReturn(true);
-        when(jwtUtil.isTokenExpired(token)).thenReturn(false);
-        when(jwtUtil.getUsernameFromToken(token)).thenReturn("testuser");
-        when(jwtUtil.getUserIdFromToken(token)).thenReturn(userId);
-        when(jwtUtil.getRoleFromToken(token)).thenReturn(Role.USER);
+        when(jwtUtil.verify(token)).thenReturn(Optional.of(accessToken("testuser", userId)));
 
         // Mock DISABLED user
         User mockUser = new User();
@@ -259,4 +255,61 @@ class JwtAuthenticationFilterTest {
         // Should send 403 response
         assertThat(response.getStatus()).isEqualTo(403);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Account status should be cached until an account change is published")
+    void accountStatus_shouldBeCachedUntilAccountChange() throws ServletException, IOException {
+        UUID userId = UUID.randomUUID();
+        String token = "valid.jwt.token";
+        request.addHeader("Authorization", "Bearer " + token);
+        request.setServletPath("/api/tickets");
+
+        when(jwtUtil.verify(token)).thenReturn(Optional.of(accessToken("testuser", userId)));
+
+        User mockUser = new User();
+        mockUser.setId(userId);
+        mockUser.setUsername("testuser");
+        mockUser.setEnabled(true);
+        mockUser.setDeleted(false);
+        mockUser.setAccountNonLocked(true);
+        mockUser.setIsApproved(true);
+
+        when(userRepository.findById(userId)).thenReturn(Optional.of(mockUser));
+
+        // Deux requêtes successives : une seule lecture en base
+        jwtFilter.doFilterInternal(request, response, filterChain);
+        SecurityContextHolder.clearContext();
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNotNull();
+        verify(userRepository, times(1)).findById(userId);
+
+        // L'admin désactive le compte : le cache est invalidé immédiatement
+        mockUser.setEnabled(false);
+        accountStatusCache.onAccountStatusChanged(new AccountStatusChangedEvent(userId));
+
+        MockHttpServletResponse blockedResponse = new MockHttpServletResponse();
+        jwtFilter.doFilterInternal(request, blockedResponse, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(blockedResponse.getStatus()).isEqualTo(403);
+        verify(userRepository, times(2)).findById(userId);
+    }
+
+    @Test
+    @DisplayName("Refresh token should not authenticate API requests")
+    void refreshToken_shouldNotAuthenticate() throws ServletException, IOException {
+        String token = "valid.refresh.token";
+        request.addHeader("Authorization", "Bearer " + token);
+        request.setServletPath("/api/tickets");
+
+        when(jwtUtil.verify(token)).thenReturn(Optional.of(new VerifiedToken(
+                "testuser", UUID.randomUUID(), null, VerifiedToken.REFRESH, Instant.now().plusSeconds(3600))));
+
+        jwtFilter.doFilterInternal(request, response, filterChain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        verifyNoInteractions(userRepository);
+        verify(filterChain).doFilter(request, response);
+    }
+}
@@ -1,6 +1,9 @@
 package com.it_incidents_backend.configuration;
 
 import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.security.VerifiedToken;
+import com.it_incidents_backend.security.VerifiedTokenCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.jsonwebtoken.JwtException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -191,4 +194,81 @@ class JwtUtilTest {
         assertThat(shortAccessUtil.isTokenExpired(accessToken)).isTrue();
         assertThat(shortAccessUtil.isTokenExpired(refreshToken)).isFalse();
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("verify should return all claims from a single parse")
+    void verify_shouldExposeAllClaims() {
+        UUID userId = UUID.randomUUID();
+        String token = jwtUtil.generateToken("testuser", userId, Role.ADMIN);
+
+        VerifiedToken verified = jwtUtil.verify(token).orElseThrow();
+
+        assertThat(verified.subject()).isEqualTo("testuser");
+        assertThat(verified.userId()).isEqualTo(userId);
+        assertThat(verified.role()).isEqualTo(Role.ADMIN);
+        assertThat(verified.isAccessToken()).isTrue();
+        assertThat(verified.expiresAt()).isAfter(java.time.Instant.now());
+
+        VerifiedToken refresh = jwtUtil.verify(jwtUtil.generateRefreshToken("testuser", userId)).orElseThrow();
+        assertThat(refresh.isRefreshToken()).isTrue();
+        assertThat(refresh.role()).isNull();
+    }
+
+    @Test
+    @DisplayName("verify should reject invalid tokens and tokens signed before a secret change")
+    void verify_shouldRejectInvalidTokens() {
+        String token = jwtUtil.generateToken("user", UUID.randomUUID(), Role.USER);
+
+        assertThat(jwtUtil.verify(null)).isEmpty();
+        assertThat(jwtUtil.verify("not.a.valid.jwt")).isEmpty();
+
+        // La clé mise en cache doit suivre le changement de secret
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET + "-rotated");
+        assertThat(jwtUtil.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("verified token cache should serve repeat tokens and report hits")
+    void verifiedTokenCache_shouldServeRepeatTokens() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(jwtUtil, "tokenCache", new VerifiedTokenCache(100, registry));
+        String token = jwtUtil.generateToken("user", UUID.randomUUID(), Role.USER);
+
+        VerifiedToken first = jwtUtil.verify(token).orElseThrow();
+        VerifiedToken second = jwtUtil.verify(token).orElseThrow();
+
+        assertThat(second).isSameAs(first);
+        assertThat(registry.get("cache.gets").tag("result", "hit").functionCounter().count()).isEqualTo(1);
+        assertThat(registry.get("cache.gets").tag("result", "miss").functionCounter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("verified token cache should not accept tokens after a secret rotation")
+    void verifiedTokenCache_shouldStayCorrectAfterSecretRotation() {
+        ReflectionTestUtils.setField(jwtUtil, "tokenCache", new VerifiedTokenCache(100, new SimpleMeterRegistry()));
+        String token = jwtUtil.generateToken("user", UUID.randomUUID(), Role.USER);
+        assertThat(jwtUtil.verify(token)).isPresent();
+
+        ReflectionTestUtils.setField(jwtUtil, "secret", SECRET + "-rotated");
+
+        assertThat(jwtUtil.verify(token)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("verify should be timed by result: valid, cached, invalid")
+    void verify_shouldRecordTimerByResult() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(jwtUtil, "meterRegistry", registry);
+        ReflectionTestUtils.setField(jwtUtil, "tokenCache", new VerifiedTokenCache(100, registry));
+        String token = jwtUtil.generateToken("user", UUID.randomUUID(), Role.USER);
+
+        jwtUtil.verify(token);
+        jwtUtil.verify(token);
+        jwtUtil.verify("not.a.token");
+
+        assertThat(registry.get("jwt.generate").tag("type", VerifiedToken.ACCESS).timer().count()).isEqualTo(1);
+        assertThat(registry.get("jwt.verify").tag("result", "valid").timer().count()).isEqualTo(1);
+        assertThat(registry.get("jwt.verify").tag("result", "cached").timer().count()).isEqualTo(1);
+        assertThat(registry.get("jwt.verify").tag("result", "invalid").timer().count()).isEqualTo(1);
+    }
+}
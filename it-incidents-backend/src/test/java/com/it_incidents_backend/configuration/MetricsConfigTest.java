@@ -0,0 +1,166 @@
+package com.it_incidents_backend.configuration;
+
+import com.it_incidents_backend.dto.ticket.TicketAdminResponse;
+import com.it_incidents_backend.dto.ticket.TicketPageResponse;
+import com.it_incidents_backend.entities.*;
+import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.mapper.CommentMapperImpl;
+import com.it_incidents_backend.mapper.TicketMapperImpl;
+import com.it_incidents_backend.mapper.UserMapperImpl;
+import com.it_incidents_backend.repository.TicketVolumeRepository;
+import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.services.TicketAnalyticsService;
+import com.it_incidents_backend.services.TicketNumberGenerator;
+import com.it_incidents_backend.services.TicketService;
+import com.it_incidents_backend.services.TicketStatsSnapshot;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.framework.ProxyFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * tests for the hot-path metrics
+ *
+ * concerns tested:
+ *   - repository.rows records the result size of repository calls (collections, optionals, keyset windows)
+ *   - service.calls split by outcome and HTTP status
+ */
+@DataJpaTest(properties = "security.login-filter.enabled=false")
+@Import({MetricsConfig.class, MetricsConfigTest.Config.class, TicketService.class, TicketStatsSnapshot.class,
+        TicketNumberGenerator.class, TicketAnalyticsService.class, TicketVolumeRepository.class, TicketMapperImpl.class,
+        UserMapperImpl.class, CommentMapperImpl.class})
+@DisplayName("Metrics - Services & repositories")
+class MetricsConfigTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        SimpleMeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private SimpleMeterRegistry meterRegistry;
+
+    @Autowired
+    private ObjectProvider<MeterRegistry> meterRegistryProvider;
+
+    @BeforeEach
+    void setUp() {
+        User owner = null;
+        for (int i = 1; i <= 3; i++) {
+            owner = entityManager.persist(User.builder()
+                    .username("user" + i)
+                    .email("user" + i + "@example.com")
+                    .password("hash")
+                    .firstName("User")
+                    .lastName("Test")
+                    .role(Role.USER)
+                    .build());
+        }
+        for (int i = 1; i <= 5; i++) {
+            entityManager.persist(Ticket.builder()
+                    .ticketNumber("INC-TEST-" + i)
+                    .title("Ticket " + i)
+                    .description("Description " + i)
+                    .status(TicketStatus.PENDING)
+                    .priority(Priority.MEDIUM)
+                    .category(Category.SOFTWARE)
+                    .createdBy(owner)
+                    .build());
+        }
+        entityManager.flush();
+        meterRegistry.clear();
+    }
+
+    @Test
+    @DisplayName("repository calls should record the number of rows returned")
+    void repositoryCalls_shouldRecordRows() {
+        long users = userRepository.findAll().size();
+        userRepository.findByUsername("user1");
+        userRepository.findByUsername("nobody");
+
+        assertThat(meterRegistry.get("repository.rows")
+                .tags("repository", "UserRepository", "method", "findAll").summary().totalAmount())
+                .isEqualTo(users);
+        assertThat(meterRegistry.get("repository.rows")
+                .tags("repository", "UserRepository", "method", "findByUsername").summary().count())
+                .isEqualTo(2);
+        assertThat(meterRegistry.get("repository.rows")
+                .tags("repository", "UserRepository", "method", "findByUsername").summary().totalAmount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("keyset pages should record the rows of the window, not a single row")
+    void keysetPage_shouldRecordWindowSize() {
+        TicketPageResponse<TicketAdminResponse> page = ticketService.getTicketsPageForAdmin(null, 2);
+
+        assertThat(page.getItems()).hasSize(2);
+        assertThat(meterRegistry.get("repository.rows")
+                .tags("repository", "TicketRepository", "method", "findWithCreatorBy").summary().totalAmount())
+                .isEqualTo(page.getItems().size());
+    }
+
+    @Test
+    @DisplayName("service calls should be timed by outcome and status")
+    void serviceCalls_shouldBeSplitByOutcome() {
+        ProxyFactory proxyFactory = new ProxyFactory(new FakeService());
+        proxyFactory.addAdvice(new ServiceMetricsInterceptor(meterRegistryProvider));
+        FakeService service = (FakeService) proxyFactory.getProxy();
+
+        service.find(UUID.randomUUID());
+        assertThatThrownBy(() -> service.find(null)).isInstanceOf(AppException.class);
+        assertThatThrownBy(service::fail).isInstanceOf(IllegalStateException.class);
+
+        assertThat(meterRegistry.get("service.calls")
+                .tags("class", "FakeService", "method", "find", "outcome", "SUCCESS").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("service.calls")
+                .tags("method", "find", "outcome", "CLIENT_ERROR", "status", "404",
+                        "exception", "AppException").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("service.calls")
+                .tags("method", "fail", "outcome", "SERVER_ERROR", "status", "none",
+                        "exception", "IllegalStateException").timer().count())
+                .isEqualTo(1);
+    }
+
+    static class FakeService {
+        public UUID find(UUID id) {
+            if (id == null) {
+                throw new AppException("Not found", HttpStatus.NOT_FOUND);
+            }
+            return id;
+        }
+
+        public void fail() {
+            throw new IllegalStateException("boom");
+        }
+    }
+}
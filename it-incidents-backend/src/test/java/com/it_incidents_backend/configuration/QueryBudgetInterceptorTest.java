@@ -0,0 +1,140 @@
+package com.it_incidents_backend.configuration;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * tests for the per-request query budget
+ *
+ * concerns tested:
+ *   - statements counted between preHandle and afterCompletion, recorded per Controller#method
+ *   - over-budget and slow requests logged, @QueryBudget overriding the default budget
+ *   - async requests released without reporting
+ *   - QueryCounter.count adds nested counts to the enclosing one
+ */
+@ExtendWith(OutputCaptureExtension.class)
+@DisplayName("Query budget - N+1 detector")
+class QueryBudgetInterceptorTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final QueryCounter inspector = new QueryCounter();
+
+    static class FakeController {
+        @QueryBudget(2)
+        public void listWithBudget() {
+        }
+
+        public void listWithDefaultBudget() {
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        QueryCounter.stop();
+    }
+
+    @Test
+    @DisplayName("request within its @QueryBudget should be recorded but not logged")
+    void withinBudget_shouldOnlyRecord(CapturedOutput output) throws Exception {
+        run(interceptor(1000), "listWithBudget", 2);
+
+        assertThat(meterRegistry.get(QueryBudgetInterceptor.METRIC)
+                .tag("handler", "FakeController#listWithBudget").summary().totalAmount()).isEqualTo(2);
+        assertThat(output).doesNotContain("Query budget exceeded");
+    }
+
+    @Test
+    @DisplayName("request over its @QueryBudget should be logged with its handler")
+    void overAnnotatedBudget_shouldBeLogged(CapturedOutput output) throws Exception {
+        run(interceptor(1000), "listWithBudget", 3);
+
+        assertThat(output).contains("Query budget exceeded: FakeController#listWithBudget issued 3 statements (budget 2)");
+    }
+
+    @Test
+    @DisplayName("handler without @QueryBudget should use query-budget.max-queries")
+    void defaultBudget_shouldApply(CapturedOutput output) throws Exception {
+        run(interceptor(1000), "listWithDefaultBudget", 5);
+        assertThat(output).doesNotContain("Query budget exceeded");
+
+        run(interceptor(1000), "listWithDefaultBudget", 6);
+        assertThat(output).contains("FakeController#listWithDefaultBudget issued 6 statements (budget 5)");
+    }
+
+    @Test
+    @DisplayName("request slower than the threshold should be logged even within budget")
+    void slowRequest_shouldBeLogged(CapturedOutput output) throws Exception {
+        run(interceptor(-1), "listWithBudget", 1);
+
+        assertThat(output).contains("Slow request: FakeController#listWithBudget");
+    }
+
+    @Test
+    @DisplayName("async request should be released without being reported")
+    void asyncRequest_shouldNotBeReported() throws Exception {
+        QueryBudgetInterceptor interceptor = interceptor(1000);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        HandlerMethod handler = handler("listWithBudget");
+
+        interceptor.preHandle(request, new MockHttpServletResponse(), handler);
+        interceptor.afterConcurrentHandlingStarted(request, new MockHttpServletResponse(), handler);
+        interceptor.afterCompletion(request, new MockHttpServletResponse(), handler, null);
+
+        assertThat(QueryCounter.stop()).isEqualTo(-1);
+        assertThat(meterRegistry.find(QueryBudgetInterceptor.METRIC).summary()).isNull();
+    }
+
+    @Test
+    @DisplayName("QueryCounter.count should return the nested count and add it to the enclosing one")
+    void nestedCount_shouldAddUp() {
+        QueryCounter.start();
+        inspector.inspect("select 1");
+
+        QueryCounter.Counted<String> counted = QueryCounter.count(() -> {
+            inspector.inspect("select 2");
+            inspector.inspect("select 3");
+            return "done";
+        });
+
+        assertThat(counted.result()).isEqualTo("done");
+        assertThat(counted.statements()).isEqualTo(2);
+        assertThat(QueryCounter.stop()).isEqualTo(3);
+    }
+
+    private void run(QueryBudgetInterceptor interceptor, String method, int statements) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/test");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        HandlerMethod handler = handler(method);
+
+        interceptor.preHandle(request, response, handler);
+        for (int i = 0; i < statements; i++) {
+            inspector.inspect("select " + i);
+        }
+        interceptor.afterCompletion(request, response, handler, null);
+    }
+
+    private QueryBudgetInterceptor interceptor(long slowRequestMs) {
+        @SuppressWarnings("unchecked")
+        ObjectProvider<MeterRegistry> provider = mock(ObjectProvider.class);
+        when(provider.getIfAvailable()).thenReturn(meterRegistry);
+        return new QueryBudgetInterceptor(provider, true, 5, slowRequestMs);
+    }
+
+    private static HandlerMethod handler(String method) throws NoSuchMethodException {
+        return new HandlerMethod(new FakeController(), FakeController.class.getMethod(method));
+    }
+}
@@ -0,0 +1,121 @@
+package com.it_incidents_backend.configuration;
+
+import com.it_incidents_backend.configuration.synthetic.SyntheticDataGenerator;
+import com.it_incidents_backend.repository.TicketVolumeRepository;
+import com.it_incidents_backend.services.TicketAnalyticsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * tests for the synthetic dataset generator (profile synthetic-data), JDBC batch path on H2
+ *
+ * concerns tested:
+ *   - requested volumes written, comments attached to generated tickets
+ *   - lifecycle timestamps consistent with each status
+ *   - status history ending on each ticket status, resolution aggregates rebuilt from it
+ *   - reporters skewed: a small share of users files a large share of the tickets
+ *   - second run skipped
+ */
+// The generator runs at context startup, like in the real profile (exit disabled)
+@DataJpaTest(properties = {
+        "security.login-filter.enabled=false",
+        "synthetic.users=200",
+        "synthetic.tickets=3000",
+        "synthetic.chunk-size=1000",
+        "synthetic.exit-when-done=false"
+})
+@ActiveProfiles("synthetic-data")
+@Import({SyntheticDataGenerator.class, TicketAnalyticsService.class, TicketVolumeRepository.class, SyntheticDataGeneratorTest.Config.class})
+@DisplayName("Synthetic data generator - Bulk load with skew")
+class SyntheticDataGeneratorTest {
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SyntheticDataGenerator generator;
+
+    @Test
+    @DisplayName("requested volumes should be written, with comments on the generated tickets")
+    void startup_shouldWriteVolumes() {
+        assertThat(count("SELECT COUNT(*) FROM users WHERE username LIKE 'load\\_%'")).isEqualTo(200);
+        assertThat(count("SELECT COUNT(*) FROM tickets WHERE ticket_number LIKE 'LOAD-%'")).isEqualTo(3000);
+        assertThat(count("SELECT COUNT(*) FROM ticket_comments c JOIN tickets t ON t.id = c.ticket_id")).isGreaterThan(3000);
+        assertThat(count("SELECT COUNT(*) FROM users WHERE role = 'ADMIN'")).isPositive();
+    }
+
+    @Test
+    @DisplayName("timestamps should match each status")
+    void startup_shouldKeepLifecyclesConsistent() {
+        assertThat(count("SELECT COUNT(*) FROM tickets WHERE status IN ('PENDING', 'IN_PROGRESS', 'CANCELLED') "
+                + "AND resolved_at IS NOT NULL")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM tickets WHERE status = 'RESOLVED' "
+                + "AND (resolved_at IS NULL OR closed_at IS NOT NULL)")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM tickets WHERE status = 'CLOSED' "
+                + "AND (resolved_at IS NULL OR closed_at < resolved_at)")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM tickets WHERE resolved_at < created_at "
+                + "OR closed_at < created_at OR updated_at < created_at")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM ticket_comments c JOIN tickets t ON t.id = c.ticket_id "
+                + "WHERE c.created_at < t.created_at")).isZero();
+        // Old tickets mostly closed
+        assertThat(count("SELECT COUNT(*) FROM tickets WHERE status = 'CLOSED'")).isGreaterThan(1000);
+    }
+
+    @Test
+    @DisplayName("status history should end on each ticket's status, and feed the resolution aggregates")
+    void startup_shouldWriteStatusHistory() {
+        assertThat(count("SELECT COUNT(*) FROM ticket_status_events WHERE from_status IS NULL")).isEqualTo(3000);
+        assertThat(count("SELECT COUNT(*) FROM tickets t WHERE t.status <> (SELECT e.to_status FROM ticket_status_events e "
+                + "WHERE e.ticket_id = t.id ORDER BY e.occurred_at DESC LIMIT 1)")).isZero();
+        assertThat(count("SELECT COUNT(*) FROM ticket_status_events e JOIN tickets t ON t.id = e.ticket_id "
+                + "WHERE e.occurred_at < t.created_at")).isZero();
+
+        long resolutions = count("SELECT COUNT(*) FROM ticket_status_events WHERE to_status = 'RESOLVED'");
+        assertThat(resolutions).isEqualTo(count("SELECT COUNT(*) FROM tickets WHERE resolved_at IS NOT NULL"));
+        assertThat(count("SELECT SUM(resolved_count) FROM ticket_resolution_daily")).isEqualTo(resolutions);
+    }
+
+    @Test
+    @DisplayName("10% of the users should file well over 10% of the tickets")
+    void startup_shouldSkewReporters() {
+        List<Long> perReporter = jdbcTemplate.queryForList(
+                "SELECT COUNT(*) FROM tickets GROUP BY created_by_id ORDER BY COUNT(*) DESC", Long.class);
+
+        long top = perReporter.stream().limit(20).mapToLong(Long::longValue).sum();
+        assertThat(top).isGreaterThan(3000 * 35 / 100);
+    }
+
+    @Test
+    @DisplayName("a second run should find the data and write nothing")
+    void run_shouldSkipExistingData() {
+        generator.run();
+
+        assertThat(count("SELECT COUNT(*) FROM tickets")).isEqualTo(3000);
+    }
+
+    private long count(String sql) {
+        Long count = jdbcTemplate.queryForObject(sql, Long.class);
+        return count == null ? 0 : count;
+    }
+}
@@ -0,0 +1,76 @@
+package com.it_incidents_backend.configuration;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.web.server.LocalServerPort;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * tests for the HTTP edge of the running application (real Tomcat, real requests)
+ *
+ * concerns tested:
+ *   - behind the proxy, each X-Forwarded-For client has its own failed-login budget
+ *   - actuator: health public, metrics and prometheus closed to anonymous callers
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT, properties = {
+        "spring.datasource.url=jdbc:h2:mem:web-security;MODE=PostgreSQL;DB_CLOSE_DELAY=-1",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "jwt.secret=test-secret-key-for-the-web-security-integration-test-only",
+        "jwt.expiration=900000",
+        "jwt.refresh-expiration=604800000",
+        "security.login-throttle.max-failures-per-ip=3"
+})
+@DisplayName("Web security - HTTP edge")
+class WebSecurityIntegrationTest {
+
+    @LocalServerPort
+    private int port;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @Test
+    @DisplayName("failed logins forwarded for one client should not throttle another client of the same proxy")
+    void forwardedClients_shouldHaveSeparateBudgets() throws Exception {
+        // The test client connects from 127.0.0.1: a trusted proxy, like nginx in front of the backend
+        for (int i = 0; i < 3; i++) {
+            assertThat(login("198.51.100.1", "nobody-" + i).statusCode()).isEqualTo(401);
+        }
+
+        assertThat(login("198.51.100.1", "nobody").statusCode()).isEqualTo(429);
+        assertThat(login("198.51.100.2", "nobody").statusCode()).isEqualTo(401);
+    }
+
+    @Test
+    @DisplayName("anonymous callers should reach the health check but not the metrics")
+    void actuator_shouldOnlyExposeHealth() throws Exception {
+        assertThat(get("/actuator/health").statusCode()).isEqualTo(200);
+        assertThat(get("/actuator/prometheus").statusCode()).isIn(401, 403);
+        assertThat(get("/actuator/metrics").statusCode()).isIn(401, 403);
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + path)).GET().build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> login(String forwardedFor, String username) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + port + "/api/auth/login"))
+                .header("Content-Type", "application/json")
+                .header("X-Forwarded-For", forwardedFor)
+                .POST(HttpRequest.BodyPublishers.ofString(
+                        "{\"usernameOrEmail\":\"" + username + "\",\"password\":\"Wrong@2024Pass\"}"))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,91 @@
+package com.it_incidents_backend.security;
+
+import com.it_incidents_backend.security.AdaptivePasswordEncoder.Algorithm;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * tests for the adaptive password encoder (target algorithm + work factor, hash upgrade)
+ *
+ * concerns tested:
+ *   - legacy BCrypt hashes (no {id} prefix) still accepted, then flagged for upgrade
+ *   - upgrade when the stored cost differs from the target, in both directions
+ *   - algorithm switch (BCrypt -> Argon2id) without locking anyone out
+ *   - calibration never goes below the security floor
+ */
+@DisplayName("Adaptive Password Encoder - hash upgrade")
+class AdaptivePasswordEncoderTest {
+
+    private static final String PASSWORD = "MySuperSecurePass2026!";
+
+    @Test
+    @DisplayName("Legacy BCrypt hash should still match and be flagged for upgrade")
+    void legacyHash_shouldMatchAndNeedUpgrade() {
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(Algorithm.BCRYPT, 4);
+        String legacy = new BCryptPasswordEncoder(4).encode(PASSWORD);
+
+        assertThat(encoder.matches(PASSWORD, legacy)).isTrue();
+        assertThat(encoder.matches("WrongPass2026!", legacy)).isFalse();
+        assertThat(encoder.upgradeEncoding(legacy)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Hash with the target cost should not be upgraded")
+    void targetHash_shouldNotNeedUpgrade() {
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(Algorithm.BCRYPT, 4);
+
+        String hash = encoder.encode(PASSWORD);
+
+        assertThat(hash).startsWith("{bcrypt}$2a$04$");
+        assertThat(encoder.matches(PASSWORD, hash)).isTrue();
+        assertThat(encoder.upgradeEncoding(hash)).isFalse();
+    }
+
+    @Test
+    @DisplayName("Hash with another cost should be upgraded, higher or lower")
+    void otherCost_shouldNeedUpgrade() {
+        String cost4 = new AdaptivePasswordEncoder(Algorithm.BCRYPT, 4).encode(PASSWORD);
+        String cost6 = new AdaptivePasswordEncoder(Algorithm.BCRYPT, 6).encode(PASSWORD);
+
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(Algorithm.BCRYPT, 5);
+
+        assertThat(encoder.upgradeEncoding(cost4)).isTrue();
+        assertThat(encoder.upgradeEncoding(cost6)).isTrue();
+        assertThat(encoder.matches(PASSWORD, cost6)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Switching to Argon2id should accept BCrypt hashes and upgrade them")
+    void argon2Target_shouldUpgradeBcrypt() {
+        String bcrypt = new AdaptivePasswordEncoder(Algorithm.BCRYPT, 4).encode(PASSWORD);
+        AdaptivePasswordEncoder encoder = new AdaptivePasswordEncoder(Algorithm.ARGON2ID, 2);
+
+        String argon2 = encoder.encode(PASSWORD);
+
+        assertThat(encoder.matches(PASSWORD, bcrypt)).isTrue();
+        assertThat(encoder.upgradeEncoding(bcrypt)).isTrue();
+        assertThat(argon2).startsWith("{argon2}$argon2id$");
+        assertThat(encoder.matches(PASSWORD, argon2)).isTrue();
+        assertThat(encoder.upgradeEncoding(argon2)).isFalse();
+        assertThat(new AdaptivePasswordEncoder(Algorithm.ARGON2ID, 3).upgradeEncoding(argon2)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Calibration should keep the minimum cost even when the target is unreachable")
+    void calibration_shouldRespectFloor() {
+        AdaptivePasswordEncoder encoder = AdaptivePasswordEncoder.calibrated(Algorithm.BCRYPT, 1);
+
+        assertThat(encoder.getWorkFactor()).isEqualTo(10);
+        assertThat(encoder.encode(PASSWORD)).startsWith("{bcrypt}$2a$10$");
+    }
+
+    @Test
+    @DisplayName("Algorithm names from configuration")
+    void algorithm_fromConfiguration() {
+        assertThat(Algorithm.from("BCrypt")).isEqualTo(Algorithm.BCRYPT);
+        assertThat(Algorithm.from("argon2id")).isEqualTo(Algorithm.ARGON2ID);
+    }
+}
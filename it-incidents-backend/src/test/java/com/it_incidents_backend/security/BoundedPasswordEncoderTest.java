@@ -0,0 +1,194 @@
+package com.it_incidents_backend.security;
+
+import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.exceptions.ServiceOverloadedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.awaitility.Awaitility.await;
+
+/**
+ * tests for the bounded password hashing pool
+ *
+ * concerns tested:
+ *   - results and exceptions of the real encoder unchanged
+ *   - fast fail (503 + Retry-After) once threads + queue are taken
+ *   - admin requests: reserved slots and served before queued logins
+ *   - caller never blocked longer than the timeout
+ *   - bulk hashing (imports) served after queued logins
+ */
+@DisplayName("Bounded Password Encoder - hashing pool")
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ExecutorService callers = Executors.newCachedThreadPool();
+    private final BlockingEncoder blocking = new BlockingEncoder();
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        blocking.release.countDown();
+        callers.shutdownNow();
+        if (encoder != null) {
+            encoder.close();
+        }
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Should hash and verify like the wrapped BCrypt encoder and record durations")
+    void encodeAndMatches_shouldDelegate() {
+        encoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, 1, 5000, meterRegistry);
+
+        String hash = encoder.encode("MySuperSecurePass2026!");
+
+        assertThat(encoder.matches("MySuperSecurePass2026!", hash)).isTrue();
+        assertThat(encoder.matches("WrongPass2026!", hash)).isFalse();
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "encode").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("password.hashing.duration").tag("operation", "matches").timer().count())
+                .isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Should reject immediately once threads and queue are full, except for admins")
+    void saturated_shouldFailFastButAdmitAdmin() {
+        encoder = new BoundedPasswordEncoder(blocking, 1, 1, 1, 5000, meterRegistry);
+        CompletableFuture<String> running = encodeAsync("running", false);
+        awaitStarted();
+        CompletableFuture<String> queued = encodeAsync("queued", false);
+        awaitQueued(1);
+
+        assertThatThrownBy(() -> encoder.encode("rejected"))
+                .isInstanceOf(ServiceOverloadedException.class)
+                .extracting("retryAfterSeconds").isEqualTo(5L);
+        CompletableFuture<String> admin = encodeAsync("admin", true);
+        awaitQueued(2);
+
+        blocking.release.countDown();
+        assertThat(running.join()).isEqualTo("hash:running");
+        assertThat(queued.join()).isEqualTo("hash:queued");
+        assertThat(admin.join()).isEqualTo("hash:admin");
+        assertThat(blocking.hashed).doesNotContain("rejected");
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should hash queued admin requests before queued logins")
+    void adminRequest_shouldJumpTheQueue() {
+        encoder = new BoundedPasswordEncoder(blocking, 1, 4, 1, 5000, meterRegistry);
+        CompletableFuture<String> running = encodeAsync("running", false);
+        awaitStarted();
+        CompletableFuture<String> login = encodeAsync("login", false);
+        awaitQueued(1);
+        CompletableFuture<String> admin = encodeAsync("admin", true);
+        awaitQueued(2);
+
+        blocking.release.countDown();
+        CompletableFuture.allOf(running, login, admin).join();
+
+        assertThat(blocking.hashed).containsExactly("running", "admin", "login");
+    }
+
+    @Test
+    @DisplayName("Should hash bulk work after queued logins")
+    void bulkHash_shouldWaitBehindLogins() throws Exception {
+        encoder = new BoundedPasswordEncoder(blocking, 1, 4, 0, 5000, meterRegistry);
+        CompletableFuture<String> running = encodeAsync("running", false);
+        awaitStarted();
+        Future<String> bulk = encoder.encodeBulk("bulk");
+        awaitQueued(1);
+        CompletableFuture<String> login = encodeAsync("login", false);
+        awaitQueued(2);
+
+        blocking.release.countDown();
+        CompletableFuture.allOf(running, login).join();
+
+        assertThat(bulk.get(5, TimeUnit.SECONDS)).isEqualTo("hash:bulk");
+        assertThat(blocking.hashed).containsExactly("running", "login", "bulk");
+    }
+
+    @Test
+    @DisplayName("Should give up after the timeout instead of holding the request thread")
+    void slowHash_shouldTimeOut() {
+        encoder = new BoundedPasswordEncoder(blocking, 1, 1, 0, 100, meterRegistry);
+
+        long start = System.nanoTime();
+        assertThatThrownBy(() -> encoder.encode("slow")).isInstanceOf(ServiceOverloadedException.class);
+
+        assertThat(Duration.ofNanos(System.nanoTime() - start)).isLessThan(Duration.ofSeconds(2));
+        assertThat(meterRegistry.get("password.hashing.rejected").counter().count()).isEqualTo(1);
+    }
+
+    // ========== HELPERS ==========
+
+    private CompletableFuture<String> encodeAsync(String password, boolean admin) {
+        return CompletableFuture.supplyAsync(() -> {
+            if (admin) {
+                UserPrincipal principal = new UserPrincipal(UUID.randomUUID(), "admin", Role.ADMIN);
+                SecurityContextHolder.getContext().setAuthentication(
+                        new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+            }
+            try {
+                return encoder.encode(password);
+            } finally {
+                SecurityContextHolder.clearContext();
+            }
+        }, callers);
+    }
+
+    private void awaitStarted() {
+        await().atMost(Duration.ofSeconds(5)).until(() -> blocking.started.getCount() == 0);
+    }
+
+    private void awaitQueued(int size) {
+        await().atMost(Duration.ofSeconds(5))
+                .until(() -> meterRegistry.get("password.hashing.queue").gauge().value() == size);
+    }
+
+    /**
+     * Encoder whose hashes wait until released, recording the order they ran in
+     */
+    private static class BlockingEncoder implements PasswordEncoder {
+
+        private final CountDownLatch started = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private final List<String> hashed = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String encode(CharSequence rawPassword) {
+            hashed.add(rawPassword.toString());
+            started.countDown();
+            try {
+                release.await(10, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return "hash:" + rawPassword;
+        }
+
+        @Override
+        public boolean matches(CharSequence rawPassword, String encodedPassword) {
+            return encode(rawPassword).equals(encodedPassword);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.it_incidents_backend.security;
+
+import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.repository.UserRepository.LoginIdentity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * tests for the login membership filter (unknown logins rejected without a query)
+ *
+ * security concerns tested:
+ *   - never a false negative: existing logins (any case) always pass
+ *   - not conclusive before the first build
+ *   - logins registered and synced after the build are found
+ *   - false positive rate close to the configured one
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Login Identity Filter - Bloom filter")
+class LoginIdentityFilterTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private LoginIdentityFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        filter = new LoginIdentityFilter(userRepository, true, 1000, 0.01, 30_000);
+    }
+
+    @Test
+    @DisplayName("Should let every login through until built")
+    void notBuilt_shouldNotReject() {
+        assertThat(filter.mightExist("ghost")).isTrue();
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should find existing logins page by page, ignoring case, and reject unknown ones")
+    void built_shouldFindExistingLogins() {
+        when(userRepository.findLoginIdentities(any(Pageable.class)))
+                .thenAnswer(inv -> {
+                    Pageable page = inv.getArgument(0);
+                    return page.getPageNumber() == 0
+                            ? new SliceImpl<>(List.of(identity("alice", "alice@example.com")), page, true)
+                            : new SliceImpl<>(List.of(identity("Bob", "bob@example.com")), page, false);
+                });
+
+        filter.rebuild();
+
+        assertThat(filter.isReady()).isTrue();
+        assertThat(filter.mightExist("alice")).isTrue();
+        assertThat(filter.mightExist("BOB")).isTrue();
+        assertThat(filter.mightExist("bob@example.com")).isTrue();
+        assertThat(filter.mightExist("mallory")).isFalse();
+        verify(userRepository, times(2)).findLoginIdentities(any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("Should find logins registered or changed after the build")
+    void registeredAndSynced_shouldBeFound() {
+        when(userRepository.findLoginIdentities(any(Pageable.class)))
+                .thenAnswer(inv -> new SliceImpl<>(List.of(), inv.getArgument(0), false));
+        when(userRepository.findLoginIdentitiesChangedSince(any(LocalDateTime.class)))
+                .thenReturn(List.of(identity("carol", "carol@example.com")));
+        filter.rebuild();
+
+        filter.register("dave", "dave@example.com");
+        filter.sync();
+
+        assertThat(filter.mightExist("dave")).isTrue();
+        assertThat(filter.mightExist("carol@example.com")).isTrue();
+    }
+
+    @Test
+    @DisplayName("False positive rate should stay close to the configured one")
+    void bloomFilter_falsePositiveRate() {
+        BloomFilter bloom = BloomFilter.create(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> bloom.put("user" + i));
+
+        long falsePositives = IntStream.range(0, 10_000)
+                .filter(i -> bloom.mightContain("other" + i))
+                .count();
+
+        assertThat(IntStream.range(0, 10_000).allMatch(i -> bloom.mightContain("user" + i))).isTrue();
+        assertThat(falsePositives).isLessThan(200);
+    }
+
+    private static LoginIdentity identity(String username, String email) {
+        return new LoginIdentity() {
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
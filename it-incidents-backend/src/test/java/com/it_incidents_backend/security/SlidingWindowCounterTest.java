@@ -0,0 +1,60 @@
+package com.it_incidents_backend.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * tests for the lock-free sliding window counter behind the login throttle
+ *
+ * concerns tested:
+ *   - old failures leave the window bucket by bucket
+ *   - no lost update under concurrent increments
+ */
+@DisplayName("Sliding Window Counter")
+class SlidingWindowCounterTest {
+
+    private static final long WINDOW = 300_000; // 5 minutes, 10 buckets of 30s
+
+    @Test
+    @DisplayName("Failures older than the window should no longer count")
+    void oldFailures_shouldSlideOut() {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 10);
+        long start = 1_000_000_000L;
+
+        counter.increment(start);
+        counter.increment(start + 1_000);
+        assertThat(counter.increment(start + 120_000)).isEqualTo(3);
+
+        assertThat(counter.count(start + WINDOW - 30_000)).isEqualTo(3);
+        assertThat(counter.count(start + WINDOW + 30_000)).isEqualTo(1);
+        assertThat(counter.count(start + 2 * WINDOW)).isZero();
+        // Reused bucket restarts instead of adding to the stale count
+        assertThat(counter.increment(start + WINDOW + 30_000)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Concurrent increments should all be counted")
+    void concurrentIncrements_shouldNotBeLost() throws InterruptedException {
+        SlidingWindowCounter counter = new SlidingWindowCounter(WINDOW, 10);
+        long now = System.currentTimeMillis();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+
+        for (int t = 0; t < 8; t++) {
+            pool.execute(() -> {
+                for (int i = 0; i < 1_000; i++) {
+                    counter.increment(now);
+                }
+            });
+        }
+        pool.shutdown();
+        assertThat(pool.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(counter.count(now)).isEqualTo(8_000);
+    }
+}
@@ -8,7 +8,11 @@ import com.it_incidents_backend.dto.auth.SignupRequest;
 import com.it_incidents_backend.entities.Role;
 import com.it_incidents_backend.entities.User;
 import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.exceptions.ServiceOverloadedException;
 import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.repository.UserRepository.LoginIdentity;
+import com.it_incidents_backend.security.LoginIdentityFilter;
+import com.it_incidents_backend.security.VerifiedToken;
 import com.it_incidents_backend.services.auth.AuthServiceImp;
 import com.it_incidents_backend.services.auth.LoginAttemptService;
 
@@ -19,17 +23,22 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import static org.assertj.core.api.Assertions.catchThrowableOfType;
 import static org.assertj.core.api.Assertions.assertThat;
 
 
+import java.time.Instant;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
@@ -43,6 +52,7 @@ import static org.mockito.Mockito.*;
  *   - disabled account login prevention
  *   - token generation and refresh security
  *   - credential validation
+ *   - username/email uniqueness checked in one query, concurrent duplicates keep the same message
  */
 @ExtendWith(MockitoExtension.class)
 @DisplayName("Authentication Service - Security Tests")
@@ -61,6 +71,9 @@ class AuthServiceTest {
     @Mock
     private LoginAttemptService loginAttemptService;
 
+    @Mock
+    private LoginIdentityFilter loginIdentityFilter;
+
     @InjectMocks
     private AuthServiceImp authService;
 
@@ -96,6 +109,9 @@ class AuthServiceTest {
                 .accountNonLocked(true)
                 .failedLoginAttempts(0)
                 .build();
+
+        // Filter not conclusive: every login is looked up (unknown-login path tested separately)
+        lenient().when(loginIdentityFilter.mightExist(anyString())).thenReturn(true);
     }
 
     // ========== signup security tests ==========
@@ -103,8 +119,8 @@ class AuthServiceTest {
     @Test
     @DisplayName("signup with valid data should create user and return tokens")
     void whenSignUp_withValidData_thenSuccess() {
-        when(userRepository.existsByUsername("testuser")).thenReturn(false);
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(false);
+        when(userRepository.findLoginIdentitiesIn(List.of("testuser"), List.of("test@example.com")))
+                .thenReturn(List.of());
         when(passwordEncoder.encode("StrongPass1!")).thenReturn("encodedPass");
 
         // mock save to return user with id
@@ -125,6 +141,9 @@ class AuthServiceTest {
         assertThat(response.getRefreshToken()).isEqualTo("refresh.token");
         assertThat(response.getUsername()).isEqualTo("testuser");
         verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository).flush();
+        verify(userRepository, never()).existsByUsername(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
     }
 
     @Test
@@ -147,7 +166,8 @@ class AuthServiceTest {
     @Test
     @DisplayName("signup with existing username should fail")
     void whenSignUp_withExistingUsername_thenThrowsException() {
-        when(userRepository.existsByUsername("testuser")).thenReturn(true);
+        when(userRepository.findLoginIdentitiesIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of(loginIdentity("testuser", "other@example.com")));
 
         assertThatThrownBy(() -> authService.signUp(signupRequest))
                 .isInstanceOf(AppException.class)
@@ -157,14 +177,30 @@ class AuthServiceTest {
     @Test
     @DisplayName("signup with existing email should fail")
     void whenSignUp_withExistingEmail_thenThrowsException() {
-        when(userRepository.existsByUsername("testuser")).thenReturn(false);
-        when(userRepository.existsByEmail("test@example.com")).thenReturn(true);
+        when(userRepository.findLoginIdentitiesIn(anyCollection(), anyCollection()))
+                .thenReturn(List.of(loginIdentity("someoneelse", "test@example.com")));
 
         assertThatThrownBy(() -> authService.signUp(signupRequest))
                 .isInstanceOf(AppException.class)
                 .hasMessageContaining("Email is already registered");
     }
 
+    @Test
+    @DisplayName("signup racing another signup for the same email should fail with the same message")
+    void whenSignUp_concurrentDuplicate_thenSameMessage() {
+        when(passwordEncoder.encode("StrongPass1!")).thenReturn("encodedPass");
+        when(userRepository.save(any(User.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        doThrow(new DataIntegrityViolationException("could not execute statement",
+                new RuntimeException("ERROR: duplicate key value violates unique constraint \"uk_users\" " +
+                        "Detail: Key (email)=(test@example.com) already exists.")))
+                .when(userRepository).flush();
+
+        AppException exception = catchThrowableOfType(AppException.class, () -> authService.signUp(signupRequest));
+
+        assertThat(exception.getMessage()).isEqualTo("Email is already registered");
+        assertThat(exception.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     // ========== authentication security tests ==========
 
     @Test
@@ -222,6 +258,78 @@ class AuthServiceTest {
         assertThat(testUser.getLockedUntil()).isNull();
     }
 
+    @Test
+    @DisplayName("successful login should rehash an outdated password hash")
+    void successfulLogin_withOutdatedHash_shouldRehash() {
+        when(userRepository.findByUsernameOrEmail(anyString(), anyString()))
+                .thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPass")).thenReturn(true);
+        when(passwordEncoder.encode("StrongPass1!")).thenReturn("{bcrypt}rehashed");
+        when(jwtUtil.generateToken(anyString(), any(UUID.class), any(Role.class)))
+                .thenReturn("token");
+        when(jwtUtil.generateRefreshToken(anyString(), any(UUID.class)))
+                .thenReturn("refresh");
+
+        authService.authenticate(loginRequest);
+
+        // Same password: only the hash changes, the expiration timer is untouched
+        assertThat(testUser.getPassword()).isEqualTo("{bcrypt}rehashed");
+        assertThat(testUser.getPasswordChangedAt()).isNull();
+        verify(userRepository).save(testUser);
+    }
+
+    @Test
+    @DisplayName("login should not rehash when the hashing pool is saturated")
+    void successfulLogin_hashingSaturated_shouldKeepOldHash() {
+        when(userRepository.findByUsernameOrEmail(anyString(), anyString()))
+                .thenReturn(Optional.of(testUser));
+        when(passwordEncoder.matches(anyString(), anyString())).thenReturn(true);
+        when(passwordEncoder.upgradeEncoding("encodedPass")).thenReturn(true);
+        when(passwordEncoder.encode("StrongPass1!")).thenThrow(new ServiceOverloadedException("busy", 1));
+        when(jwtUtil.generateToken(anyString(), any(UUID.class), any(Role.class)))
+                .thenReturn("token");
+        when(jwtUtil.generateRefreshToken(anyString(), any(UUID.class)))
+                .thenReturn("refresh");
+
+        AuthResponse response = authService.authenticate(loginRequest);
+
+        assertThat(response.getToken()).isEqualTo("token");
+        assertThat(testUser.getPassword()).isEqualTo("encodedPass");
+    }
+
+    @Test
+    @DisplayName("throttled account should be rejected before the password hash")
+    void throttledAccount_shouldNotReachPasswordCheck() {
+        when(userRepository.findByUsernameOrEmail(anyString(), anyString()))
+                .thenReturn(Optional.of(testUser));
+        doThrow(new AppException("Too many failed login attempts. Please try again later.", HttpStatus.TOO_MANY_REQUESTS))
+                .when(loginAttemptService).checkAccountNotThrottled(testUser);
+
+        assertThatThrownBy(() -> authService.authenticate(loginRequest))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("Too many failed login attempts");
+
+        verify(passwordEncoder, never()).matches(anyString(), anyString());
+        verify(loginAttemptService, never()).recordFailedLogin(any());
+    }
+
+    @Test
+    @DisplayName("login absent from the identity filter should be rejected without a query but with a hash")
+    void unknownLogin_shouldSkipQueryButStillHash() {
+        when(loginIdentityFilter.mightExist("ghost")).thenReturn(false);
+        when(passwordEncoder.encode(anyString())).thenReturn("dummyHash");
+
+        assertThatThrownBy(() -> authService.authenticate(new LoginRequest("ghost", "AnyPass1!")))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("Invalid credentials");
+
+        // constant timing: same BCrypt work as a wrong password
+        verify(passwordEncoder).matches("AnyPass1!", "dummyHash");
+        verify(userRepository, never()).findByUsernameOrEmail(anyString(), anyString());
+        verify(loginAttemptService).recordUnknownLogin("ghost");
+    }
+
     @Test
     @DisplayName("disabled account should not be able to login (account security)")
     void disabledAccount_shouldNotAuthenticate() {
@@ -253,11 +361,8 @@ class AuthServiceTest {
     @Test
     @DisplayName("valid refresh token should generate new tokens")
     void whenRefreshToken_withValidToken_thenSuccess() {
-        when(jwtUtil.validateToken("valid.refresh.token")).thenReturn(true);
-        when(jwtUtil.isTokenExpired("valid.refresh.token")).thenReturn(false);
-        when(jwtUtil.getTokenType("valid.refresh.token")).thenReturn("refresh");
-        when(jwtUtil.getUsernameFromToken("valid.refresh.token")).thenReturn("testuser");
-        when(jwtUtil.getUserIdFromToken("valid.refresh.token")).thenReturn(testUserId);
+        when(jwtUtil.verify("valid.refresh.token")).thenReturn(Optional.of(new VerifiedToken(
+                "testuser", testUserId, null, VerifiedToken.REFRESH, Instant.now().plusSeconds(3600))));
         when(userRepository.findById(testUserId)).thenReturn(Optional.of(testUser));
         when(jwtUtil.generateToken(eq("testuser"), eq(testUserId), eq(Role.USER)))
                 .thenReturn("new.access.token");
@@ -273,8 +378,8 @@ class AuthServiceTest {
     @Test
     @DisplayName("expired refresh token should be rejected (token security)")
     void whenRefreshToken_withExpiredToken_thenThrowsException() {
-        when(jwtUtil.validateToken(anyString())).thenReturn(true);
-        when(jwtUtil.isTokenExpired(anyString())).thenReturn(true);
+        // Expired tokens are rejected by the parser itself
+        when(jwtUtil.verify(anyString())).thenReturn(Optional.empty());
 
         assertThatThrownBy(() -> authService.refreshToken(refreshRequest))
                 .isInstanceOf(AppException.class)
@@ -284,9 +389,8 @@ class AuthServiceTest {
     @Test
     @DisplayName("access token used as refresh token should be rejected (token type security)")
     void whenRefreshToken_withAccessToken_thenThrowsException() {
-        when(jwtUtil.validateToken("valid.refresh.token")).thenReturn(true);
-        when(jwtUtil.isTokenExpired("valid.refresh.token")).thenReturn(false);
-        when(jwtUtil.getTokenType("valid.refresh.token")).thenReturn("access");
+        when(jwtUtil.verify("valid.refresh.token")).thenReturn(Optional.of(new VerifiedToken(
+                "testuser", testUserId, Role.USER, VerifiedToken.ACCESS, Instant.now().plusSeconds(3600))));
 
         assertThatThrownBy(() -> authService.refreshToken(refreshRequest))
                 .isInstanceOf(AppException.class)
@@ -439,4 +543,18 @@ class AuthServiceTest {
         // FIX: on vérifie que recordFailedLogin a été appelé 3 fois
         verify(loginAttemptService, times(3)).recordFailedLogin(testUser);
     }
-}
\ No newline at end of file
+
+    private static LoginIdentity loginIdentity(String username, String email) {
+        return new LoginIdentity() {
+            @Override
+            public String getUsername() {
+                return username;
+            }
+
+            @Override
+            public String getEmail() {
+                return email;
+            }
+        };
+    }
+}
@@ -0,0 +1,133 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.entities.User;
+import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.security.AccountStatusChangedEvent;
+import com.it_incidents_backend.security.LoginThrottle;
+import com.it_incidents_backend.services.auth.LoginAttemptService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * tests for failed login tracking (in-memory throttle + persisted lock)
+ *
+ * security concerns tested:
+ *   - failures below the limit cause no database write
+ *   - the limit writes the lock once, in its own transaction
+ *   - throttled account or IP rejected before the password hash
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Login Attempt Service - brute force throttling")
+class LoginAttemptServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private LoginAttemptService loginAttemptService;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        LoginThrottle throttle = new LoginThrottle(5, 5, 10, 1000);
+        loginAttemptService = new LoginAttemptService(userRepository, eventPublisher, throttle, transactionManager, 30);
+        user = User.builder()
+                .id(UUID.randomUUID())
+                .username("testuser")
+                .email("test@example.com")
+                .build();
+
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setRemoteAddr("203.0.113.7");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(request));
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    @DisplayName("failures below the limit should not touch the database")
+    void failuresBelowLimit_shouldNotWrite() {
+        for (int i = 0; i < 4; i++) {
+            loginAttemptService.recordFailedLogin(user);
+        }
+
+        verifyNoInteractions(userRepository, transactionManager, eventPublisher);
+        assertThatCode(() -> loginAttemptService.checkAccountNotThrottled(user)).doesNotThrowAnyException();
+    }
+
+    @Test
+    @DisplayName("fifth failure should persist the lock only, then throttle the account")
+    void fifthFailure_shouldLockAndThrottle() {
+        LocalDateTime before = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            loginAttemptService.recordFailedLogin(user);
+        }
+
+        verify(userRepository).lockTemporarily(eq(user.getId()), eq(5),
+                argThat(until -> !until.isBefore(before.plusMinutes(30))));
+        verify(userRepository, never()).save(any());
+        verify(transactionManager).commit(any());
+        verify(eventPublisher).publishEvent(new AccountStatusChangedEvent(user.getId()));
+
+        AppException exception = catchThrowableOfType(AppException.class,
+                () -> loginAttemptService.checkAccountNotThrottled(user));
+        assertThat(exception.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("successful login should clear the account failures")
+    void successfulLogin_shouldReset() {
+        for (int i = 0; i < 4; i++) {
+            loginAttemptService.recordFailedLogin(user);
+        }
+
+        loginAttemptService.recordSuccessfulLogin(user);
+        loginAttemptService.recordFailedLogin(user);
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("client IP should be throttled after too many failures on any login")
+    void credentialStuffing_shouldThrottleIp() {
+        for (int i = 0; i < 10; i++) {
+            loginAttemptService.recordUnknownLogin("user" + i);
+        }
+
+        AppException exception = catchThrowableOfType(AppException.class,
+                () -> loginAttemptService.checkClientNotThrottled());
+
+        assertThat(exception.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        verifyNoInteractions(userRepository);
+    }
+}
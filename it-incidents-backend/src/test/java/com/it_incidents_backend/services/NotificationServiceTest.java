@@ -0,0 +1,193 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
+import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.entities.TicketStatus;
+import com.it_incidents_backend.entities.User;
+import com.it_incidents_backend.events.TicketCommentAddedEvent;
+import com.it_incidents_backend.events.TicketStatusChangedEvent;
+import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.security.AccountStatusChangedEvent;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.Mockito.*;
+
+/**
+ * tests for the SSE notification channel
+ *
+ * security concerns tested:
+ *   - internal comments never pushed to ticket owners
+ *   - account blocked: reason pushed to the user only, stream closed
+ *   - bounded number of streams per user
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Notification Service - SSE routing")
+class NotificationServiceTest {
+
+    @Mock
+    private UserRepository userRepository;
+
+    private NotificationService notificationService;
+
+    private final UUID ownerId = UUID.randomUUID();
+    private final UUID otherUserId = UUID.randomUUID();
+    private final UUID adminId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationService(userRepository, 60_000, 2, 1, 100) {
+            @Override
+            SseEmitter createEmitter(long timeout) {
+                return new RecordingEmitter(timeout);
+            }
+        };
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationService.shutdown();
+    }
+
+    @Test
+    @DisplayName("Ticket status change should reach the owner and admins only")
+    void ticketStatus_shouldReachOwnerAndAdmins() {
+        RecordingEmitter owner = subscribe(ownerId, Role.USER);
+        RecordingEmitter other = subscribe(otherUserId, Role.USER);
+        RecordingEmitter admin = subscribe(adminId, Role.ADMIN);
+
+        notificationService.onTicketStatusChanged(new TicketStatusChangedEvent(
+                UUID.randomUUID(), "INC-2026-0001", ownerId, TicketStatus.PENDING, TicketStatus.IN_PROGRESS,
+                Priority.HIGH, Category.NETWORK, "admin", LocalDateTime.now()));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(owner.events()).contains("ticket-status");
+            assertThat(admin.events()).contains("ticket-status");
+        });
+        assertThat(other.events()).containsExactly("connected");
+    }
+
+    @Test
+    @DisplayName("Internal comment should only reach admins")
+    void internalComment_shouldNotReachOwner() {
+        RecordingEmitter owner = subscribe(ownerId, Role.USER);
+        RecordingEmitter admin = subscribe(adminId, Role.ADMIN);
+
+        notificationService.onTicketCommentAdded(comment(true));
+        notificationService.onTicketCommentAdded(comment(false));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() ->
+                assertThat(admin.events()).containsExactly("connected", "ticket-comment", "ticket-comment"));
+        assertThat(owner.events()).containsExactly("connected", "ticket-comment");
+    }
+
+    @Test
+    @DisplayName("Disabled account should receive the reason and have its stream closed")
+    void disabledAccount_shouldBeNotifiedAndClosed() {
+        RecordingEmitter owner = subscribe(ownerId, Role.USER);
+        User disabled = User.builder().id(ownerId).enabled(false).build();
+        when(userRepository.findById(ownerId)).thenReturn(Optional.of(disabled));
+
+        notificationService.onAccountStatusChanged(new AccountStatusChangedEvent(ownerId));
+
+        await().atMost(Duration.ofSeconds(5)).untilAsserted(() -> {
+            assertThat(owner.events()).containsExactly("connected", "account-status");
+            assertThat(owner.payloads()).anyMatch(data -> data.contains("ACCOUNT_DISABLED"));
+            assertThat(owner.completed).isTrue();
+        });
+    }
+
+    @Test
+    @DisplayName("Account change without open stream should not query the database")
+    void accountChange_withoutStream_shouldDoNothing() {
+        notificationService.onAccountStatusChanged(new AccountStatusChangedEvent(ownerId));
+
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("Should refuse more streams than allowed per user")
+    void tooManyStreams_shouldBeRejected() {
+        subscribe(ownerId, Role.USER);
+        subscribe(ownerId, Role.USER);
+
+        AppException exception = catchThrowableOfType(AppException.class,
+                () -> notificationService.subscribe(ownerId, Role.USER));
+
+        assertThat(exception.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+        assertThat(notificationService.openStreams()).isEqualTo(2);
+    }
+
+    // ========== HELPERS ==========
+
+    private RecordingEmitter subscribe(UUID userId, Role role) {
+        return (RecordingEmitter) notificationService.subscribe(userId, role);
+    }
+
+    private TicketCommentAddedEvent comment(boolean internal) {
+        return new TicketCommentAddedEvent(UUID.randomUUID(), "INC-2026-0001", ownerId, UUID.randomUUID(),
+                "admin", internal, LocalDateTime.now());
+    }
+
+    /**
+     * Emitter that records the events instead of writing them to a response
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final List<String> events = new CopyOnWriteArrayList<>();
+        private final List<String> payloads = new CopyOnWriteArrayList<>();
+        private volatile boolean completed;
+
+        RecordingEmitter(long timeout) {
+            super(timeout);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            String name = null;
+            for (var part : builder.build()) {
+                Object data = part.getData();
+                if (data instanceof String text && text.startsWith("event:")) {
+                    name = text.substring("event:".length(), text.indexOf('\n'));
+                } else if (data != null) {
+                    payloads.add(data.toString());
+                }
+            }
+            if (name != null) {
+                events.add(name);
+            }
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+
+        List<String> events() {
+            return events;
+        }
+
+        List<String> payloads() {
+            return payloads;
+        }
+    }
+}
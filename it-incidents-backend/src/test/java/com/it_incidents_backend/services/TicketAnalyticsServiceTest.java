@@ -0,0 +1,345 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.configuration.QueryCounter;
+import com.it_incidents_backend.dto.ticket.*;
+import com.it_incidents_backend.dto.ticket.TicketVolumeResponse.Counts;
+import com.it_incidents_backend.dto.ticket.TicketVolumeResponse.Dimension;
+import com.it_incidents_backend.dto.ticket.TicketVolumeResponse.Interval;
+import com.it_incidents_backend.entities.*;
+import com.it_incidents_backend.events.TicketCommentAddedEvent;
+import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.mapper.CommentMapperImpl;
+import com.it_incidents_backend.mapper.TicketMapperImpl;
+import com.it_incidents_backend.mapper.UserMapperImpl;
+import com.it_incidents_backend.repository.*;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+/**
+ * tests for the status history, the incremental resolution-time aggregates and the volume time series
+ *
+ * concerns tested:
+ *   - every transition of the ticket lifecycle appended, resolutions added to the daily aggregate
+ *   - events and aggregates rolled back with the status change
+ *   - comment of a rejected resolution published like any other comment
+ *   - time spent in each status, unknown ticket
+ *   - percentile estimates from the histogram, rebuild from the event log
+ *   - rebuild waits for the resolutions being recorded: none lost
+ *   - created/resolved/closed counts per hour, day and ISO week in one query, gaps filled, breakdowns
+ */
+@DataJpaTest(properties = "security.login-filter.enabled=false")
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // The service commits its own transactions
+@Import({TicketService.class, TicketStatsSnapshot.class, TicketNumberGenerator.class, TicketAnalyticsService.class,
+        TicketVolumeRepository.class, TicketMapperImpl.class, UserMapperImpl.class, CommentMapperImpl.class})
+@RecordApplicationEvents
+@DisplayName("Ticket analytics - Status history, resolution times and volumes")
+class TicketAnalyticsServiceTest {
+
+    @Autowired
+    private TicketService ticketService;
+
+    @Autowired
+    private TicketAnalyticsService analyticsService;
+
+    @Autowired
+    private TicketStatusEventRepository eventRepository;
+
+    @Autowired
+    private TicketResolutionDailyRepository dailyRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private TicketCommentRepository commentRepository;
+
+    @Autowired
+    private TicketNumberCounterRepository counterRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .username("owner")
+                .email("owner@example.com")
+                .password("hash")
+                .firstName("Owner")
+                .lastName("Test")
+                .role(Role.USER)
+                .build());
+    }
+
+    @AfterEach
+    void cleanUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            eventRepository.deleteAllInBatch();
+            dailyRepository.deleteAllInBatch();
+            commentRepository.deleteAllInBatch();
+            ticketRepository.deleteAllInBatch();
+            counterRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("each transition should be appended, and each resolution counted in the day's aggregate")
+    void lifecycle_shouldRecordEventsAndAggregates() {
+        UUID ticketId = createTicket(Priority.HIGH, Category.NETWORK);
+
+        ticketService.updateTicketStatus(ticketId, new UpdateTicketStatusRequest(TicketStatus.IN_PROGRESS, null), "admin");
+        ticketService.updateTicketStatus(ticketId, new UpdateTicketStatusRequest(TicketStatus.RESOLVED, "Fixed"), "admin");
+        ticketService.confirmResolution(ticketId, new ConfirmResolutionRequest(false, null), owner.getId());
+        ticketService.updateTicketStatus(ticketId, new UpdateTicketStatusRequest(TicketStatus.RESOLVED, "Fixed"), "admin");
+        ticketService.confirmResolution(ticketId, new ConfirmResolutionRequest(true, null), owner.getId());
+
+        List<TicketStatusEvent> events = eventRepository.findByTicketIdOrderByOccurredAtAsc(ticketId);
+        assertThat(events).extracting(TicketStatusEvent::getToStatus).containsExactly(
+                TicketStatus.PENDING, TicketStatus.IN_PROGRESS, TicketStatus.RESOLVED,
+                TicketStatus.PENDING, TicketStatus.RESOLVED, TicketStatus.CLOSED);
+        assertThat(events.get(0).getFromStatus()).isNull();
+        assertThat(events.get(3).getFromStatus()).isEqualTo(TicketStatus.RESOLVED);
+        assertThat(events.get(5).getChangedBy()).isEqualTo("owner");
+        assertThat(events).filteredOn(event -> event.getResolutionSeconds() != null).hasSize(2);
+
+        TicketResolutionStatsResponse stats = analyticsService.getResolutionStats(null, null, null, null);
+        assertThat(stats.getOverall().getResolvedCount()).isEqualTo(2);
+        assertThat(stats.getDays()).singleElement()
+                .satisfies(day -> assertThat(day.getDay()).isEqualTo(LocalDate.now()));
+        assertThat(stats.getByPriority()).containsOnlyKeys(Priority.HIGH);
+        assertThat(stats.getByCategory()).containsOnlyKeys(Category.NETWORK);
+        assertThat(analyticsService.getResolutionStats(null, null, Priority.LOW, null).getOverall().getResolvedCount())
+                .isZero();
+
+        TicketStatusHistoryResponse history = analyticsService.getStatusHistory(ticketId);
+        assertThat(history.getTransitions()).hasSize(6);
+        assertThat(history.getSecondsInStatus()).containsOnlyKeys(
+                TicketStatus.PENDING, TicketStatus.IN_PROGRESS, TicketStatus.RESOLVED, TicketStatus.CLOSED);
+    }
+
+    @Test
+    @DisplayName("a rolled back status change should leave neither event nor resolution behind")
+    void rolledBackTransition_shouldNotBeRecorded() {
+        UUID ticketId = createTicket(Priority.LOW, Category.SOFTWARE);
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ticketService.updateTicketStatus(ticketId, new UpdateTicketStatusRequest(TicketStatus.RESOLVED, "Fixed"), "admin");
+            status.setRollbackOnly();
+        });
+
+        assertThat(eventRepository.findByTicketIdOrderByOccurredAtAsc(ticketId)).hasSize(1);
+        assertThat(analyticsService.getResolutionStats(null, null, null, null).getOverall().getResolvedCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("the comment of a rejected resolution should be published like any other comment")
+    void rejectedResolutionComment_shouldBePublished() {
+        UUID ticketId = createTicket(Priority.MEDIUM, Category.EMAIL);
+        ticketService.updateTicketStatus(ticketId, new UpdateTicketStatusRequest(TicketStatus.RESOLVED, "Fixed"), "admin");
+
+        ticketService.confirmResolution(ticketId, new ConfirmResolutionRequest(false, "Still broken"), owner.getId());
+
+        assertThat(applicationEvents.stream(TicketCommentAddedEvent.class)).singleElement().satisfies(event -> {
+            assertThat(event.ticketId()).isEqualTo(ticketId);
+            assertThat(event.ownerId()).isEqualTo(owner.getId());
+            assertThat(event.authorUsername()).isEqualTo("owner");
+            assertThat(event.internal()).isFalse();
+            assertThat(event.commentId()).isNotNull();
+        });
+    }
+
+    @Test
+    @DisplayName("rebuilding should reproduce the incrementally maintained aggregates")
+    void rebuild_shouldMatchIncrementalAggregates() {
+        for (Priority priority : Priority.values()) {
+            UUID ticketId = createTicket(priority, Category.HARDWARE);
+            ticketService.updateTicketStatus(ticketId, new UpdateTicketStatusRequest(TicketStatus.RESOLVED, "Fixed"), "admin");
+        }
+        ResolutionTimeStats incremental = analyticsService.getResolutionStats(null, null, null, null).getOverall();
+
+        assertThat(analyticsService.rebuildResolutionStats()).isEqualTo(Priority.values().length);
+
+        assertThat(analyticsService.getResolutionStats(null, null, null, null).getOverall()).isEqualTo(incremental);
+        assertThat(dailyRepository.count()).isEqualTo(Priority.values().length);
+    }
+
+    @Test
+    @DisplayName("rebuilding while a resolution is being recorded should wait for it, not drop it")
+    void rebuild_shouldNotLoseConcurrentResolution() throws Exception {
+        UUID first = createTicket(Priority.MEDIUM, Category.HARDWARE);
+        ticketService.updateTicketStatus(first, new UpdateTicketStatusRequest(TicketStatus.RESOLVED, "Fixed"), "admin");
+        UUID second = createTicket(Priority.MEDIUM, Category.HARDWARE);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            CountDownLatch recorded = new CountDownLatch(1);
+            CountDownLatch commit = new CountDownLatch(1);
+            // Resolution recorded (event written, aggregate row locked) but not committed yet
+            Future<?> resolution = executor.submit(() -> new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                ticketService.updateTicketStatus(second, new UpdateTicketStatusRequest(TicketStatus.RESOLVED, "Fixed"), "admin");
+                recorded.countDown();
+                awaitQuietly(commit);
+            }));
+            assertThat(recorded.await(10, TimeUnit.SECONDS)).isTrue();
+
+            Future<Long> rebuild = executor.submit(analyticsService::rebuildResolutionStats);
+            Thread.sleep(300);
+            commit.countDown();
+            resolution.get(10, TimeUnit.SECONDS);
+
+            assertThat(rebuild.get(10, TimeUnit.SECONDS)).isEqualTo(2);
+        } finally {
+            executor.shutdownNow();
+        }
+        assertThat(analyticsService.getResolutionStats(null, null, null, null).getOverall().getResolvedCount())
+                .isEqualTo(2);
+        assertThat(dailyRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("percentiles should be estimated inside the histogram bucket holding their rank")
+    void summarize_shouldEstimatePercentiles() {
+        TicketResolutionDaily row = TicketResolutionDaily.empty(LocalDate.now(), Priority.MEDIUM, Category.OTHER);
+        for (int i = 0; i < 10; i++) {
+            row.record(30);
+            row.record(600);
+        }
+
+        ResolutionTimeStats stats = TicketAnalyticsService.summarize(null, List.of(row));
+
+        assertThat(stats.getResolvedCount()).isEqualTo(20);
+        assertThat(stats.getMeanSeconds()).isEqualTo(315);
+        assertThat(stats.getMaxSeconds()).isEqualTo(600);
+        // Rank 10 in the first bucket (<= 1m), ranks 18 and 19 in the (5m, 15m] bucket, capped by the max
+        assertThat(stats.getP50Seconds()).isBetween(30L, 60L);
+        assertThat(stats.getP90Seconds()).isBetween(300L, 600L);
+        assertThat(stats.getP95Seconds()).isBetween(stats.getP90Seconds(), 600L);
+    }
+
+    @Test
+    @DisplayName("reports should reject invalid ranges and unknown tickets")
+    void reports_shouldValidateInput() {
+        assertThatThrownBy(() -> analyticsService.getResolutionStats(LocalDate.now(), LocalDate.now().minusDays(1), null, null))
+                .isInstanceOfSatisfying(AppException.class, e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> analyticsService.getResolutionStats(LocalDate.now().minusYears(2), LocalDate.now(), null, null))
+                .isInstanceOfSatisfying(AppException.class, e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> analyticsService.getStatusHistory(UUID.randomUUID()))
+                .isInstanceOfSatisfying(AppException.class, e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.NOT_FOUND));
+    }
+
+    @Test
+    @DisplayName("volumes should be counted per bucket in one query, every bucket of the range included")
+    void volume_shouldCountPerBucket() {
+        // Monday 2 March 2026 .. Wednesday 11 March 2026
+        LocalDateTime monday = LocalDateTime.of(2026, 3, 2, 0, 0);
+        createTicket(Priority.HIGH, TicketStatus.CLOSED, monday.plusHours(9).plusMinutes(15),
+                monday.plusHours(11), monday.plusDays(1).plusHours(8));
+        createTicket(Priority.LOW, TicketStatus.PENDING, monday.plusHours(9).plusMinutes(45), null, null);
+        // Cancelled: closed_at set, not counted as closed
+        createTicket(Priority.LOW, TicketStatus.CANCELLED, monday.plusDays(2).plusHours(10), null,
+                monday.plusDays(2).plusHours(12));
+        createTicket(Priority.HIGH, TicketStatus.RESOLVED, monday.plusDays(8), monday.plusDays(9), null);
+        // Created before the range, resolved in it
+        createTicket(Priority.MEDIUM, TicketStatus.RESOLVED, monday.minusDays(3), monday.plusHours(16), null);
+
+        QueryCounter.Counted<TicketVolumeResponse> counted = QueryCounter.count(() ->
+                analyticsService.getVolume(Interval.DAY, monday.toLocalDate(), LocalDate.of(2026, 3, 11), null));
+        TicketVolumeResponse days = counted.result();
+
+        assertThat(counted.statements()).isEqualTo(1);
+        assertThat(days.getBuckets()).hasSize(10);
+        assertThat(days.getBuckets().get(0).getStart()).isEqualTo(monday);
+        assertThat(days.getBuckets().get(0).getCounts()).isEqualTo(new Counts(2, 2, 0));
+        assertThat(days.getBuckets().get(1).getCounts()).isEqualTo(new Counts(0, 0, 1));
+        assertThat(days.getBuckets().get(5).getCounts()).isEqualTo(new Counts(0, 0, 0));
+        assertThat(days.getTotal()).isEqualTo(new Counts(4, 3, 1));
+        assertThat(days.getBuckets()).allSatisfy(bucket -> assertThat(bucket.getBreakdown()).isNull());
+
+        TicketVolumeResponse hours = analyticsService.getVolume(Interval.HOUR, monday.toLocalDate(), monday.toLocalDate(), null);
+        assertThat(hours.getBuckets()).hasSize(24);
+        assertThat(hours.getBuckets().get(9).getCounts()).isEqualTo(new Counts(2, 0, 0));
+        assertThat(hours.getBuckets().get(11).getCounts()).isEqualTo(new Counts(0, 1, 0));
+
+        // Widened to whole weeks: Monday 2 March .. Monday 16 March
+        TicketVolumeResponse weeks = analyticsService.getVolume(Interval.WEEK, LocalDate.of(2026, 3, 4),
+                LocalDate.of(2026, 3, 11), Dimension.PRIORITY);
+        assertThat(weeks.getFrom()).isEqualTo(monday);
+        assertThat(weeks.getTo()).isEqualTo(monday.plusWeeks(2));
+        assertThat(weeks.getBuckets()).hasSize(2);
+        assertThat(weeks.getBuckets().get(0).getCounts()).isEqualTo(new Counts(3, 2, 1));
+        assertThat(weeks.getBuckets().get(0).getBreakdown()).containsOnly(
+                entry("HIGH", new Counts(1, 1, 1)),
+                entry("LOW", new Counts(2, 0, 0)),
+                entry("MEDIUM", new Counts(0, 1, 0)));
+        assertThat(weeks.getBuckets().get(1).getBreakdown()).containsOnly(entry("HIGH", new Counts(1, 1, 0)));
+    }
+
+    @Test
+    @DisplayName("volume requests with too many buckets should be rejected")
+    void volume_shouldLimitBuckets() {
+        assertThatThrownBy(() -> analyticsService.getVolume(Interval.HOUR, LocalDate.now().minusDays(100), LocalDate.now(), null))
+                .isInstanceOfSatisfying(AppException.class, e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThat(analyticsService.getVolume(Interval.DAY, LocalDate.now().minusDays(100), LocalDate.now(), null)
+                .getBuckets()).hasSize(101);
+    }
+
+    private UUID createTicket(Priority priority, TicketStatus status, LocalDateTime createdAt,
+                              LocalDateTime resolvedAt, LocalDateTime closedAt) {
+        UUID ticketId = createTicket(priority, Category.SOFTWARE);
+        jdbcTemplate.update("UPDATE tickets SET status = ?, created_at = ?, resolved_at = ?, closed_at = ? WHERE id = ?",
+                status.name(), createdAt, resolvedAt, closedAt, ticketId);
+        return ticketId;
+    }
+
+    private UUID createTicket(Priority priority, Category category) {
+        return ticketService.createTicket(new CreateTicketRequest("Ticket", "Description", priority, category),
+                owner.getId()).getId();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,172 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.entities.*;
+import com.it_incidents_backend.exceptions.ServiceOverloadedException;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Export complet des tickets : lecture en flux (curseur), mémoire constante
+ *
+ * concerns tested:
+ *   - one query, no entity loaded, creator username and comment count included
+ *   - CSV quoting and spreadsheet formula neutralisation
+ *   - NDJSON and gzip output
+ *   - concurrent exports bounded
+ *   - slot released when the request ends before the body runs, and released only once
+ */
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "tickets.export.max-concurrent=1"
+})
+@Import({TicketExportService.class, TicketExportTest.Config.class})
+@DisplayName("Ticket export - Streaming CSV / NDJSON")
+class TicketExportTest {
+
+    private static final int TICKETS = 30;
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        JsonMapper jsonMapper() {
+            return JsonMapper.builder().build();
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TicketExportService exportService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        User owner = entityManager.persist(User.builder()
+                .username("owner")
+                .email("owner@example.com")
+                .password("hash")
+                .firstName("Owner")
+                .lastName("Test")
+                .role(Role.USER)
+                .build());
+
+        for (int i = 1; i <= TICKETS; i++) {
+            Ticket ticket = entityManager.persist(Ticket.builder()
+                    .ticketNumber("INC-TEST-" + i)
+                    .title(i == 1 ? "=HYPERLINK(\"x\"), \"quoted\"" : "Ticket " + i)
+                    .description("Description " + i)
+                    .status(TicketStatus.PENDING)
+                    .priority(Priority.MEDIUM)
+                    .category(Category.SOFTWARE)
+                    .createdBy(owner)
+                    .build());
+            for (int c = 0; c < i % 3; c++) {
+                entityManager.persist(TicketComment.builder()
+                        .ticket(ticket).author(owner).content("Comment " + c).isInternal(c == 1).build());
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("CSV export should stream every ticket in one query, without loading entities")
+    void csvExport_shouldStreamRows() throws IOException {
+        List<String> lines = run(exportService.export(TicketExportService.Format.CSV, false), false).lines().toList();
+
+        assertThat(lines).hasSize(TICKETS + 1);
+        assertThat(lines.get(0)).startsWith("id,ticketNumber,title,");
+        assertThat(lines).anySatisfy(line -> assertThat(line)
+                .contains(",INC-TEST-1,\"'=HYPERLINK(\"\"x\"\"), \"\"quoted\"\"\",PENDING,")
+                .endsWith(",owner,1"));
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains(",INC-TEST-2,").endsWith(",owner,2"));
+        assertThat(lines).anySatisfy(line -> assertThat(line).contains(",INC-TEST-3,").endsWith(",owner,0"));
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("gzip NDJSON export should contain one JSON object per ticket")
+    void gzipNdjsonExport_shouldBeReadable() throws IOException {
+        String body = run(exportService.export(TicketExportService.Format.NDJSON, true), true);
+
+        JsonMapper mapper = JsonMapper.builder().build();
+        List<JsonNode> rows = body.lines().map(mapper::readTree).toList();
+        assertThat(rows).hasSize(TICKETS);
+        assertThat(rows).allSatisfy(row -> assertThat(row.get("createdByUsername").asString()).isEqualTo("owner"));
+        assertThat(rows.stream().mapToLong(row -> row.get("commentCount").asLong()).sum()).isEqualTo(30);
+    }
+
+    @Test
+    @DisplayName("export should be refused while the maximum is already running, then accepted again")
+    void concurrentExports_shouldBeBounded() throws IOException {
+        StreamingResponseBody running = exportService.export(TicketExportService.Format.CSV, false);
+
+        assertThatThrownBy(() -> exportService.export(TicketExportService.Format.CSV, false))
+                .isInstanceOf(ServiceOverloadedException.class);
+
+        run(running, false);
+        run(exportService.export(TicketExportService.Format.CSV, false), false);
+    }
+
+    @Test
+    @DisplayName("export whose request ended before its body ran should free its slot, once")
+    void abandonedExport_shouldReleaseSlot() throws Exception {
+        TicketExportService.ExportBody abandoned = exportService.export(TicketExportService.Format.CSV, false);
+
+        // Async request completed (timeout, executor rejection) without the body having run
+        abandoned.afterCompletion(null, null);
+        StreamingResponseBody next = exportService.export(TicketExportService.Format.CSV, false);
+
+        abandoned.afterCompletion(null, null);
+        assertThatThrownBy(() -> exportService.export(TicketExportService.Format.CSV, false))
+                .isInstanceOf(ServiceOverloadedException.class);
+        assertThatThrownBy(() -> run(abandoned, false)).isInstanceOf(IOException.class);
+
+        run(next, false);
+        run(exportService.export(TicketExportService.Format.CSV, false), false);
+    }
+
+    private static String run(StreamingResponseBody body, boolean gzip) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        body.writeTo(output);
+        byte[] bytes = output.toByteArray();
+        if (gzip) {
+            try (GZIPInputStream input = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+                bytes = input.readAllBytes();
+            }
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,165 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.dto.ticket.CreateTicketRequest;
+import com.it_incidents_backend.dto.ticket.TicketResponse;
+import com.it_incidents_backend.entities.*;
+import com.it_incidents_backend.mapper.CommentMapperImpl;
+import com.it_incidents_backend.mapper.TicketMapperImpl;
+import com.it_incidents_backend.mapper.UserMapperImpl;
+import com.it_incidents_backend.repository.TicketNumberCounterRepository;
+import com.it_incidents_backend.repository.TicketRepository;
+import com.it_incidents_backend.repository.TicketVolumeRepository;
+import com.it_incidents_backend.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Year;
+import java.util.*;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Numérotation des tickets sous concurrence : aucun doublon, aucun scan de la table tickets par création
+ */
+@DataJpaTest
+@Transactional(propagation = Propagation.NOT_SUPPORTED) // Each thread commits its own work
+@Import({TicketService.class, TicketStatsSnapshot.class, TicketNumberGenerator.class, TicketAnalyticsService.class, TicketVolumeRepository.class, TicketMapperImpl.class, UserMapperImpl.class, CommentMapperImpl.class})
+@DisplayName("Ticket number generator - Concurrency")
+class TicketNumberGeneratorTest {
+
+    private static final int THREADS = 16;
+    private static final int BLOCK_SIZE = 20;
+
+    @Autowired
+    private TicketNumberCounterRepository counterRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TicketService ticketService;
+
+    private final int year = Year.now().getValue();
+
+    @AfterEach
+    void cleanUp() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            ticketRepository.deleteAllInBatch();
+            counterRepository.deleteAllInBatch();
+            userRepository.deleteAllInBatch();
+        });
+    }
+
+    @Test
+    @DisplayName("Parallel calls should never return the same number and reserve one block per BLOCK_SIZE numbers")
+    void parallelCalls_shouldReturnUniqueNumbers() throws Exception {
+        TicketNumberGenerator generator = newGenerator();
+        int perThread = 500;
+
+        List<String> numbers = runInParallel(perThread, generator::next);
+
+        assertThat(numbers).hasSize(THREADS * perThread);
+        assertThat(new HashSet<>(numbers)).hasSize(numbers.size());
+        assertThat(numbers).allMatch(n -> n.startsWith("INC-" + year + "-"));
+
+        // Counter touched once per block, not once per number
+        long reserved = counterRepository.findById(year).orElseThrow().getNextValue() - 1;
+        assertThat(reserved).isEqualTo((long) Math.ceil((double) numbers.size() / BLOCK_SIZE) * BLOCK_SIZE);
+    }
+
+    @Test
+    @DisplayName("A new year counter should continue after the numbers already issued")
+    void newCounter_shouldStartAfterExistingNumbers() {
+        User owner = persistUser("legacy");
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                ticketRepository.save(ticket(owner, "INC-" + year + "-0042")));
+
+        assertThat(newGenerator().next()).isEqualTo("INC-" + year + "-0043");
+    }
+
+    @Test
+    @DisplayName("Thousands of tickets created in parallel should all be saved with distinct numbers")
+    void parallelCreates_shouldAllSucceed() throws Exception {
+        User owner = persistUser("owner");
+        int perThread = 125;
+        CreateTicketRequest request = new CreateTicketRequest("Printer down", "Paper jam", Priority.LOW, Category.HARDWARE);
+
+        List<String> numbers = runInParallel(perThread, () -> {
+            TicketResponse created = ticketService.createTicket(request, owner.getId());
+            return created.getTicketNumber();
+        });
+
+        // Unique constraint on ticket_number: any duplicate would have failed the insert
+        assertThat(numbers).hasSize(THREADS * perThread).doesNotHaveDuplicates();
+        assertThat(ticketRepository.count()).isEqualTo(numbers.size());
+    }
+
+    // ========== HELPERS ==========
+
+    private TicketNumberGenerator newGenerator() {
+        return new TicketNumberGenerator(counterRepository, ticketRepository, transactionManager, BLOCK_SIZE);
+    }
+
+    private List<String> runInParallel(int perThread, Callable<String> task) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        try {
+            List<Future<List<String>>> futures = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                futures.add(executor.submit(() -> {
+                    startSignal.await();
+                    List<String> produced = new ArrayList<>(perThread);
+                    for (int i = 0; i < perThread; i++) {
+                        produced.add(task.call());
+                    }
+                    return produced;
+                }));
+            }
+            startSignal.countDown();
+
+            List<String> all = new ArrayList<>();
+            for (Future<List<String>> future : futures) {
+                all.addAll(future.get(60, TimeUnit.SECONDS));
+            }
+            return all;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private User persistUser(String username) {
+        return userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("hash")
+                .role(Role.USER)
+                .build());
+    }
+
+    private Ticket ticket(User owner, String number) {
+        return Ticket.builder()
+                .ticketNumber(number)
+                .title("Legacy")
+                .description("Imported")
+                .status(TicketStatus.CLOSED)
+                .priority(Priority.LOW)
+                .category(Category.OTHER)
+                .createdBy(owner)
+                .build();
+    }
+}
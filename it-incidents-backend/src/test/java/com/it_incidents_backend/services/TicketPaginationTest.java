@@ -0,0 +1,158 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.configuration.QueryCounter;
+import com.it_incidents_backend.dto.ticket.TicketAdminResponse;
+import com.it_incidents_backend.dto.ticket.TicketFilterRequest;
+import com.it_incidents_backend.dto.ticket.TicketPageResponse;
+import com.it_incidents_backend.dto.ticket.TicketResponse;
+import com.it_incidents_backend.entities.*;
+import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.mapper.CommentMapperImpl;
+import com.it_incidents_backend.mapper.TicketMapperImpl;
+import com.it_incidents_backend.mapper.UserMapperImpl;
+import com.it_incidents_backend.repository.TicketVolumeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Pagination keyset (created_at, id) des listes de tickets
+ */
+@DataJpaTest
+@Import({TicketService.class, TicketStatsSnapshot.class, TicketNumberGenerator.class, TicketAnalyticsService.class, TicketVolumeRepository.class, TicketMapperImpl.class, UserMapperImpl.class, CommentMapperImpl.class})
+@DisplayName("Ticket listings - Keyset pagination")
+class TicketPaginationTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private TicketService ticketService;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        owner = entityManager.persist(User.builder()
+                .username("owner")
+                .email("owner@example.com")
+                .password("hash")
+                .role(Role.USER)
+                .build());
+
+        for (int i = 1; i <= 25; i++) {
+            entityManager.persist(Ticket.builder()
+                    .ticketNumber("INC-TEST-" + i)
+                    .title("Ticket " + i)
+                    .description("Description " + i)
+                    .status(i % 2 == 0 ? TicketStatus.PENDING : TicketStatus.RESOLVED)
+                    .priority(Priority.MEDIUM)
+                    .category(Category.SOFTWARE)
+                    .createdBy(owner)
+                    .build());
+        }
+        entityManager.flush();
+
+        // Same creation instant for every ticket: ordering must rely on the id tie-breaker
+        entityManager.getEntityManager()
+                .createQuery("UPDATE Ticket t SET t.createdAt = :createdAt")
+                .setParameter("createdAt", LocalDateTime.of(2026, 1, 1, 12, 0))
+                .executeUpdate();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("Walking every page should return each ticket exactly once")
+    void walkingPages_shouldReturnEveryTicketOnce() {
+        List<UUID> seen = new ArrayList<>();
+        String cursor = null;
+        int pages = 0;
+
+        do {
+            TicketPageResponse<TicketResponse> page = ticketService.getTicketsPage(cursor, 10);
+            page.getItems().forEach(ticket -> seen.add(ticket.getId()));
+            cursor = page.getNextCursor();
+            pages++;
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        assertThat(pages).isEqualTo(3);
+        assertThat(seen).hasSize(25).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("Status and owner listings should be paginated the same way")
+    void filteredListings_shouldBePaginated() {
+        TicketPageResponse<TicketResponse> firstPending = ticketService.getTicketsByStatusPage(TicketStatus.PENDING, null, 5);
+        TicketPageResponse<TicketResponse> secondPending =
+                ticketService.getTicketsByStatusPage(TicketStatus.PENDING, firstPending.getNextCursor(), 5);
+
+        assertThat(firstPending.getItems()).hasSize(5);
+        assertThat(secondPending.getItems()).hasSize(5);
+        assertThat(secondPending.isHasNext()).as("12 pending tickets").isTrue();
+        assertThat(secondPending.getItems())
+                .extracting(TicketResponse::getId)
+                .doesNotContainAnyElementsOf(firstPending.getItems().stream().map(TicketResponse::getId).toList());
+
+        assertThat(ticketService.getMyTicketsPage(owner.getId(), null, 100).getItems()).hasSize(25);
+    }
+
+    @Test
+    @DisplayName("Combined filters should only return tickets matching every filter, page by page")
+    void combinedFilter_shouldMatchEveryFilter() {
+        TicketFilterRequest filter = TicketFilterRequest.builder()
+                .status(TicketStatus.PENDING)
+                .priority(Priority.MEDIUM)
+                .createdById(owner.getId())
+                .createdFrom(LocalDateTime.of(2026, 1, 1, 0, 0))
+                .createdTo(LocalDateTime.of(2026, 1, 2, 0, 0))
+                .build();
+
+        // Persistence context cleared in setUp: a lazy creator would cost one more statement
+        QueryCounter.Counted<TicketPageResponse<TicketAdminResponse>> counted =
+                QueryCounter.count(() -> ticketService.getFilteredTicketsPage(filter, null, 10));
+        TicketPageResponse<TicketAdminResponse> first = counted.result();
+        assertThat(counted.statements()).as("creator fetched with the page").isEqualTo(1);
+        TicketPageResponse<TicketAdminResponse> second = ticketService.getFilteredTicketsPage(filter, first.getNextCursor(), 10);
+
+        assertThat(first.getItems()).hasSize(10);
+        assertThat(second.getItems()).hasSize(2);
+        assertThat(second.isHasNext()).isFalse();
+        assertThat(first.getItems()).allSatisfy(ticket -> {
+            assertThat(ticket.getStatus()).isEqualTo(TicketStatus.PENDING);
+            assertThat(ticket.getCreatedByUsername()).isEqualTo("owner");
+        });
+
+        filter.setCategory(Category.NETWORK);
+        assertThat(ticketService.getFilteredTicketsPage(filter, null, 10).getItems()).isEmpty();
+
+        filter.setCreatedFrom(filter.getCreatedTo());
+        assertThatThrownBy(() -> ticketService.getFilteredTicketsPage(filter, null, 10))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("createdFrom");
+    }
+
+    @Test
+    @DisplayName("Tampered cursor or invalid size should be rejected with 400")
+    void invalidCursorOrSize_shouldBeRejected() {
+        assertThatThrownBy(() -> ticketService.getTicketsPage("not-a-cursor", 10))
+                .isInstanceOf(AppException.class)
+                .hasMessage("Invalid cursor");
+
+        assertThatThrownBy(() -> ticketService.getTicketsPage(null, 0))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("Page size");
+    }
+}
@@ -0,0 +1,181 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.configuration.QueryBudget;
+import com.it_incidents_backend.configuration.QueryCounter;
+import com.it_incidents_backend.controller.TicketController;
+import com.it_incidents_backend.dto.ticket.TicketAdminResponse;
+import com.it_incidents_backend.dto.ticket.TicketDetailResponse;
+import com.it_incidents_backend.dto.ticket.TicketFilterRequest;
+import com.it_incidents_backend.dto.ticket.TicketPageResponse;
+import com.it_incidents_backend.entities.*;
+import com.it_incidents_backend.mapper.CommentMapperImpl;
+import com.it_incidents_backend.mapper.TicketMapperImpl;
+import com.it_incidents_backend.mapper.UserMapperImpl;
+import com.it_incidents_backend.repository.TicketVolumeRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Nombre de requêtes SQL des listes de tickets : constant, quel que soit le nombre de tickets
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Import({TicketService.class, TicketStatsSnapshot.class, TicketNumberGenerator.class, TicketAnalyticsService.class, TicketVolumeRepository.class, TicketMapperImpl.class, UserMapperImpl.class, CommentMapperImpl.class})
+@DisplayName("Ticket listings - Query count (no N+1)")
+class TicketQueryCountTest {
+
+    private static final int TICKETS = 10;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TicketService ticketService;
+
+    private User owner;
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        owner = persistUser("owner", Role.USER);
+        User admin = persistUser("admin", Role.ADMIN);
+
+        for (int i = 1; i <= TICKETS; i++) {
+            Ticket ticket = entityManager.persist(Ticket.builder()
+                    .ticketNumber("INC-TEST-" + i)
+                    .title("Ticket " + i)
+                    .description("Description " + i)
+                    .status(TicketStatus.PENDING)
+                    .priority(Priority.MEDIUM)
+                    .category(Category.SOFTWARE)
+                    .createdBy(owner)
+                    .build());
+
+            // Each ticket: one public comment from its owner, one internal note from an admin
+            entityManager.persist(TicketComment.builder()
+                    .ticket(ticket).author(owner).content("Public " + i).isInternal(false).build());
+            entityManager.persist(TicketComment.builder()
+                    .ticket(ticket).author(admin).content("Internal " + i).isInternal(true).build());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    private User persistUser(String username, Role role) {
+        return entityManager.persist(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("hash")
+                .firstName(username)
+                .lastName("Test")
+                .role(role)
+                .build());
+    }
+
+    @Test
+    @DisplayName("getMyTickets should load tickets, comments and authors in 3 queries")
+    void getMyTickets_shouldUseConstantQueries() {
+        List<TicketDetailResponse> tickets = ticketService.getMyTickets(owner.getId());
+
+        // user + tickets (with creator) + comments (with authors)
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(3);
+        assertThat(tickets).hasSize(TICKETS);
+        assertThat(tickets).allSatisfy(ticket -> {
+            assertThat(ticket.getComments()).hasSize(1);
+            assertThat(ticket.getComments().get(0).getAuthorUsername()).isEqualTo("owner");
+            assertThat(ticket.getCommentCount()).isEqualTo(2);
+        });
+    }
+
+    @Test
+    @DisplayName("getAllTicketsForAdmin should load tickets and creators in 1 query")
+    void getAllTicketsForAdmin_shouldUseSingleQuery() {
+        List<TicketAdminResponse> tickets = ticketService.getAllTicketsForAdmin();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(tickets).hasSize(TICKETS)
+                .allSatisfy(ticket -> assertThat(ticket.getCreatedByUsername()).isEqualTo("owner"));
+    }
+
+    @Test
+    @DisplayName("Paged listings should not issue per-row queries")
+    void pagedListings_shouldUseConstantQueries() {
+        ticketService.getTicketsPageForAdmin(null, 5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+
+        statistics.clear();
+        ticketService.getMyTicketsPage(owner.getId(), null, 5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(2);
+
+        // Owner already loaded by the previous call: start from an empty persistence context
+        entityManager.clear();
+        statistics.clear();
+        TicketPageResponse<TicketAdminResponse> filtered = ticketService.getFilteredTicketsPage(
+                TicketFilterRequest.builder().status(TicketStatus.PENDING).createdById(owner.getId()).build(), null, 5);
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(filtered.getItems()).allSatisfy(ticket -> assertThat(ticket.getCreatedByUsername()).isEqualTo("owner"));
+    }
+
+    @Test
+    @DisplayName("getTicketById should load the ticket with its comments and authors in 1 query")
+    void getTicketById_shouldUseSingleQuery() {
+        Ticket any = ticketRepositoryFirst();
+        statistics.clear();
+
+        TicketDetailResponse ticket = ticketService.getTicketById(any.getId(), null, Role.ADMIN);
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(ticket.getComments()).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("Listings should stay within the @QueryBudget of their endpoint")
+    void listings_shouldStayWithinEndpointBudgets() {
+        UUID ticketId = ticketRepositoryFirst().getId();
+
+        assertWithinBudget("getAllTicketsForAdmin", () -> ticketService.getAllTicketsForAdmin());
+        assertWithinBudget("getTicketsPageForAdmin", () -> ticketService.getTicketsPageForAdmin(null, 5));
+        assertWithinBudget("getTicketById", () -> ticketService.getTicketById(ticketId, null, Role.ADMIN));
+        assertWithinBudget("getMyTickets", () -> ticketService.getMyTickets(owner.getId()));
+        assertWithinBudget("getMyTicketsPage", () -> ticketService.getMyTicketsPage(owner.getId(), null, 5));
+        assertWithinBudget("filterTickets", () -> ticketService.getFilteredTicketsPage(
+                TicketFilterRequest.builder().status(TicketStatus.PENDING).build(), null, 5));
+    }
+
+    private void assertWithinBudget(String endpoint, Supplier<?> call) {
+        entityManager.clear();
+        int budget = Arrays.stream(TicketController.class.getMethods())
+                .filter(method -> method.getName().equals(endpoint))
+                .findFirst().orElseThrow()
+                .getAnnotation(QueryBudget.class).value();
+
+        assertThat(QueryCounter.count(call).statements()).as(endpoint).isLessThanOrEqualTo(budget);
+    }
+
+    private Ticket ticketRepositoryFirst() {
+        return entityManager.getEntityManager()
+                .createQuery("SELECT t FROM Ticket t", Ticket.class)
+                .setMaxResults(1)
+                .getSingleResult();
+    }
+}
@@ -0,0 +1,136 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.dto.ticket.TicketAdminResponse;
+import com.it_incidents_backend.dto.ticket.TicketSearchCriteria;
+import com.it_incidents_backend.dto.ticket.TicketSearchResponse;
+import com.it_incidents_backend.entities.Ticket;
+import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.mapper.TicketMapper;
+import com.it_incidents_backend.repository.TicketRepository;
+import com.it_incidents_backend.repository.TicketSearchRepository;
+import com.it_incidents_backend.repository.TicketSearchRepository.TicketSearchRow;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowableOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * tests for the full-text ticket search service
+ *
+ * concerns tested:
+ *   - query validation before any database access
+ *   - rank order preserved when tickets are loaded
+ *   - paging without COUNT (one extra row), page size capped
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Ticket Search Service Tests")
+class TicketSearchServiceTest {
+
+    @Mock
+    private TicketSearchRepository searchRepository;
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @Mock
+    private TicketMapper ticketMapper;
+
+    @InjectMocks
+    private TicketSearchService searchService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(searchService, "defaultPageSize", 20);
+        ReflectionTestUtils.setField(searchService, "maxPageSize", 100);
+    }
+
+    @Test
+    @DisplayName("Should return 501 when the database has no full-text search")
+    void search_unsupportedDatabase_shouldFail() {
+        when(searchRepository.isSupported()).thenReturn(false);
+
+        AppException exception = catchThrowableOfType(AppException.class,
+                () -> searchService.search(criteria("printer"), null, null));
+
+        assertThat(exception.getStatus()).isEqualTo(HttpStatus.NOT_IMPLEMENTED);
+        verify(searchRepository, never()).search(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should reject a blank query")
+    void search_blankQuery_shouldFail() {
+        when(searchRepository.isSupported()).thenReturn(true);
+
+        AppException exception = catchThrowableOfType(AppException.class,
+                () -> searchService.search(criteria("   "), null, null));
+
+        assertThat(exception.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        verify(searchRepository, never()).search(any(), anyInt(), anyInt());
+    }
+
+    @Test
+    @DisplayName("Should keep the rank order and detect the next page from one extra row")
+    void search_shouldKeepRankOrder() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        UUID extra = UUID.randomUUID();
+        when(searchRepository.isSupported()).thenReturn(true);
+        when(searchRepository.search(any(), eq(2), eq(3))).thenReturn(List.of(
+                new TicketSearchRow(first, 0.9),
+                new TicketSearchRow(second, 0.4),
+                new TicketSearchRow(extra, 0.1)
+        ));
+        // Database returns tickets in any order
+        when(ticketRepository.findWithCreatorByIdIn(List.of(first, second)))
+                .thenReturn(List.of(ticket(second), ticket(first)));
+        when(ticketMapper.toAdminResponse(any(Ticket.class)))
+                .thenAnswer(inv -> TicketAdminResponse.builder().id(inv.<Ticket>getArgument(0).getId()).build());
+
+        TicketSearchResponse response = searchService.search(criteria("printer"), 1, 2);
+
+        assertThat(response.getItems()).extracting(hit -> hit.getTicket().getId()).containsExactly(first, second);
+        assertThat(response.getItems()).extracting("rank").containsExactly(0.9, 0.4);
+        assertThat(response.isHasNext()).isTrue();
+        assertThat(response.getPage()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should cap the page size")
+    void search_shouldCapPageSize() {
+        when(searchRepository.isSupported()).thenReturn(true);
+        when(searchRepository.search(any(), eq(0), eq(101))).thenReturn(List.of());
+        when(ticketRepository.findWithCreatorByIdIn(anyCollection())).thenReturn(List.of());
+
+        TicketSearchResponse response = searchService.search(criteria("vpn"), 0, 5000);
+
+        assertThat(response.getSize()).isEqualTo(100);
+        assertThat(response.getItems()).isEmpty();
+        assertThat(response.isHasNext()).isFalse();
+    }
+
+    private TicketSearchCriteria criteria(String query) {
+        return TicketSearchCriteria.builder().query(query).build();
+    }
+
+    private Ticket ticket(UUID id) {
+        Ticket ticket = new Ticket();
+        ticket.setId(id);
+        return ticket;
+    }
+}
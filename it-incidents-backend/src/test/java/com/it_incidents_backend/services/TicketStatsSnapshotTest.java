@@ -0,0 +1,101 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.dto.ticket.TicketStatsResponse;
+import com.it_incidents_backend.entities.Category;
+import com.it_incidents_backend.entities.Priority;
+import com.it_incidents_backend.entities.TicketStatus;
+import com.it_incidents_backend.events.TicketStatusChangedEvent;
+import com.it_incidents_backend.repository.TicketRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * tests for the dashboard statistics snapshot
+ *
+ * concerns tested:
+ *   - one grouped query to build every counter
+ *   - reads served from memory once loaded
+ *   - incremental updates on status transitions
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Ticket Stats Snapshot Tests")
+class TicketStatsSnapshotTest {
+
+    @Mock
+    private TicketRepository ticketRepository;
+
+    @InjectMocks
+    private TicketStatsSnapshot snapshot;
+
+    @Test
+    @DisplayName("Should build all counters from one grouped query")
+    void shouldBuildCountersFromGroupedQuery() {
+        when(ticketRepository.countGroupedByStatusPriorityCategory()).thenReturn(List.of(
+                new Object[]{TicketStatus.PENDING, Priority.HIGH, Category.NETWORK, 3L},
+                new Object[]{TicketStatus.PENDING, Priority.LOW, Category.EMAIL, 2L},
+                new Object[]{TicketStatus.CLOSED, Priority.HIGH, Category.SOFTWARE, 5L}
+        ));
+
+        TicketStatsResponse stats = snapshot.current();
+
+        assertThat(stats.getTotalTickets()).isEqualTo(10L);
+        assertThat(stats.getPendingTickets()).isEqualTo(5L);
+        assertThat(stats.getClosedTickets()).isEqualTo(5L);
+        assertThat(stats.getInProgressTickets()).isZero();
+        assertThat(stats.getTicketsByPriority()).containsEntry(Priority.HIGH, 8L).containsEntry(Priority.CRITICAL, 0L);
+        assertThat(stats.getTicketsByCategory()).containsEntry(Category.NETWORK, 3L).containsEntry(Category.EMAIL, 2L);
+        assertThat(stats.getGeneratedAt()).isNotNull();
+
+        // Second read: no query
+        snapshot.current();
+        verify(ticketRepository, times(1)).countGroupedByStatusPriorityCategory();
+    }
+
+    @Test
+    @DisplayName("Should apply status transitions without querying the database")
+    void shouldApplyStatusTransitionsIncrementally() {
+        when(ticketRepository.countGroupedByStatusPriorityCategory()).thenReturn(List.<Object[]>of(
+                new Object[]{TicketStatus.PENDING, Priority.MEDIUM, Category.HARDWARE, 1L}
+        ));
+        snapshot.current();
+
+        // New ticket, then PENDING → IN_PROGRESS
+        snapshot.onTicketStatusChanged(event(null, TicketStatus.PENDING));
+        snapshot.onTicketStatusChanged(event(TicketStatus.PENDING, TicketStatus.IN_PROGRESS));
+
+        TicketStatsResponse stats = snapshot.current();
+
+        assertThat(stats.getTotalTickets()).isEqualTo(2L);
+        assertThat(stats.getPendingTickets()).isEqualTo(1L);
+        assertThat(stats.getInProgressTickets()).isEqualTo(1L);
+        assertThat(stats.getTicketsByPriority()).containsEntry(Priority.MEDIUM, 2L);
+        verify(ticketRepository, times(1)).countGroupedByStatusPriorityCategory();
+    }
+
+    @Test
+    @DisplayName("Should ignore events before the snapshot is loaded")
+    void shouldIgnoreEventsBeforeFirstLoad() {
+        snapshot.onTicketStatusChanged(event(null, TicketStatus.PENDING));
+
+        verifyNoInteractions(ticketRepository);
+    }
+
+    private TicketStatusChangedEvent event(TicketStatus previous, TicketStatus next) {
+        return new TicketStatusChangedEvent(
+                UUID.randomUUID(), "TKT-2026-00001", UUID.randomUUID(),
+                previous, next, Priority.MEDIUM, Category.HARDWARE,
+                "admin", LocalDateTime.now()
+        );
+    }
+}
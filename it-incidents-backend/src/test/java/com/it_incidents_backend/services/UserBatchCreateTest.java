@@ -0,0 +1,272 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.dto.user.UserBatchCreateResponse;
+import com.it_incidents_backend.dto.user.UserBatchError;
+import com.it_incidents_backend.dto.user.UserCreateRequest;
+import com.it_incidents_backend.dto.user.UserImportResponse;
+import com.it_incidents_backend.dto.user.UserUpdateRequest;
+import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.entities.User;
+import com.it_incidents_backend.exceptions.AppException;
+import com.it_incidents_backend.mapper.CommentMapperImpl;
+import com.it_incidents_backend.mapper.TicketMapperImpl;
+import com.it_incidents_backend.mapper.UserMapperImpl;
+import com.it_incidents_backend.repository.UserRepository;
+import com.it_incidents_backend.security.LoginIdentityFilter;
+import com.it_incidents_backend.services.users.LoginConflicts;
+import com.it_incidents_backend.services.users.UserProvisioningService;
+import com.it_incidents_backend.services.users.UserServicesImp;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.data.jpa.test.autoconfigure.DataJpaTest;
+import org.springframework.boot.jpa.test.autoconfigure.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+/**
+ * tests for username/email uniqueness in one query and batch user creation
+ *
+ * concerns tested:
+ *   - one uniqueness query for a whole batch, whatever its size
+ *   - taken logins, duplicates inside the batch and weak passwords reported per row
+ *   - values longer than their column reported per row, the rest of the batch still created
+ *   - update changing only the email checks only the email
+ *   - admin rename adds the new login to the login filter, unchanged logins add nothing
+ *   - unique-constraint violation at flush mapped to the same message
+ *   - streamed import: one uniqueness query per chunk, duplicates across chunks caught, errors capped
+ */
+// login filter disabled: its startup build would run its own queries in the background
+@DataJpaTest(properties = {
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "security.login-filter.enabled=false",
+        "users.import.chunk-size=100",
+        "users.import.max-reported-errors=3"
+})
+@Import({UserServicesImp.class, UserProvisioningService.class, LoginIdentityFilter.class, UserMapperImpl.class, TicketMapperImpl.class,
+        CommentMapperImpl.class, UserBatchCreateTest.Config.class})
+@DisplayName("User provisioning - Batched uniqueness checks")
+class UserBatchCreateTest {
+
+    private static final String STRONG_PASSWORD = "StrongPass1!";
+
+    @TestConfiguration
+    static class Config {
+        @Bean
+        PasswordEncoder passwordEncoder() {
+            return new BCryptPasswordEncoder(4);
+        }
+
+        @Bean
+        JsonMapper jsonMapper() {
+            return JsonMapper.builder().build();
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private UserServicesImp userServices;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @MockitoSpyBean
+    private LoginIdentityFilter loginIdentityFilter;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManager.persist(User.builder()
+                .username("existing")
+                .email("existing@example.com")
+                .password("hash")
+                .firstName("Existing")
+                .lastName("Test")
+                .role(Role.USER)
+                .build());
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("batch should create valid rows and report the others, with one uniqueness query")
+    void createUsers_shouldReportInvalidRows() {
+        List<UserCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            requests.add(request("user" + i, "user" + i + "@example.com", STRONG_PASSWORD));
+        }
+        requests.add(request("existing", "new@example.com", STRONG_PASSWORD));      // 20: username taken
+        requests.add(request("newuser", "existing@example.com", STRONG_PASSWORD));  // 21: email taken
+        requests.add(request("user0", "again@example.com", STRONG_PASSWORD));       // 22: duplicate in batch
+        requests.add(request("weak", "weak@example.com", "weak"));                   // 23: weak password
+
+        UserBatchCreateResponse response = userServices.createUsers(requests);
+
+        assertThat(response.requested()).isEqualTo(24);
+        assertThat(response.created()).hasSize(20);
+        assertThat(response.errors()).extracting(UserBatchError::index).containsExactly(20, 21, 22, 23);
+        assertThat(response.errors()).extracting(UserBatchError::message).containsExactly(
+                "Username already taken",
+                "Email already in use",
+                "Username appears more than once in the batch",
+                response.errors().get(3).message());
+        assertThat(response.errors().get(3).message()).startsWith("Password must be at least");
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+        assertThat(userRepository.count()).isEqualTo(21);
+    }
+
+    @Test
+    @DisplayName("batch should reject the rows longer than their columns, not the whole batch")
+    void createUsers_tooLongValues_shouldBeReportedPerRow() {
+        List<UserCreateRequest> requests = List.of(
+                request("valid", "valid@example.com", STRONG_PASSWORD),
+                request("u".repeat(101), "long-name@example.com", STRONG_PASSWORD),
+                request("longmail", "m".repeat(140) + "@example.com", STRONG_PASSWORD),
+                new UserCreateRequest("longphone", "longphone@example.com", STRONG_PASSWORD,
+                        "First", "Last", "0".repeat(21), Role.USER, true));
+
+        UserBatchCreateResponse response = userServices.createUsers(requests);
+
+        assertThat(response.created()).hasSize(1);
+        assertThat(response.errors()).extracting(UserBatchError::index).containsExactly(1, 2, 3);
+        assertThat(response.errors()).extracting(UserBatchError::message).containsExactly(
+                "Username must be at most 100 characters",
+                "Email must be at most 150 characters",
+                "Phone number must be at most 20 characters");
+        assertThat(userRepository.findByEmail("valid@example.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("batch larger than the configured maximum should be rejected")
+    void createUsers_tooLarge_shouldFail() {
+        List<UserCreateRequest> requests = new ArrayList<>();
+        for (int i = 0; i <= 500; i++) {
+            requests.add(request("user" + i, "user" + i + "@example.com", STRONG_PASSWORD));
+        }
+
+        assertThatThrownBy(() -> userServices.createUsers(requests))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("At most 500 users per batch");
+    }
+
+    @Test
+    @DisplayName("update changing only the email should check only the email")
+    void updateEmailOnly_shouldCheckEmail() {
+        UserUpdateRequest taken = new UserUpdateRequest(null, "existing@example.com",
+                null, null, null, null, null, null, null, null, null, null);
+        UUID otherId = userServices.createUser(request("other", "other@example.com", STRONG_PASSWORD)).id();
+
+        assertThatThrownBy(() -> userServices.updateUserByAdmin(otherId, taken))
+                .isInstanceOf(AppException.class)
+                .hasMessage("Email already in use");
+
+        UserUpdateRequest free = new UserUpdateRequest(null, "renamed@example.com",
+                null, null, null, null, null, null, null, null, null, null);
+        userServices.updateUserByAdmin(otherId, free);
+        assertThat(userRepository.findByEmail("renamed@example.com")).isPresent();
+    }
+
+    @Test
+    @DisplayName("admin rename should register the new login in the login filter")
+    void updateUsername_shouldRegisterNewLogin() {
+        UUID otherId = userServices.createUser(request("other", "other@example.com", STRONG_PASSWORD)).id();
+
+        UserUpdateRequest sameLogins = new UserUpdateRequest(null, null,
+                "Renamed", null, null, null, null, null, null, null, null, null);
+        userServices.updateUserByAdmin(otherId, sameLogins);
+        verify(loginIdentityFilter, never()).markStale();
+
+        UserUpdateRequest rename = new UserUpdateRequest("other-renamed", null,
+                null, null, null, null, null, null, null, null, null, null);
+        userServices.updateUserByAdmin(otherId, rename);
+        verify(loginIdentityFilter).register("other-renamed", "other@example.com");
+        verify(loginIdentityFilter).markStale();
+    }
+
+    @Test
+    @DisplayName("duplicate caught by the unique constraint should get the same message")
+    void uniqueViolation_shouldBeTranslated() {
+        User duplicate = User.builder()
+                .username("existing")
+                .email("fresh@example.com")
+                .password("hash")
+                .firstName("Dup")
+                .lastName("Test")
+                .role(Role.USER)
+                .build();
+
+        assertThatThrownBy(() -> LoginConflicts.saveAndFlush(userRepository, duplicate,
+                "Username already taken", "Email already in use"))
+                .isInstanceOf(AppException.class)
+                .hasMessage("Username already taken");
+    }
+
+    @Test
+    @DisplayName("import should create the file chunk by chunk and report rejected rows")
+    void importUsers_shouldStreamChunks() {
+        StringBuilder csv = new StringBuilder("username,email,password,firstName,lastName,phoneNumber,role\n");
+        for (int i = 0; i < 250; i++) {
+            // row 150 reuses the username of row 10 (previous chunk), row 200 has a weak password
+            String username = i == 150 ? "imported10" : "imported" + i;
+            String password = i == 200 ? "weak" : STRONG_PASSWORD;
+            csv.append(username).append(',').append("imported").append(i).append("@example.com,")
+                    .append(password).append(",First,Last,0600000000,USER\n");
+        }
+        csv.append("existing,dup@example.com,StrongPass1!,First,Last,0600000000,USER\n");
+        csv.append("norole,norole@example.com,StrongPass1!,First,Last,0600000000,\n");
+
+        UserImportResponse response = userServices.importUsers(
+                new ByteArrayInputStream(csv.toString().getBytes(StandardCharsets.UTF_8)), "text/csv");
+
+        assertThat(response.processed()).isEqualTo(252);
+        assertThat(response.created()).isEqualTo(248);
+        assertThat(response.failed()).isEqualTo(4);
+        assertThat(response.errors()).extracting(UserBatchError::index).containsExactly(150, 200, 250);
+        assertThat(response.errors().get(0).message()).isEqualTo("Username already taken");
+        assertThat(response.errorsTruncated()).isTrue();
+        // one uniqueness query per chunk of 100 rows
+        assertThat(statistics.getQueryExecutionCount()).isEqualTo(3);
+        assertThat(userRepository.count()).isEqualTo(249);
+    }
+
+    @Test
+    @DisplayName("import with an unsupported content type should be refused")
+    void importUsers_unsupportedFormat_shouldFail() {
+        assertThatThrownBy(() -> userServices.importUsers(new ByteArrayInputStream(new byte[0]), "application/xml"))
+                .isInstanceOf(AppException.class)
+                .hasMessageContaining("text/csv or application/x-ndjson");
+    }
+
+    private static UserCreateRequest request(String username, String email, String password) {
+        return new UserCreateRequest(username, email, password, "First", "Last", "0600000000", Role.USER, true);
+    }
+}
@@ -0,0 +1,92 @@
+package com.it_incidents_backend.services;
+
+import com.it_incidents_backend.entities.Role;
+import com.it_incidents_backend.services.users.UserImportReader;
+import com.it_incidents_backend.services.users.UserImportReader.Row;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * tests for the streaming import file reader
+ *
+ * concerns tested:
+ *   - CSV columns matched by header name, quoted fields (commas, quotes, line breaks)
+ *   - malformed rows reported with their index, reading goes on
+ *   - oversized rows skipped without being kept in memory
+ *   - NDJSON lines mapped to UserCreateRequest, blank lines ignored
+ */
+@DisplayName("User import reader - CSV / NDJSON")
+class UserImportReaderTest {
+
+    @Test
+    @DisplayName("CSV rows should be mapped by header name, with RFC 4180 quoting")
+    void csv_shouldParseQuotedFields() {
+        String csv = """
+                email,username,password,firstName,lastName,phoneNumber,role,isApproved
+                alice@example.com,alice,"Pa,ss""1!",Alice,"Multi
+                Line",0600000000,user,true
+
+                bob@example.com,bob,StrongPass1!,Bob,Smith,0611111111,ADMIN,
+                """;
+
+        List<Row> rows = readAll(UserImportReader.csv(new StringReader(csv), 1000));
+
+        assertThat(rows).hasSize(2);
+        assertThat(rows.get(0).request().username()).isEqualTo("alice");
+        assertThat(rows.get(0).request().password()).isEqualTo("Pa,ss\"1!");
+        assertThat(rows.get(0).request().lastName()).isEqualTo("Multi\nLine");
+        assertThat(rows.get(0).request().role()).isEqualTo(Role.USER);
+        assertThat(rows.get(1).index()).isEqualTo(1);
+        assertThat(rows.get(1).request().role()).isEqualTo(Role.ADMIN);
+        assertThat(rows.get(1).request().isApproved()).isNull();
+    }
+
+    @Test
+    @DisplayName("Bad and oversized CSV rows should be reported and skipped")
+    void csv_shouldReportBadRows() {
+        String csv = "username,email,password,role\n"
+                + "carol,carol@example.com,StrongPass1!,SUPERUSER\n"
+                + "dave," + "x".repeat(500) + ",StrongPass1!,USER\n"
+                + "erin,erin@example.com,StrongPass1!,USER\n";
+
+        List<Row> rows = readAll(UserImportReader.csv(new StringReader(csv), 100));
+
+        assertThat(rows).extracting(Row::index).containsExactly(0, 1, 2);
+        assertThat(rows.get(0).error()).isEqualTo("Unknown role: SUPERUSER");
+        assertThat(rows.get(1).error()).isEqualTo("Row longer than 100 characters");
+        assertThat(rows.get(2).error()).isNull();
+        assertThat(rows.get(2).request().username()).isEqualTo("erin");
+    }
+
+    @Test
+    @DisplayName("NDJSON lines should be parsed one by one, invalid JSON reported")
+    void ndjson_shouldParseLines() {
+        String ndjson = """
+                {"username":"frank","email":"frank@example.com","password":"StrongPass1!","role":"USER"}
+
+                {"username":"broken",
+                {"username":"grace","email":"grace@example.com","password":"StrongPass1!","role":"ADMIN"}
+                """;
+
+        List<Row> rows = readAll(UserImportReader.ndjson(new StringReader(ndjson), JsonMapper.builder().build(), 1000));
+
+        assertThat(rows).hasSize(3);
+        assertThat(rows.get(0).request().email()).isEqualTo("frank@example.com");
+        assertThat(rows.get(1).error()).startsWith("Invalid JSON");
+        assertThat(rows.get(2).index()).isEqualTo(2);
+        assertThat(rows.get(2).request().role()).isEqualTo(Role.ADMIN);
+    }
+
+    private static List<Row> readAll(UserImportReader reader) {
+        List<Row> rows = new ArrayList<>();
+        reader.forEachRemaining(rows::add);
+        return rows;
+    }
+}
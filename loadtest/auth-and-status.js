@@ -0,0 +1,51 @@
+// k6 load test: login (BCrypt + JDBC) and the authenticated calls every open tab makes
+//   k6 run -e BASE_URL=http://localhost:8080 -e VUS=500 -e DURATION=2m auth-and-status.js
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+const USERNAME = __ENV.USERNAME || 'jean';
+const PASSWORD = __ENV.PASSWORD || 'Jean@2024Pass!';
+const LOGIN_RATIO = Number(__ENV.LOGIN_RATIO || 0.1); // Share of iterations that log in again
+
+export const options = {
+  scenarios: {
+    high_concurrency: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.VUS || 500),
+      duration: __ENV.DURATION || '2m',
+    },
+  },
+  summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+};
+
+const JSON_HEADERS = { 'Content-Type': 'application/json' };
+
+function login() {
+  const res = http.post(`${BASE_URL}/api/auth/login`,
+    JSON.stringify({ usernameOrEmail: USERNAME, password: PASSWORD }),
+    { headers: JSON_HEADERS, tags: { name: 'login' } });
+  check(res, { 'login 200': (r) => r.status === 200 });
+  return res.status === 200 ? res.json('token') : null;
+}
+
+export function setup() {
+  const token = login();
+  if (!token) throw new Error(`Login failed for ${USERNAME}: is the database seeded?`);
+  return { token };
+}
+
+export default function (data) {
+  let token = data.token;
+  if (Math.random() < LOGIN_RATIO) {
+    token = login() || token;
+  }
+
+  const auth = { headers: { Authorization: `Bearer ${token}` } };
+
+  const status = http.get(`${BASE_URL}/api/users/me/status`, { ...auth, tags: { name: 'me_status' } });
+  check(status, { 'status 200': (r) => r.status === 200 });
+
+  const page = http.get(`${BASE_URL}/api/tickets/page?size=20`, { ...auth, tags: { name: 'tickets_page' } });
+  check(page, { 'tickets 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,50 @@
+#!/usr/bin/env bash
+# Run the same k6 load test against the backend in platform-thread and virtual-thread mode,
+# then print throughput and p99 side by side. Results: loadtest/results/<mode>.json
+#
+# Requirements: docker compose, k6 (or docker: K6="docker run --rm -i --network host grafana/k6")
+# Usage: VUS=1000 DURATION=3m ./loadtest/compare-execution-modes.sh
+set -euo pipefail
+
+cd "$(dirname "$0")/.."
+
+VUS="${VUS:-500}"
+DURATION="${DURATION:-2m}"
+BASE_URL="${BASE_URL:-http://localhost:8080}"
+K6="${K6:-k6}"
+RESULTS=loadtest/results
+
+wait_for_backend() {
+  for _ in $(seq 1 90); do
+    if curl -fs "$BASE_URL/actuator/health" > /dev/null; then return 0; fi
+    sleep 2
+  done
+  echo "Backend did not become healthy" >&2
+  exit 1
+}
+
+run_mode() {
+  local mode="$1" profile="$2"
+  echo "=== $mode (SPRING_PROFILES_ACTIVE='$profile', JAVA_VERSION=21) ==="
+  JAVA_VERSION=21 SPRING_PROFILES_ACTIVE="$profile" docker compose up -d --build --force-recreate postgres backend
+  wait_for_backend
+  docker compose logs backend | grep -E "Request execution|Connection pool" | tail -2 || true
+
+  $K6 run -e BASE_URL="$BASE_URL" -e VUS="$VUS" -e DURATION="$DURATION" \
+    --summary-export "$RESULTS/$mode.json" - < loadtest/auth-and-status.js
+}
+
+mkdir -p "$RESULTS"
+run_mode platform ""
+run_mode virtual-threads "virtual-threads"
+
+echo
+printf "%-16s %12s %10s %10s %10s\n" "mode" "req/s" "p95 (ms)" "p99 (ms)" "failed"
+for mode in platform virtual-threads; do
+  jq -r --arg mode "$mode" '[ $mode,
+      (.metrics.http_reqs.rate | floor),
+      (.metrics.http_req_duration["p(95)"] | floor),
+      (.metrics.http_req_duration["p(99)"] | floor),
+      ((.metrics.http_req_failed.value // .metrics.http_req_failed.rate) * 100 | tostring + "%") ]
+    | @tsv' "$RESULTS/$mode.json" | awk -F'\t' '{ printf "%-16s %12s %10s %10s %10s\n", $1, $2, $3, $4, $5 }'
+done